@@ -0,0 +1,25 @@
+package com.pg17xbootj21.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pg17xbootj21.service.HttpOutboxSink;
+import com.pg17xbootj21.service.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink outboxSink(@Value("${outbox.sink.url}") String url, ObjectMapper objectMapper,
+                                 @Value("${outbox.sink.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                 @Value("${outbox.sink.read-timeout-ms:5000}") long readTimeoutMs) {
+        return new HttpOutboxSink(url, objectMapper, Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs));
+    }
+}
@@ -0,0 +1,356 @@
+package com.pg17xbootj21.controller;
+
+import com.pg17xbootj21.dto.AccessAsOfResponse;
+import com.pg17xbootj21.dto.AccessChangeResponse;
+import com.pg17xbootj21.dto.AccessChangesResponse;
+import com.pg17xbootj21.dto.AccessCheckRequest;
+import com.pg17xbootj21.dto.AccessCheckResponse;
+import com.pg17xbootj21.dto.BatchAccessCheckRequest;
+import com.pg17xbootj21.dto.ErrorResponse;
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.repository.AccessRepository.AccessChangeRow;
+import com.pg17xbootj21.service.AccessAuditService;
+import com.pg17xbootj21.service.AccessChangeService;
+import com.pg17xbootj21.service.AccessChangeService.AccessChangeBatch;
+import com.pg17xbootj21.service.AccessCheckService;
+import com.pg17xbootj21.service.AccessCheckService.Check;
+import com.pg17xbootj21.service.AccessEventStream;
+import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.SessionService;
+import com.pg17xbootj21.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/accesses")
+@Tag(name = "Acessos", description = "Endpoints para consulta de acessos ativos por sistemas internos")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AccessController {
+
+    private final AccessCheckService accessCheckService;
+    private final AccessEventStream accessEventStream;
+    private final AccessChangeService accessChangeService;
+    private final AccessAuditService accessAuditService;
+    private final AuthService authService;
+    private final SessionService sessionService;
+    private final UserService userService;
+
+    public AccessController(AccessCheckService accessCheckService, AccessEventStream accessEventStream,
+                            AccessChangeService accessChangeService, AccessAuditService accessAuditService,
+                            AuthService authService, SessionService sessionService, UserService userService) {
+        this.accessCheckService = accessCheckService;
+        this.accessEventStream = accessEventStream;
+        this.accessChangeService = accessChangeService;
+        this.accessAuditService = accessAuditService;
+        this.authService = authService;
+        this.sessionService = sessionService;
+        this.userService = userService;
+    }
+
+    @Operation(summary = "Verificar acesso", description = "Indica se o usuário possui acesso ativo ao módulo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Verificação realizada com sucesso",
+                content = @Content(schema = @Schema(implementation = AccessCheckResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/check")
+    public ResponseEntity<?> checkAccess(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestParam(value = "userId", required = false) String userId,
+            @RequestParam(value = "moduleId", required = false) String moduleId) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        if (userId == null || userId.isBlank() || moduleId == null || moduleId.isBlank()) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "User id and module id are required",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        try {
+            boolean allowed = accessCheckService.hasActiveAccess(userId, moduleId);
+            return ResponseEntity.ok(new AccessCheckResponse(userId, moduleId, allowed));
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse(
+                "Internal Server Error",
+                e.getMessage(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    @Operation(summary = "Verificar acessos em lote", description = "Verifica até 1000 pares de usuário e módulo em uma única chamada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Verificações realizadas com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/check")
+    public ResponseEntity<?> checkAccesses(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @Valid @RequestBody BatchAccessCheckRequest request) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            List<AccessCheckRequest> checks = request.getChecks();
+            List<Boolean> allowed = accessCheckService.hasActiveAccess(checks.stream()
+                    .map(check -> new Check(check.getUserId(), check.getModuleId()))
+                    .collect(Collectors.toList()));
+
+            List<AccessCheckResponse> responses = new ArrayList<>(checks.size());
+            for (int i = 0; i < checks.size(); i++) {
+                AccessCheckRequest check = checks.get(i);
+                responses.add(new AccessCheckResponse(check.getUserId(), check.getModuleId(), allowed.get(i)));
+            }
+            return ResponseEntity.ok(responses);
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse(
+                "Internal Server Error",
+                e.getMessage(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    @Operation(summary = "Acompanhar alterações de acesso", description = "Transmite via SSE os eventos ACCESS_GRANTED, ACCESS_REVOKED e ACCESS_EXPIRED; reconexões com Last-Event-ID retomam a partir do último evento recebido (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Fluxo de eventos iniciado"),
+        @ApiResponse(responseCode = "400", description = "Usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/stream")
+    public ResponseEntity<SseEmitter> streamAccessEvents(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired token");
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found");
+        }
+
+        try {
+            userService.requireTiAdministrator(userId, "stream access events");
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        return ResponseEntity.ok(accessEventStream.subscribe(lastEventId));
+    }
+
+    @Operation(summary = "Listar alterações de acesso", description = "Retorna em lotes os acessos alterados após a marca d'água informada e a nova marca d'água para a próxima chamada (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso",
+                content = @Content(schema = @Schema(implementation = AccessChangesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<?> getAccessChanges(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "limit", defaultValue = "500") int limit) {
+
+        if (limit < 1 || limit > 1000) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Limit must be between 1 and 1000",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            AccessChangeBatch batch = accessChangeService.findChanges(userId, since, limit);
+            List<AccessChangeResponse> changes = batch.changes().stream()
+                    .map(this::toChangeResponse)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(new AccessChangesResponse(changes, batch.watermark(), batch.hasMore()));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @Operation(summary = "Consultar acessos em uma data", description = "Lista os acessos vigentes no instante informado para um usuário ou para um módulo (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Acessos retornados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/as-of")
+    public ResponseEntity<?> getAccessesAsOf(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestParam(value = "at", required = false) String at,
+            @RequestParam(value = "userId", required = false) String userId,
+            @RequestParam(value = "moduleId", required = false) String moduleId) {
+
+        Instant instant = parseInstant(at);
+        if (instant == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Invalid at format. Expected ISO-8601 instant, e.g. 2026-01-15T10:00:00Z",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String callerId = authService.getUserIdByToken(token);
+        if (callerId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            List<Access> accesses = accessAuditService.findHeldAt(callerId,
+                    userId == null || userId.isBlank() ? null : userId,
+                    moduleId == null || moduleId.isBlank() ? null : moduleId,
+                    instant);
+            return ResponseEntity.ok(accesses.stream()
+                    .map(this::toAsOfResponse)
+                    .collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    private AccessAsOfResponse toAsOfResponse(Access access) {
+        Instant validUntil = access.getEndedAt() != null && access.getEndedAt().isBefore(access.getExpiresAt())
+                ? access.getEndedAt()
+                : access.getExpiresAt();
+        AccessAsOfResponse response = new AccessAsOfResponse();
+        response.setUserId(access.getUserId());
+        response.setModuleId(access.getModuleId());
+        response.setRequestProtocol(access.getRequestProtocol());
+        response.setStatus(access.getStatus());
+        response.setGrantedAt(access.getGrantedAt().toString());
+        response.setValidUntil(validUntil.toString());
+        return response;
+    }
+
+    private Instant parseInstant(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private AccessChangeResponse toChangeResponse(AccessChangeRow row) {
+        AccessChangeResponse response = new AccessChangeResponse();
+        response.setId(row.getId());
+        response.setUserId(row.getUserId());
+        response.setModuleId(row.getModuleId());
+        response.setStatus(row.getStatus());
+        response.setRequestProtocol(row.getRequestProtocol());
+        response.setExpiresAt(row.getExpiresAt() != null ? row.getExpiresAt().toString() : null);
+        return response;
+    }
+
+    private String extractToken(String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring(7);
+        }
+        return null;
+    }
+}
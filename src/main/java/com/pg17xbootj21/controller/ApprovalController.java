@@ -0,0 +1,217 @@
+package com.pg17xbootj21.controller;
+
+import com.pg17xbootj21.dto.ApprovalClaimResponse;
+import com.pg17xbootj21.dto.ApprovalDecisionRequest;
+import com.pg17xbootj21.dto.ApprovalDecisionResponse;
+import com.pg17xbootj21.dto.ErrorResponse;
+import com.pg17xbootj21.dto.PendingRequestResponse;
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.RequestApprovalService;
+import com.pg17xbootj21.service.RequestApprovalService.ClaimedBatch;
+import com.pg17xbootj21.service.RequestApprovalService.Decision;
+import com.pg17xbootj21.service.SessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/approvals")
+@Tag(name = "Aprovações", description = "Fila compartilhada de solicitações pendentes de aprovação")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ApprovalController {
+
+    private final RequestApprovalService requestApprovalService;
+    private final AuthService authService;
+    private final SessionService sessionService;
+
+    public ApprovalController(RequestApprovalService requestApprovalService, AuthService authService,
+                              SessionService sessionService) {
+        this.requestApprovalService = requestApprovalService;
+        this.authService = authService;
+        this.sessionService = sessionService;
+    }
+
+    @Operation(summary = "Reivindicar solicitações pendentes", description = "Reserva para o aprovador um lote de solicitações pendentes, urgentes primeiro, sem disputa com outros aprovadores (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote reservado com sucesso",
+                content = @Content(schema = @Schema(implementation = ApprovalClaimResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Tamanho inválido ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/claim")
+    public ResponseEntity<?> claim(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        if (size < 1 || size > 100) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Batch size must be between 1 and 100",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            ClaimedBatch batch = requestApprovalService.claim(userId, size);
+            List<PendingRequestResponse> requests = batch.requests().stream()
+                    .map(this::toPendingResponse)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(new ApprovalClaimResponse(requests, batch.claimedUntil().toString()));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @Operation(summary = "Aprovar solicitações", description = "Aprova em lote solicitações reservadas pelo aprovador e concede os acessos (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Solicitações aprovadas; protocolos não reservados pelo aprovador são ignorados",
+                content = @Content(schema = @Schema(implementation = ApprovalDecisionResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/approve")
+    public ResponseEntity<?> approve(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @Valid @RequestBody ApprovalDecisionRequest request) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            Decision decision = requestApprovalService.approve(userId, request.getProtocols());
+            return ResponseEntity.ok(new ApprovalDecisionResponse(decision.decided(), decision.skipped()));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @Operation(summary = "Negar solicitações", description = "Nega em lote, com um motivo, solicitações reservadas pelo aprovador (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Solicitações negadas; protocolos não reservados pelo aprovador são ignorados",
+                content = @Content(schema = @Schema(implementation = ApprovalDecisionResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/deny")
+    public ResponseEntity<?> deny(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @Valid @RequestBody ApprovalDecisionRequest request) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            Decision decision = requestApprovalService.deny(userId, request.getProtocols(), request.getReason());
+            return ResponseEntity.ok(new ApprovalDecisionResponse(decision.decided(), decision.skipped()));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    private PendingRequestResponse toPendingResponse(Request request) {
+        PendingRequestResponse response = new PendingRequestResponse();
+        response.setProtocol(request.getProtocol());
+        response.setUserId(request.getUserId());
+        response.setUserDepartment(request.getUserDepartment());
+        response.setModules(List.copyOf(request.getModules()));
+        response.setJustification(request.getJustification());
+        response.setUrgent(request.isUrgent());
+        response.setCreatedAt(request.getCreatedAt().toString());
+        return response;
+    }
+
+    private String extractToken(String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring(7);
+        }
+        return null;
+    }
+}
@@ -1,8 +1,17 @@
 package com.pg17xbootj21.controller;
 
 import com.pg17xbootj21.dto.ErrorResponse;
+import com.pg17xbootj21.dto.ModuleDeactivationResponse;
+import com.pg17xbootj21.dto.ModuleHolderResponse;
 import com.pg17xbootj21.dto.ModuleResponse;
+import com.pg17xbootj21.dto.PagedResponse;
 import com.pg17xbootj21.model.Module;
+import com.pg17xbootj21.model.ModuleDeactivation;
+import com.pg17xbootj21.repository.AccessRepository.ModuleHolderRow;
+import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.ModuleDeactivationService;
+import com.pg17xbootj21.service.ModuleHolderService;
+import com.pg17xbootj21.service.ModuleHolderService.HolderPage;
 import com.pg17xbootj21.service.ModuleService;
 import com.pg17xbootj21.service.SessionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,10 +35,18 @@ import java.util.stream.Collectors;
 public class ModuleController {
 
     private final ModuleService moduleService;
+    private final ModuleHolderService moduleHolderService;
+    private final ModuleDeactivationService moduleDeactivationService;
+    private final AuthService authService;
     private final SessionService sessionService;
 
-    public ModuleController(ModuleService moduleService, SessionService sessionService) {
+    public ModuleController(ModuleService moduleService, ModuleHolderService moduleHolderService,
+                            ModuleDeactivationService moduleDeactivationService,
+                            AuthService authService, SessionService sessionService) {
         this.moduleService = moduleService;
+        this.moduleHolderService = moduleHolderService;
+        this.moduleDeactivationService = moduleDeactivationService;
+        this.authService = authService;
         this.sessionService = sessionService;
     }
 
@@ -68,12 +85,189 @@ public class ModuleController {
         }
     }
 
+    @Operation(summary = "Listar titulares do módulo", description = "Retorna, paginados por cursor, os usuários com acesso ativo ao módulo e o total de titulares (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Titulares retornados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{moduleId}/holders")
+    public ResponseEntity<?> listHolders(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable String moduleId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+
+        if (size < 1 || size > 500) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Page size must be between 1 and 500",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            HolderPage page = moduleHolderService.findHolders(userId, moduleId, cursor, size);
+            List<ModuleHolderResponse> holders = page.holders().stream()
+                    .map(this::toHolderResponse)
+                    .collect(Collectors.toList());
+            PagedResponse<ModuleHolderResponse> response = new PagedResponse<>(holders, size, page.nextCursor());
+            response.setTotalElements(page.holderCount());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @Operation(summary = "Desativar módulo", description = "Desativa o módulo e revoga seus acessos ativos em lotes, em background (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Desativação iniciada",
+                content = @Content(schema = @Schema(implementation = ModuleDeactivationResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Módulo inexistente ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{moduleId}/deactivation")
+    public ResponseEntity<?> deactivateModule(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable String moduleId) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            ModuleDeactivation deactivation = moduleDeactivationService.deactivate(userId, moduleId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(toDeactivationResponse(deactivation));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @Operation(summary = "Acompanhar desativação do módulo", description = "Retorna o andamento da desativação mais recente do módulo (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Andamento retornado com sucesso",
+                content = @Content(schema = @Schema(implementation = ModuleDeactivationResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Desativação inexistente ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{moduleId}/deactivation")
+    public ResponseEntity<?> getDeactivationProgress(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable String moduleId) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            return ResponseEntity.ok(toDeactivationResponse(moduleDeactivationService.getProgress(userId, moduleId)));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    private ModuleDeactivationResponse toDeactivationResponse(ModuleDeactivation deactivation) {
+        ModuleDeactivationResponse response = new ModuleDeactivationResponse();
+        response.setModuleId(deactivation.getModuleId());
+        response.setStatus(deactivation.getStatus());
+        response.setRequestedBy(deactivation.getRequestedBy());
+        response.setTotalCount(deactivation.getTotalCount());
+        response.setRevokedCount(deactivation.getRevokedCount());
+        response.setStartedAt(deactivation.getStartedAt().toString());
+        response.setFinishedAt(deactivation.getFinishedAt() != null ? deactivation.getFinishedAt().toString() : null);
+        return response;
+    }
+
+    private ModuleHolderResponse toHolderResponse(ModuleHolderRow row) {
+        ModuleHolderResponse response = new ModuleHolderResponse();
+        response.setUserId(row.getUserId());
+        response.setRequestProtocol(row.getRequestProtocol());
+        response.setGrantedAt(row.getGrantedAt().toString());
+        response.setExpiresAt(row.getExpiresAt().toString());
+        return response;
+    }
+
     private ModuleResponse toResponse(Module module) {
         ModuleResponse response = new ModuleResponse();
         response.setName(module.getName());
         response.setDescription(module.getDescription());
         response.setAllowedDepartments(module.getAllowedDepartments());
         response.setActive(module.isActive());
+        response.setRequiresApproval(module.isRequiresApproval());
         response.setIncompatibleModules(module.getIncompatibleModules());
         return response;
     }
@@ -0,0 +1,354 @@
+package com.pg17xbootj21.controller;
+
+import com.pg17xbootj21.dto.CloseRecertificationRequest;
+import com.pg17xbootj21.dto.CreateRecertificationRequest;
+import com.pg17xbootj21.dto.ErrorResponse;
+import com.pg17xbootj21.dto.PagedResponse;
+import com.pg17xbootj21.dto.RecertificationCampaignResponse;
+import com.pg17xbootj21.dto.RecertificationDecisionRequest;
+import com.pg17xbootj21.dto.RecertificationDecisionResponse;
+import com.pg17xbootj21.dto.RecertificationItemResponse;
+import com.pg17xbootj21.dto.RecertificationPartitionResponse;
+import com.pg17xbootj21.model.RecertificationCampaign;
+import com.pg17xbootj21.repository.RecertificationCampaignRepository.PartitionSummaryRow;
+import com.pg17xbootj21.repository.RecertificationCampaignRepository.RecertificationItemRow;
+import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.RecertificationService;
+import com.pg17xbootj21.service.RecertificationService.CampaignView;
+import com.pg17xbootj21.service.RecertificationService.ItemPage;
+import com.pg17xbootj21.service.SessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/recertifications")
+@Tag(name = "Recertificação", description = "Endpoints para campanhas de revisão periódica de acessos ativos")
+@SecurityRequirement(name = "Bearer Authentication")
+public class RecertificationController {
+
+    private final RecertificationService recertificationService;
+    private final AuthService authService;
+    private final SessionService sessionService;
+
+    public RecertificationController(RecertificationService recertificationService, AuthService authService,
+                                     SessionService sessionService) {
+        this.recertificationService = recertificationService;
+        this.authService = authService;
+        this.sessionService = sessionService;
+    }
+
+    @Operation(summary = "Criar campanha", description = "Registra um instantâneo dos acessos ativos particionado por departamento ou módulo (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Campanha criada com sucesso",
+                content = @Content(schema = @Schema(implementation = RecertificationCampaignResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping
+    public ResponseEntity<?> createCampaign(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @Valid @RequestBody CreateRecertificationRequest request) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            RecertificationCampaign campaign = recertificationService.createCampaign(userId, request.getName(), request.getPartitionBy());
+            return ResponseEntity.status(HttpStatus.CREATED).body(toCampaignResponse(campaign, Collections.emptyList()));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @Operation(summary = "Consultar campanha", description = "Retorna a campanha com o total de itens mantidos, revogados e pendentes por partição (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Campanha retornada com sucesso",
+                content = @Content(schema = @Schema(implementation = RecertificationCampaignResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Campanha inexistente ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{campaignId}")
+    public ResponseEntity<?> getCampaign(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable Long campaignId) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            CampaignView view = recertificationService.getCampaign(userId, campaignId);
+            return ResponseEntity.ok(toCampaignResponse(view.campaign(), view.partitions()));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @Operation(summary = "Listar itens da campanha", description = "Retorna os itens da campanha, opcionalmente de uma única partição, paginados por cursor (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Itens retornados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{campaignId}/items")
+    public ResponseEntity<?> listItems(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable Long campaignId,
+            @RequestParam(value = "partition", required = false) String partition,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+
+        if (size < 1 || size > 500) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Page size must be between 1 and 500",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            ItemPage page = recertificationService.findItems(userId, campaignId, partition, cursor, size);
+            List<RecertificationItemResponse> items = page.items().stream()
+                    .map(this::toItemResponse)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(new PagedResponse<>(items, size, page.nextCursor()));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @Operation(summary = "Registrar decisões", description = "Aplica MANTER ou REVOGAR a uma partição inteira ou a uma lista de até 10000 acessos (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Decisões registradas com sucesso",
+                content = @Content(schema = @Schema(implementation = RecertificationDecisionResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos, campanha encerrada ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{campaignId}/decisions")
+    public ResponseEntity<?> decide(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable Long campaignId,
+            @Valid @RequestBody RecertificationDecisionRequest request) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            int updated = recertificationService.decide(userId, campaignId, request.getDecision(),
+                    request.getPartition(), request.getAccessIds());
+            RecertificationDecisionResponse response = new RecertificationDecisionResponse();
+            response.setUpdated(updated);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @Operation(summary = "Encerrar campanha", description = "Encerra a campanha e revoga em background, em lotes, os acessos marcados como REVOGAR (apenas TI)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Encerramento iniciado",
+                content = @Content(schema = @Schema(implementation = RecertificationCampaignResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Campanha inexistente, já encerrada ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{campaignId}/close")
+    public ResponseEntity<?> closeCampaign(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @PathVariable Long campaignId,
+            @RequestBody(required = false) CloseRecertificationRequest request) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            boolean revokeUndecided = request != null && request.isRevokeUndecided();
+            RecertificationCampaign campaign = recertificationService.closeCampaign(userId, campaignId, revokeUndecided);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(toCampaignResponse(campaign, Collections.emptyList()));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    private RecertificationCampaignResponse toCampaignResponse(RecertificationCampaign campaign, List<PartitionSummaryRow> partitions) {
+        RecertificationCampaignResponse response = new RecertificationCampaignResponse();
+        response.setId(campaign.getId());
+        response.setName(campaign.getName());
+        response.setPartitionBy(campaign.getPartitionBy());
+        response.setStatus(campaign.getStatus());
+        response.setCreatedBy(campaign.getCreatedBy());
+        response.setCreatedAt(campaign.getCreatedAt().toString());
+        response.setItemCount(campaign.getItemCount());
+        response.setRevokedCount(campaign.getRevokedCount());
+        response.setClosedAt(campaign.getClosedAt() != null ? campaign.getClosedAt().toString() : null);
+        response.setPartitions(partitions.stream()
+                .map(this::toPartitionResponse)
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    private RecertificationPartitionResponse toPartitionResponse(PartitionSummaryRow row) {
+        RecertificationPartitionResponse response = new RecertificationPartitionResponse();
+        response.setPartition(row.getPartition());
+        response.setTotal(row.getTotal());
+        response.setKept(row.getKept());
+        response.setRevoked(row.getRevoked());
+        response.setPending(row.getPending());
+        response.setMissing(row.getMissing());
+        return response;
+    }
+
+    private RecertificationItemResponse toItemResponse(RecertificationItemRow row) {
+        RecertificationItemResponse response = new RecertificationItemResponse();
+        response.setAccessId(row.getAccessId());
+        response.setUserId(row.getUserId());
+        response.setModuleId(row.getModuleId());
+        response.setDepartment(row.getDepartment());
+        response.setRequestProtocol(row.getRequestProtocol());
+        response.setPartition(row.getPartitionKey());
+        response.setDecision(row.getDecision());
+        return response;
+    }
+
+    private String extractToken(String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring(7);
+        }
+        return null;
+    }
+}
@@ -2,7 +2,17 @@ package com.pg17xbootj21.controller;
 
 import com.pg17xbootj21.dto.*;
 import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.repository.RequestReadRepository;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestDashboardRow;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestDetailsRow;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestSummaryRow;
+import com.pg17xbootj21.service.AccessReminderService;
 import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.RequestCacheService;
+import com.pg17xbootj21.service.RequestCursor;
+import com.pg17xbootj21.service.RequestDashboardService;
+import com.pg17xbootj21.service.RequestExportService;
+import com.pg17xbootj21.service.RequestFields;
 import com.pg17xbootj21.service.RequestService;
 import com.pg17xbootj21.service.SessionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,11 +23,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import com.pg17xbootj21.dto.HistoryEntryResponse;
 
@@ -30,11 +53,22 @@ public class RequestController {
     private final RequestService requestService;
     private final AuthService authService;
     private final SessionService sessionService;
-
-    public RequestController(RequestService requestService, AuthService authService, SessionService sessionService) {
+    private final RequestExportService requestExportService;
+    private final RequestCacheService requestCacheService;
+    private final RequestDashboardService requestDashboardService;
+    private final AccessReminderService accessReminderService;
+
+    public RequestController(RequestService requestService, AuthService authService, SessionService sessionService,
+                             RequestExportService requestExportService, RequestCacheService requestCacheService,
+                             RequestDashboardService requestDashboardService,
+                             AccessReminderService accessReminderService) {
         this.requestService = requestService;
         this.authService = authService;
         this.sessionService = sessionService;
+        this.requestExportService = requestExportService;
+        this.requestCacheService = requestCacheService;
+        this.requestDashboardService = requestDashboardService;
+        this.accessReminderService = accessReminderService;
     }
 
     @Operation(summary = "Criar nova solicitação", description = "Cria uma nova solicitação de acesso a módulos")
@@ -103,6 +137,8 @@ public class RequestController {
 
             if ("ATIVO".equals(createdRequest.getStatus())) {
                 response.setMessage("Solicitação criada com sucesso! Protocolo: " + createdRequest.getProtocol() + ". Seus acessos já estão disponíveis!");
+            } else if ("PENDENTE".equals(createdRequest.getStatus())) {
+                response.setMessage("Solicitação criada com sucesso! Protocolo: " + createdRequest.getProtocol() + ". Aguardando aprovação.");
             } else {
                 response.setDenialReason(createdRequest.getDenialReason());
                 response.setMessage("Solicitação negada. Motivo: " + createdRequest.getDenialReason());
@@ -141,7 +177,10 @@ public class RequestController {
             @RequestParam(required = false) String endDate,
             @RequestParam(required = false) Boolean urgent,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         if (page < 0) {
             ErrorResponse error = new ErrorResponse(
@@ -163,10 +202,11 @@ public class RequestController {
         
         if (status != null && !status.isEmpty()) {
             String upperStatus = status.toUpperCase();
-            if (!upperStatus.equals("ATIVO") && !upperStatus.equals("NEGADO") && !upperStatus.equals("CANCELADO")) {
+            if (!upperStatus.equals("ATIVO") && !upperStatus.equals("NEGADO") && !upperStatus.equals("CANCELADO")
+                    && !upperStatus.equals("EXPIRADO") && !upperStatus.equals("PENDENTE")) {
                 ErrorResponse error = new ErrorResponse(
                     "Bad Request",
-                    "Status must be one of: ATIVO, NEGADO, CANCELADO",
+                    "Status must be one of: ATIVO, NEGADO, CANCELADO, EXPIRADO, PENDENTE",
                     HttpStatus.BAD_REQUEST.value()
                 );
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
@@ -191,6 +231,24 @@ public class RequestController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
         
+        if (cursor != null && !cursor.isEmpty() && !RequestCursor.isValid(cursor)) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Invalid cursor",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+        
+        if (fields != null && !RequestFields.isValid(fields, RequestReadRepository.SUMMARY_FIELDS)) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Fields must be a comma-separated list of: " + String.join(", ", RequestReadRepository.SUMMARY_FIELDS),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+        
         String token = extractToken(authorization);
         if (token == null || !sessionService.isValidSession(token)) {
             ErrorResponse error = new ErrorResponse(
@@ -212,21 +270,198 @@ public class RequestController {
         }
 
         try {
-            List<Request> requests = requestService.searchRequests(userId, search, status, startDate, endDate, urgent);
-            
-            int totalElements = requests.size();
-            int fromIndex = page * size;
-            int toIndex = Math.min(fromIndex + size, totalElements);
-            List<Request> pagedRequests = requests.subList(fromIndex, toIndex);
+            long version = requestCacheService.currentVersion(userId);
+            String etag = requestCacheService.etag(userId, version);
+            if (requestCacheService.matches(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+
+            Set<String> selectedFields = RequestFields.parse(fields, RequestReadRepository.SUMMARY_FIELDS);
+            String cacheKey = String.join("|", "search", String.valueOf(search), String.valueOf(status),
+                    String.valueOf(startDate), String.valueOf(endDate), String.valueOf(urgent),
+                    String.valueOf(page), String.valueOf(size), String.valueOf(cursor), String.valueOf(selectedFields));
+            PagedResponse<Object> response = requestCacheService.get(userId, version, cacheKey, () -> {
+                if (cursor != null) {
+                    Slice<RequestSummaryRow> slice = requestService.searchRequestsAfter(userId, search, status, startDate, endDate, urgent,
+                            selectedFields, cursor, size);
+                    return new PagedResponse<>(toSummaries(slice.getContent(), selectedFields), size, nextCursor(slice));
+                }
+
+                Page<RequestSummaryRow> requests = requestService.searchRequests(userId, search, status, startDate, endDate, urgent,
+                        selectedFields, page, size);
+
+                return new PagedResponse<>(
+                    toSummaries(requests.getContent(), selectedFields), page, size, requests.getTotalElements(), nextCursor(requests)
+                );
+            });
             
-            List<RequestSummaryResponse> summaries = pagedRequests.stream()
-                    .map(this::toSummary)
+            return cached(etag, response);
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse(
+                "Internal Server Error",
+                e.getMessage(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    @Operation(summary = "Exportar solicitações", description = "Exporta o histórico de solicitações do usuário ou, para administradores TI, de um departamento, em NDJSON ou CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação transmitida com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Formato inválido ou departamento não permitido",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRequests(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestParam(defaultValue = RequestExportService.FORMAT_NDJSON) String format,
+            @RequestParam(required = false) String department) {
+
+        String normalizedFormat = format.trim().toLowerCase();
+        if (!RequestExportService.FORMAT_NDJSON.equals(normalizedFormat) && !RequestExportService.FORMAT_CSV.equals(normalizedFormat)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Format must be one of: ndjson, csv");
+        }
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired token");
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found");
+        }
+
+        String exportDepartment;
+        try {
+            exportDepartment = requestExportService.resolveDepartment(userId, department);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        boolean csv = RequestExportService.FORMAT_CSV.equals(normalizedFormat);
+        StreamingResponseBody body = outputStream ->
+                requestExportService.export(userId, exportDepartment, normalizedFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"requests." + normalizedFormat + "\"")
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+
+    @Operation(summary = "Acessos próximos do vencimento", description = "Lista os acessos ativos do usuário autenticado que expiram nos próximos dias e já podem ser renovados")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Acessos retornados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Parâmetro inválido",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/expiring")
+    public ResponseEntity<?> getExpiringAccesses(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestParam(value = "days", defaultValue = "30") int days) {
+
+        if (days < 1 || days > 30) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Days must be between 1 and 30",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            Instant now = Instant.now();
+            List<ExpiringAccessResponse> response = accessReminderService.findExpiringSoon(userId, days).stream()
+                    .map(access -> {
+                        ExpiringAccessResponse expiring = new ExpiringAccessResponse();
+                        expiring.setProtocol(access.getRequestProtocol());
+                        expiring.setModuleId(access.getModuleId());
+                        expiring.setExpiresAt(access.getExpiresAt().toString());
+                        expiring.setDaysRemaining(Duration.between(now, access.getExpiresAt()).toDays());
+                        return expiring;
+                    })
                     .collect(Collectors.toList());
-            
-            PagedResponse<RequestSummaryResponse> response = new PagedResponse<>(
-                summaries, page, size, totalElements
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse(
+                "Internal Server Error",
+                e.getMessage(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
-            
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    @Operation(summary = "Painel de solicitações", description = "Retorna contagens por status, solicitações urgentes, acessos que expiram em 30 dias e módulos ativos do usuário autenticado")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Contagens retornadas com sucesso",
+                content = @Content(schema = @Schema(implementation = RequestDashboardResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/dashboard")
+    public ResponseEntity<?> getDashboard(
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            RequestDashboardRow dashboard = requestDashboardService.getDashboard(userId);
+
+            Map<String, Long> statusCounts = new LinkedHashMap<>();
+            statusCounts.put("ATIVO", dashboard.active());
+            statusCounts.put("NEGADO", dashboard.denied());
+            statusCounts.put("CANCELADO", dashboard.cancelled());
+            statusCounts.put("EXPIRADO", dashboard.expired());
+
+            RequestDashboardResponse response = new RequestDashboardResponse();
+            response.setStatusCounts(statusCounts);
+            response.setUrgent(dashboard.urgent());
+            response.setExpiringSoon(dashboard.expiringSoon());
+            response.setActiveModules(dashboard.activeModules());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             ErrorResponse error = new ErrorResponse(
@@ -250,7 +485,10 @@ public class RequestController {
     @GetMapping("/{protocol}")
     public ResponseEntity<?> getRequestDetails(
             @RequestHeader(value = "Authorization", required = false) String authorization,
-            @PathVariable String protocol) {
+            @PathVariable String protocol,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer historyLimit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         if (protocol == null || protocol.trim().isEmpty()) {
             ErrorResponse error = new ErrorResponse(
@@ -270,6 +508,24 @@ public class RequestController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
         
+        if (fields != null && !RequestFields.isValid(fields, RequestReadRepository.DETAILS_FIELDS)) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "Fields must be a comma-separated list of: " + String.join(", ", RequestReadRepository.DETAILS_FIELDS),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+        
+        if (historyLimit != null && historyLimit < 0) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                "History limit must be greater than or equal to 0",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+        
         String token = extractToken(authorization);
         if (token == null || !sessionService.isValidSession(token)) {
             ErrorResponse error = new ErrorResponse(
@@ -291,8 +547,22 @@ public class RequestController {
         }
 
         try {
-            Request request = requestService.findRequestByProtocol(userId, protocol);
-            if (request == null) {
+            long version = requestCacheService.currentVersion(userId);
+            String etag = requestCacheService.etag(userId, version);
+            if (requestCacheService.matches(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+
+            Set<String> selectedFields = RequestFields.parse(fields, RequestReadRepository.DETAILS_FIELDS);
+            String cacheKey = String.join("|", "details", protocol, String.valueOf(selectedFields), String.valueOf(historyLimit));
+            Object response = requestCacheService.get(userId, version, cacheKey, () -> {
+                RequestDetailsRow request = requestService.findRequestDetails(userId, protocol, selectedFields, historyLimit);
+                if (request == null) {
+                    return null;
+                }
+                return selectedFields == null ? toDetails(request) : toSparseDetails(request, selectedFields);
+            });
+            if (response == null) {
                 ErrorResponse error = new ErrorResponse(
                     "Not Found",
                     "Request not found",
@@ -301,8 +571,7 @@ public class RequestController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
             }
 
-            RequestDetailsResponse response = toDetails(request);
-            return ResponseEntity.ok(response);
+            return cached(etag, response);
         } catch (Exception e) {
             ErrorResponse error = new ErrorResponse(
                 "Internal Server Error",
@@ -349,18 +618,69 @@ public class RequestController {
 
         try {
             Request renewedRequest = requestService.renewAccess(userId, request.getRequestProtocol());
+            return ResponseEntity.status(HttpStatus.CREATED).body(toCreateResponse(renewedRequest));
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse(
+                "Bad Request",
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse(
+                "Internal Server Error",
+                e.getMessage(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
 
-            CreateRequestResponse response = new CreateRequestResponse();
-            response.setProtocol(renewedRequest.getProtocol());
-            response.setStatus(renewedRequest.getStatus());
+    @Operation(summary = "Renovar acessos em lote", description = "Renova todos os acessos que expiram nos próximos 30 dias do usuário ou, para administradores de TI, de um departamento inteiro")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Renovações processadas",
+                content = @Content(schema = @Schema(implementation = BulkRenewAccessResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos ou usuário sem permissão",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/renew/bulk")
+    public ResponseEntity<?> renewExpiringAccesses(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody(required = false) BulkRenewAccessRequest request) {
 
-            if ("ATIVO".equals(renewedRequest.getStatus())) {
-                response.setMessage("Solicitação criada com sucesso! Protocolo: " + renewedRequest.getProtocol() + ". Seus acessos já estão disponíveis!");
-            } else {
-                response.setDenialReason(renewedRequest.getDenialReason());
-                response.setMessage("Solicitação negada. Motivo: " + renewedRequest.getDenialReason());
-            }
+        String token = extractToken(authorization);
+        if (token == null || !sessionService.isValidSession(token)) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "Invalid or expired token",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        String userId = authService.getUserIdByToken(token);
+        if (userId == null) {
+            ErrorResponse error = new ErrorResponse(
+                "Unauthorized",
+                "User not found",
+                HttpStatus.UNAUTHORIZED.value()
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            String department = request != null ? request.getDepartment() : null;
+            List<Request> renewedRequests = requestService.renewExpiringAccesses(userId, department);
 
+            List<CreateRequestResponse> renewals = renewedRequests.stream()
+                    .map(this::toCreateResponse)
+                    .collect(Collectors.toList());
+            int approved = (int) renewedRequests.stream().filter(r -> "ATIVO".equals(r.getStatus())).count();
+
+            BulkRenewAccessResponse response = new BulkRenewAccessResponse(
+                renewals.size(), approved, renewals.size() - approved, renewals);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (RuntimeException e) {
             ErrorResponse error = new ErrorResponse(
@@ -379,7 +699,7 @@ public class RequestController {
         }
     }
 
-    @Operation(summary = "Cancelar solicitação", description = "Cancela uma solicitação ativa do usuário autenticado")
+    @Operation(summary = "Cancelar solicitação", description = "Cancela uma solicitação ativa ou pendente de aprovação do usuário autenticado")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Solicitação cancelada com sucesso",
                 content = @Content(schema = @Schema(implementation = RequestDetailsResponse.class))),
@@ -433,7 +753,8 @@ public class RequestController {
         }
 
         try {
-            Request cancelledRequest = requestService.cancelRequest(userId, protocol, request.getReason());
+            requestService.cancelRequest(userId, protocol, request.getReason());
+            RequestDetailsRow cancelledRequest = requestService.findRequestDetails(userId, protocol, null, null);
             RequestDetailsResponse response = toDetails(cancelledRequest);
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
@@ -453,47 +774,131 @@ public class RequestController {
         }
     }
 
-    private RequestSummaryResponse toSummary(Request request) {
+    private CreateRequestResponse toCreateResponse(Request request) {
+        CreateRequestResponse response = new CreateRequestResponse();
+        response.setProtocol(request.getProtocol());
+        response.setStatus(request.getStatus());
+
+        if ("ATIVO".equals(request.getStatus())) {
+            response.setMessage("Solicitação criada com sucesso! Protocolo: " + request.getProtocol() + ". Seus acessos já estão disponíveis!");
+        } else {
+            response.setDenialReason(request.getDenialReason());
+            response.setMessage("Solicitação negada. Motivo: " + request.getDenialReason());
+        }
+        return response;
+    }
+
+    private RequestSummaryResponse toSummary(RequestSummaryRow row) {
         RequestSummaryResponse summary = new RequestSummaryResponse();
-        summary.setProtocol(request.getProtocol());
-        summary.setModules(request.getModules());
-        summary.setStatus(request.getStatus());
-        summary.setJustification(request.getJustification());
-        summary.setUrgent(request.isUrgent());
-        summary.setCreatedAt(request.getCreatedAt() != null ? request.getCreatedAt().toString() : null);
-        summary.setExpiresAt(request.getExpiresAt() != null ? request.getExpiresAt().toString() : null);
-        summary.setDenialReason(request.getDenialReason());
+        summary.setProtocol(row.protocol());
+        summary.setModules(row.modules());
+        summary.setModuleNames(row.moduleNames());
+        summary.setStatus(row.status());
+        summary.setJustification(row.justification());
+        summary.setUrgent(row.urgent());
+        summary.setCreatedAt(row.createdAt() != null ? row.createdAt().toString() : null);
+        summary.setExpiresAt(row.expiresAt() != null ? row.expiresAt().toString() : null);
+        summary.setDenialReason(row.denialReason());
         return summary;
     }
 
-    private RequestDetailsResponse toDetails(Request request) {
-        RequestDetailsResponse details = new RequestDetailsResponse();
-        details.setProtocol(request.getProtocol());
-        details.setUserId(request.getUserId());
-        details.setUserDepartment(request.getUserDepartment());
-        details.setModules(request.getModules());
-        details.setJustification(request.getJustification());
-        details.setUrgent(request.isUrgent());
-        details.setStatus(request.getStatus());
-        details.setCreatedAt(request.getCreatedAt() != null ? request.getCreatedAt().toString() : null);
-        details.setExpiresAt(request.getExpiresAt() != null ? request.getExpiresAt().toString() : null);
-        details.setDenialReason(request.getDenialReason());
-        
-        if (request.getHistory() != null) {
-            List<HistoryEntryResponse> historyEntries = request.getHistory().stream()
-                    .map(h -> {
-                        HistoryEntryResponse entry = new HistoryEntryResponse();
-                        entry.setDate(h.getDate() != null ? h.getDate().toString() : null);
-                        entry.setAction(h.getAction());
-                        return entry;
-                    })
-                    .collect(Collectors.toList());
-            details.setHistory(historyEntries);
+    private List<Object> toSummaries(List<RequestSummaryRow> rows, Set<String> fields) {
+        return rows.stream()
+                .map(row -> fields == null ? toSummary(row) : toSparseSummary(row, fields))
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Object> toSparseSummary(RequestSummaryRow row, Set<String> fields) {
+        RequestSummaryResponse full = toSummary(row);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "protocol" -> summary.put(field, full.getProtocol());
+                case "modules" -> summary.put(field, full.getModules());
+                case "moduleNames" -> summary.put(field, full.getModuleNames());
+                case "status" -> summary.put(field, full.getStatus());
+                case "justification" -> summary.put(field, full.getJustification());
+                case "urgent" -> summary.put(field, full.getUrgent());
+                case "createdAt" -> summary.put(field, full.getCreatedAt());
+                case "expiresAt" -> summary.put(field, full.getExpiresAt());
+                case "denialReason" -> summary.put(field, full.getDenialReason());
+                default -> {
+                }
+            }
+        }
+        return summary;
+    }
+
+    private Map<String, Object> toSparseDetails(RequestDetailsRow row, Set<String> fields) {
+        RequestDetailsResponse full = toDetails(row);
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "protocol" -> details.put(field, full.getProtocol());
+                case "userId" -> details.put(field, full.getUserId());
+                case "userDepartment" -> details.put(field, full.getUserDepartment());
+                case "modules" -> details.put(field, full.getModules());
+                case "status" -> details.put(field, full.getStatus());
+                case "justification" -> details.put(field, full.getJustification());
+                case "urgent" -> details.put(field, full.getUrgent());
+                case "createdAt" -> details.put(field, full.getCreatedAt());
+                case "expiresAt" -> details.put(field, full.getExpiresAt());
+                case "denialReason" -> details.put(field, full.getDenialReason());
+                case "history" -> details.put(field, full.getHistory());
+                default -> {
+                }
+            }
         }
-        
         return details;
     }
 
+    private RequestDetailsResponse toDetails(RequestDetailsRow row) {
+        RequestDetailsResponse details = new RequestDetailsResponse();
+        details.setProtocol(row.protocol());
+        details.setUserId(row.userId());
+        details.setUserDepartment(row.userDepartment());
+        details.setModules(row.modules());
+        details.setJustification(row.justification());
+        details.setUrgent(row.urgent());
+        details.setStatus(row.status());
+        details.setCreatedAt(row.createdAt() != null ? row.createdAt().toString() : null);
+        details.setExpiresAt(row.expiresAt() != null ? row.expiresAt().toString() : null);
+        details.setDenialReason(row.denialReason());
+        details.setHistory(row.history().stream()
+                .map(h -> {
+                    HistoryEntryResponse entry = new HistoryEntryResponse();
+                    entry.setDate(h.date() != null ? h.date().toString() : null);
+                    entry.setAction(h.action());
+                    return entry;
+                })
+                .collect(Collectors.toList()));
+        return details;
+    }
+
+    private String nextCursor(Slice<RequestSummaryRow> slice) {
+        if (!slice.hasNext() || slice.getContent().isEmpty()) {
+            return null;
+        }
+        List<RequestSummaryRow> content = slice.getContent();
+        return RequestCursor.of(content.get(content.size() - 1)).encode();
+    }
+
+    private ResponseEntity<?> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION)
+                .build();
+    }
+
+    private ResponseEntity<?> cached(String etag, Object body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION)
+                .body(body);
+    }
+
     private String extractToken(String authorization) {
         if (authorization != null && authorization.startsWith("Bearer ")) {
             return authorization.substring(7);
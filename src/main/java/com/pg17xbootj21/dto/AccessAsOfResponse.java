@@ -0,0 +1,61 @@
+package com.pg17xbootj21.dto;
+
+public class AccessAsOfResponse {
+    private String userId;
+    private String moduleId;
+    private String requestProtocol;
+    private String status;
+    private String grantedAt;
+    private String validUntil;
+
+    public AccessAsOfResponse() {
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    public void setModuleId(String moduleId) {
+        this.moduleId = moduleId;
+    }
+
+    public String getRequestProtocol() {
+        return requestProtocol;
+    }
+
+    public void setRequestProtocol(String requestProtocol) {
+        this.requestProtocol = requestProtocol;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getGrantedAt() {
+        return grantedAt;
+    }
+
+    public void setGrantedAt(String grantedAt) {
+        this.grantedAt = grantedAt;
+    }
+
+    public String getValidUntil() {
+        return validUntil;
+    }
+
+    public void setValidUntil(String validUntil) {
+        this.validUntil = validUntil;
+    }
+}
@@ -0,0 +1,42 @@
+package com.pg17xbootj21.dto;
+
+import java.util.List;
+
+public class AccessChangesResponse {
+    private List<AccessChangeResponse> changes;
+    private String watermark;
+    private boolean hasMore;
+
+    public AccessChangesResponse() {
+    }
+
+    public AccessChangesResponse(List<AccessChangeResponse> changes, String watermark, boolean hasMore) {
+        this.changes = changes;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+    }
+
+    public List<AccessChangeResponse> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<AccessChangeResponse> changes) {
+        this.changes = changes;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
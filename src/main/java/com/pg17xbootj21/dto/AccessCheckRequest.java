@@ -0,0 +1,31 @@
+package com.pg17xbootj21.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class AccessCheckRequest {
+
+    @NotBlank(message = "User id is required")
+    private String userId;
+
+    @NotBlank(message = "Module id is required")
+    private String moduleId;
+
+    public AccessCheckRequest() {
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    public void setModuleId(String moduleId) {
+        this.moduleId = moduleId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.pg17xbootj21.dto;
+
+public class AccessCheckResponse {
+    private String userId;
+    private String moduleId;
+    private boolean allowed;
+
+    public AccessCheckResponse() {
+    }
+
+    public AccessCheckResponse(String userId, String moduleId, boolean allowed) {
+        this.userId = userId;
+        this.moduleId = moduleId;
+        this.allowed = allowed;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    public void setModuleId(String moduleId) {
+        this.moduleId = moduleId;
+    }
+
+    public boolean isAllowed() {
+        return allowed;
+    }
+
+    public void setAllowed(boolean allowed) {
+        this.allowed = allowed;
+    }
+}
@@ -0,0 +1,32 @@
+package com.pg17xbootj21.dto;
+
+import java.util.List;
+
+public class ApprovalClaimResponse {
+    private List<PendingRequestResponse> requests;
+    private String claimedUntil;
+
+    public ApprovalClaimResponse() {
+    }
+
+    public ApprovalClaimResponse(List<PendingRequestResponse> requests, String claimedUntil) {
+        this.requests = requests;
+        this.claimedUntil = claimedUntil;
+    }
+
+    public List<PendingRequestResponse> getRequests() {
+        return requests;
+    }
+
+    public void setRequests(List<PendingRequestResponse> requests) {
+        this.requests = requests;
+    }
+
+    public String getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public void setClaimedUntil(String claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+}
@@ -0,0 +1,34 @@
+package com.pg17xbootj21.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class ApprovalDecisionRequest {
+
+    @NotEmpty(message = "At least one protocol is required")
+    @Size(max = 500, message = "Must send at most 500 protocols")
+    private List<String> protocols;
+
+    private String reason;
+
+    public ApprovalDecisionRequest() {
+    }
+
+    public List<String> getProtocols() {
+        return protocols;
+    }
+
+    public void setProtocols(List<String> protocols) {
+        this.protocols = protocols;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,32 @@
+package com.pg17xbootj21.dto;
+
+import java.util.List;
+
+public class ApprovalDecisionResponse {
+    private List<String> decided;
+    private List<String> skipped;
+
+    public ApprovalDecisionResponse() {
+    }
+
+    public ApprovalDecisionResponse(List<String> decided, List<String> skipped) {
+        this.decided = decided;
+        this.skipped = skipped;
+    }
+
+    public List<String> getDecided() {
+        return decided;
+    }
+
+    public void setDecided(List<String> decided) {
+        this.decided = decided;
+    }
+
+    public List<String> getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(List<String> skipped) {
+        this.skipped = skipped;
+    }
+}
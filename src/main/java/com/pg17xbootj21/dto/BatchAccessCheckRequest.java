@@ -0,0 +1,25 @@
+package com.pg17xbootj21.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BatchAccessCheckRequest {
+
+    @NotEmpty(message = "At least one check is required")
+    @Size(max = 1000, message = "Must send at most 1000 checks")
+    private List<@Valid AccessCheckRequest> checks;
+
+    public BatchAccessCheckRequest() {
+    }
+
+    public List<AccessCheckRequest> getChecks() {
+        return checks;
+    }
+
+    public void setChecks(List<AccessCheckRequest> checks) {
+        this.checks = checks;
+    }
+}
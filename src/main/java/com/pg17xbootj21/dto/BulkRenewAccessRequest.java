@@ -0,0 +1,17 @@
+package com.pg17xbootj21.dto;
+
+public class BulkRenewAccessRequest {
+
+    private String department;
+
+    public BulkRenewAccessRequest() {
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+}
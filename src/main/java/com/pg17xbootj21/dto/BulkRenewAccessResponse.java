@@ -0,0 +1,52 @@
+package com.pg17xbootj21.dto;
+
+import java.util.List;
+
+public class BulkRenewAccessResponse {
+    private int total;
+    private int approved;
+    private int denied;
+    private List<CreateRequestResponse> renewals;
+
+    public BulkRenewAccessResponse() {
+    }
+
+    public BulkRenewAccessResponse(int total, int approved, int denied, List<CreateRequestResponse> renewals) {
+        this.total = total;
+        this.approved = approved;
+        this.denied = denied;
+        this.renewals = renewals;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getApproved() {
+        return approved;
+    }
+
+    public void setApproved(int approved) {
+        this.approved = approved;
+    }
+
+    public int getDenied() {
+        return denied;
+    }
+
+    public void setDenied(int denied) {
+        this.denied = denied;
+    }
+
+    public List<CreateRequestResponse> getRenewals() {
+        return renewals;
+    }
+
+    public void setRenewals(List<CreateRequestResponse> renewals) {
+        this.renewals = renewals;
+    }
+}
@@ -0,0 +1,16 @@
+package com.pg17xbootj21.dto;
+
+public class CloseRecertificationRequest {
+    private boolean revokeUndecided;
+
+    public CloseRecertificationRequest() {
+    }
+
+    public boolean isRevokeUndecided() {
+        return revokeUndecided;
+    }
+
+    public void setRevokeUndecided(boolean revokeUndecided) {
+        this.revokeUndecided = revokeUndecided;
+    }
+}
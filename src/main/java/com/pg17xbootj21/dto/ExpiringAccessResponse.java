@@ -0,0 +1,43 @@
+package com.pg17xbootj21.dto;
+
+public class ExpiringAccessResponse {
+    private String protocol;
+    private String moduleId;
+    private String expiresAt;
+    private long daysRemaining;
+
+    public ExpiringAccessResponse() {
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public void setProtocol(String protocol) {
+        this.protocol = protocol;
+    }
+
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    public void setModuleId(String moduleId) {
+        this.moduleId = moduleId;
+    }
+
+    public String getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(String expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public long getDaysRemaining() {
+        return daysRemaining;
+    }
+
+    public void setDaysRemaining(long daysRemaining) {
+        this.daysRemaining = daysRemaining;
+    }
+}
@@ -0,0 +1,70 @@
+package com.pg17xbootj21.dto;
+
+public class ModuleDeactivationResponse {
+    private String moduleId;
+    private String status;
+    private String requestedBy;
+    private long totalCount;
+    private long revokedCount;
+    private String startedAt;
+    private String finishedAt;
+
+    public ModuleDeactivationResponse() {
+    }
+
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    public void setModuleId(String moduleId) {
+        this.moduleId = moduleId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getRequestedBy() {
+        return requestedBy;
+    }
+
+    public void setRequestedBy(String requestedBy) {
+        this.requestedBy = requestedBy;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public long getRevokedCount() {
+        return revokedCount;
+    }
+
+    public void setRevokedCount(long revokedCount) {
+        this.revokedCount = revokedCount;
+    }
+
+    public String getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(String startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public String getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(String finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,43 @@
+package com.pg17xbootj21.dto;
+
+public class ModuleHolderResponse {
+    private String userId;
+    private String requestProtocol;
+    private String grantedAt;
+    private String expiresAt;
+
+    public ModuleHolderResponse() {
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getRequestProtocol() {
+        return requestProtocol;
+    }
+
+    public void setRequestProtocol(String requestProtocol) {
+        this.requestProtocol = requestProtocol;
+    }
+
+    public String getGrantedAt() {
+        return grantedAt;
+    }
+
+    public void setGrantedAt(String grantedAt) {
+        this.grantedAt = grantedAt;
+    }
+
+    public String getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(String expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -7,6 +7,7 @@ public class ModuleResponse {
     private String description;
     private List<String> allowedDepartments;
     private boolean active;
+    private boolean requiresApproval;
     private List<String> incompatibleModules;
 
     public ModuleResponse() {
@@ -44,6 +45,14 @@ public class ModuleResponse {
         this.active = active;
     }
 
+    public boolean isRequiresApproval() {
+        return requiresApproval;
+    }
+
+    public void setRequiresApproval(boolean requiresApproval) {
+        this.requiresApproval = requiresApproval;
+    }
+
     public List<String> getIncompatibleModules() {
         return incompatibleModules;
     }
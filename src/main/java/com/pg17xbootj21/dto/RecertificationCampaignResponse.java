@@ -0,0 +1,99 @@
+package com.pg17xbootj21.dto;
+
+import java.util.List;
+
+public class RecertificationCampaignResponse {
+    private Long id;
+    private String name;
+    private String partitionBy;
+    private String status;
+    private String createdBy;
+    private String createdAt;
+    private long itemCount;
+    private long revokedCount;
+    private String closedAt;
+    private List<RecertificationPartitionResponse> partitions;
+
+    public RecertificationCampaignResponse() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPartitionBy() {
+        return partitionBy;
+    }
+
+    public void setPartitionBy(String partitionBy) {
+        this.partitionBy = partitionBy;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(String createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(long itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public long getRevokedCount() {
+        return revokedCount;
+    }
+
+    public void setRevokedCount(long revokedCount) {
+        this.revokedCount = revokedCount;
+    }
+
+    public String getClosedAt() {
+        return closedAt;
+    }
+
+    public void setClosedAt(String closedAt) {
+        this.closedAt = closedAt;
+    }
+
+    public List<RecertificationPartitionResponse> getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(List<RecertificationPartitionResponse> partitions) {
+        this.partitions = partitions;
+    }
+}
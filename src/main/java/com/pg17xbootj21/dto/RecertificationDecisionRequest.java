@@ -0,0 +1,44 @@
+package com.pg17xbootj21.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class RecertificationDecisionRequest {
+
+    @NotBlank(message = "Decision is required")
+    private String decision;
+
+    private String partition;
+
+    @Size(max = 10000, message = "Must send at most 10000 access ids")
+    private List<Long> accessIds;
+
+    public RecertificationDecisionRequest() {
+    }
+
+    public String getDecision() {
+        return decision;
+    }
+
+    public void setDecision(String decision) {
+        this.decision = decision;
+    }
+
+    public String getPartition() {
+        return partition;
+    }
+
+    public void setPartition(String partition) {
+        this.partition = partition;
+    }
+
+    public List<Long> getAccessIds() {
+        return accessIds;
+    }
+
+    public void setAccessIds(List<Long> accessIds) {
+        this.accessIds = accessIds;
+    }
+}
@@ -0,0 +1,16 @@
+package com.pg17xbootj21.dto;
+
+public class RecertificationDecisionResponse {
+    private int updated;
+
+    public RecertificationDecisionResponse() {
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+}
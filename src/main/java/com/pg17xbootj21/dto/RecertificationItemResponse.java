@@ -0,0 +1,70 @@
+package com.pg17xbootj21.dto;
+
+public class RecertificationItemResponse {
+    private Long accessId;
+    private String userId;
+    private String moduleId;
+    private String department;
+    private String requestProtocol;
+    private String partition;
+    private String decision;
+
+    public RecertificationItemResponse() {
+    }
+
+    public Long getAccessId() {
+        return accessId;
+    }
+
+    public void setAccessId(Long accessId) {
+        this.accessId = accessId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    public void setModuleId(String moduleId) {
+        this.moduleId = moduleId;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public String getRequestProtocol() {
+        return requestProtocol;
+    }
+
+    public void setRequestProtocol(String requestProtocol) {
+        this.requestProtocol = requestProtocol;
+    }
+
+    public String getPartition() {
+        return partition;
+    }
+
+    public void setPartition(String partition) {
+        this.partition = partition;
+    }
+
+    public String getDecision() {
+        return decision;
+    }
+
+    public void setDecision(String decision) {
+        this.decision = decision;
+    }
+}
@@ -0,0 +1,61 @@
+package com.pg17xbootj21.dto;
+
+public class RecertificationPartitionResponse {
+    private String partition;
+    private long total;
+    private long kept;
+    private long revoked;
+    private long pending;
+    private long missing;
+
+    public RecertificationPartitionResponse() {
+    }
+
+    public String getPartition() {
+        return partition;
+    }
+
+    public void setPartition(String partition) {
+        this.partition = partition;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getKept() {
+        return kept;
+    }
+
+    public void setKept(long kept) {
+        this.kept = kept;
+    }
+
+    public long getRevoked() {
+        return revoked;
+    }
+
+    public void setRevoked(long revoked) {
+        this.revoked = revoked;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public void setPending(long pending) {
+        this.pending = pending;
+    }
+
+    public long getMissing() {
+        return missing;
+    }
+
+    public void setMissing(long missing) {
+        this.missing = missing;
+    }
+}
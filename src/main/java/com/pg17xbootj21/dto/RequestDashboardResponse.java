@@ -0,0 +1,45 @@
+package com.pg17xbootj21.dto;
+
+import java.util.Map;
+
+public class RequestDashboardResponse {
+    private Map<String, Long> statusCounts;
+    private long urgent;
+    private long expiringSoon;
+    private long activeModules;
+
+    public RequestDashboardResponse() {
+    }
+
+    public Map<String, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public void setStatusCounts(Map<String, Long> statusCounts) {
+        this.statusCounts = statusCounts;
+    }
+
+    public long getUrgent() {
+        return urgent;
+    }
+
+    public void setUrgent(long urgent) {
+        this.urgent = urgent;
+    }
+
+    public long getExpiringSoon() {
+        return expiringSoon;
+    }
+
+    public void setExpiringSoon(long expiringSoon) {
+        this.expiringSoon = expiringSoon;
+    }
+
+    public long getActiveModules() {
+        return activeModules;
+    }
+
+    public void setActiveModules(long activeModules) {
+        this.activeModules = activeModules;
+    }
+}
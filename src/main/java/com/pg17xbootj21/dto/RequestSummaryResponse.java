@@ -5,6 +5,7 @@ import java.util.List;
 public class RequestSummaryResponse {
     private String protocol;
     private List<String> modules;
+    private List<String> moduleNames;
     private String status;
     private String justification;
     private Boolean urgent;
@@ -31,6 +32,14 @@ public class RequestSummaryResponse {
         this.modules = modules;
     }
 
+    public List<String> getModuleNames() {
+        return moduleNames;
+    }
+
+    public void setModuleNames(List<String> moduleNames) {
+        this.moduleNames = moduleNames;
+    }
+
     public String getStatus() {
         return status;
     }
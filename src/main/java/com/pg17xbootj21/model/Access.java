@@ -7,7 +7,8 @@ import java.time.Instant;
 @Table(name = "accesses")
 public class Access {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accesses_id_seq")
+    @SequenceGenerator(name = "accesses_id_seq", sequenceName = "accesses_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "user_id", nullable = false)
@@ -25,6 +26,9 @@ public class Access {
     @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
     
+    @Column(name = "ended_at")
+    private Instant endedAt;
+    
     @Column(name = "request_protocol", nullable = false)
     private String requestProtocol;
 
@@ -79,6 +83,14 @@ public class Access {
         this.expiresAt = expiresAt;
     }
 
+    public Instant getEndedAt() {
+        return endedAt;
+    }
+
+    public void setEndedAt(Instant endedAt) {
+        this.endedAt = endedAt;
+    }
+
     public String getRequestProtocol() {
         return requestProtocol;
     }
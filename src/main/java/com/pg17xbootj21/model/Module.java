@@ -1,6 +1,8 @@
 package com.pg17xbootj21.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,11 +19,13 @@ public class Module {
     private String description;
     
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "module_allowed_departments", joinColumns = @JoinColumn(name = "module_id"))
     @Column(name = "department")
     private List<String> allowedDepartments = new ArrayList<>();
     
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "module_incompatible_modules", joinColumns = @JoinColumn(name = "module_id"))
     @Column(name = "incompatible_module_id")
     private List<String> incompatibleModules = new ArrayList<>();
@@ -29,6 +33,9 @@ public class Module {
     @Column(nullable = false)
     private boolean active;
 
+    @Column(name = "requires_approval", nullable = false)
+    private boolean requiresApproval;
+
     public Module() {
     }
 
@@ -79,5 +86,12 @@ public class Module {
     public void setActive(boolean active) {
         this.active = active;
     }
-}
 
+    public boolean isRequiresApproval() {
+        return requiresApproval;
+    }
+
+    public void setRequiresApproval(boolean requiresApproval) {
+        this.requiresApproval = requiresApproval;
+    }
+}
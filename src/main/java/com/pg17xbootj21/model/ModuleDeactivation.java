@@ -0,0 +1,101 @@
+package com.pg17xbootj21.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "module_deactivations")
+public class ModuleDeactivation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "module_deactivations_id_seq")
+    @SequenceGenerator(name = "module_deactivations_id_seq", sequenceName = "module_deactivations_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "module_id", nullable = false)
+    private String moduleId;
+
+    @Column(name = "requested_by", nullable = false)
+    private String requestedBy;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "revoked_count", nullable = false)
+    private long revokedCount;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    public ModuleDeactivation() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    public void setModuleId(String moduleId) {
+        this.moduleId = moduleId;
+    }
+
+    public String getRequestedBy() {
+        return requestedBy;
+    }
+
+    public void setRequestedBy(String requestedBy) {
+        this.requestedBy = requestedBy;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public long getRevokedCount() {
+        return revokedCount;
+    }
+
+    public void setRevokedCount(long revokedCount) {
+        this.revokedCount = revokedCount;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,112 @@
+package com.pg17xbootj21.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "recertification_campaigns")
+public class RecertificationCampaign {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recertification_campaigns_id_seq")
+    @SequenceGenerator(name = "recertification_campaigns_id_seq", sequenceName = "recertification_campaigns_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "partition_by", nullable = false)
+    private String partitionBy;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "created_by", nullable = false)
+    private String createdBy;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+
+    @Column(name = "revoked_count", nullable = false)
+    private long revokedCount;
+
+    @Column(name = "closed_at")
+    private Instant closedAt;
+
+    public RecertificationCampaign() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPartitionBy() {
+        return partitionBy;
+    }
+
+    public void setPartitionBy(String partitionBy) {
+        this.partitionBy = partitionBy;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(String createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(long itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public long getRevokedCount() {
+        return revokedCount;
+    }
+
+    public void setRevokedCount(long revokedCount) {
+        this.revokedCount = revokedCount;
+    }
+
+    public Instant getClosedAt() {
+        return closedAt;
+    }
+
+    public void setClosedAt(Instant closedAt) {
+        this.closedAt = closedAt;
+    }
+}
@@ -1,13 +1,15 @@
 package com.pg17xbootj21.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "requests")
-public class Request {
+public class Request implements Persistable<String> {
     @Id
     private String protocol;
     
@@ -18,6 +20,7 @@ public class Request {
     private String userDepartment;
     
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "request_modules", joinColumns = @JoinColumn(name = "request_protocol"))
     @Column(name = "module_id")
     private List<String> modules = new ArrayList<>();
@@ -28,8 +31,11 @@ public class Request {
     @Column(nullable = false)
     private boolean urgent;
     
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private String status;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long version;
     
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
@@ -41,11 +47,32 @@ public class Request {
     private String denialReason;
     
     @OneToMany(mappedBy = "request", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @OrderBy("id")
     private List<RequestHistory> history = new ArrayList<>();
 
+    @Transient
+    private boolean persisted;
+
     public Request() {
     }
 
+    @Override
+    public String getId() {
+        return protocol;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
     public String getProtocol() {
         return protocol;
     }
@@ -102,6 +129,14 @@ public class Request {
         this.status = status;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,109 @@
+package com.pg17xbootj21.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "request_events")
+public class RequestEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_events_id_seq")
+    @SequenceGenerator(name = "request_events_id_seq", sequenceName = "request_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "request_protocol", nullable = false, updatable = false)
+    private String requestProtocol;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private RequestEventType eventType;
+
+    @Column(name = "module_id", updatable = false)
+    private String moduleId;
+
+    @Column(columnDefinition = "TEXT", updatable = false)
+    private String detail;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private Instant occurredAt;
+
+    @Column(name = "expires_at", updatable = false)
+    private Instant expiresAt;
+
+    public RequestEvent() {
+    }
+
+    public RequestEvent(String requestProtocol, String userId, RequestEventType eventType, Instant occurredAt) {
+        this.requestProtocol = requestProtocol;
+        this.userId = userId;
+        this.eventType = eventType;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRequestProtocol() {
+        return requestProtocol;
+    }
+
+    public void setRequestProtocol(String requestProtocol) {
+        this.requestProtocol = requestProtocol;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public RequestEventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(RequestEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    public void setModuleId(String moduleId) {
+        this.moduleId = moduleId;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,16 @@
+package com.pg17xbootj21.model;
+
+public enum RequestEventType {
+    REQUEST_CREATED,
+    REQUEST_RENEWED,
+    REQUEST_PENDING,
+    REQUEST_APPROVED,
+    REQUEST_DENIED,
+    REQUEST_CANCELLED,
+    REQUEST_EXPIRED,
+    MODULE_DEACTIVATED,
+    RECERTIFICATION_REVOKED,
+    ACCESS_GRANTED,
+    ACCESS_REVOKED,
+    ACCESS_EXPIRED
+}
@@ -7,7 +7,8 @@ import java.time.Instant;
 @Table(name = "request_history")
 public class RequestHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_history_id_seq")
+    @SequenceGenerator(name = "request_history_id_seq", sequenceName = "request_history_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
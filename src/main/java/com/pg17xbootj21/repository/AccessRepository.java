@@ -7,7 +7,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AccessRepository extends JpaRepository<Access, Long> {
@@ -18,7 +22,150 @@ public interface AccessRepository extends JpaRepository<Access, Long> {
     List<Access> findByUserIdAndRequestProtocolAndStatus(String userId, String requestProtocol, String status);
     
     @Modifying
-    @Query("UPDATE Access a SET a.status = :newStatus WHERE a.userId = :userId AND a.requestProtocol = :protocol AND a.status = :oldStatus")
-    void updateStatusByUserIdAndProtocol(@Param("userId") String userId, @Param("protocol") String protocol, @Param("oldStatus") String oldStatus, @Param("newStatus") String newStatus);
+    @Query("UPDATE Access a SET a.status = :newStatus, a.endedAt = :endedAt WHERE a.userId = :userId AND a.requestProtocol = :protocol AND a.status = :oldStatus")
+    void updateStatusByUserIdAndProtocol(@Param("userId") String userId, @Param("protocol") String protocol, @Param("oldStatus") String oldStatus, @Param("newStatus") String newStatus, @Param("endedAt") Instant endedAt);
+
+    @Modifying
+    @Query("UPDATE Access a SET a.status = :newStatus, a.endedAt = :endedAt WHERE a.requestProtocol IN :protocols AND a.status = :oldStatus")
+    void updateStatusByProtocols(@Param("protocols") Collection<String> protocols, @Param("oldStatus") String oldStatus, @Param("newStatus") String newStatus, @Param("endedAt") Instant endedAt);
+
+    List<Access> findByRequestProtocolIn(Collection<String> protocols);
+
+    List<Access> findByUserIdAndStatusAndExpiresAtBefore(String userId, String status, Instant expiresAt);
+
+    List<Access> findByUserIdAndStatusAndExpiresAtBetweenOrderByExpiresAtAscModuleIdAsc(String userId, String status, Instant from, Instant to);
+
+    @Query("SELECT a FROM Access a WHERE a.status = :status AND a.expiresAt >= :start AND a.expiresAt < :end " +
+            "ORDER BY a.userId, a.requestProtocol, a.moduleId")
+    List<Access> findExpiringBetween(@Param("status") String status, @Param("start") Instant start, @Param("end") Instant end);
+
+    @Modifying
+    @Query(value = "INSERT INTO access_reminder_runs (bucket_day, days_before, claimed_at) " +
+            "VALUES (:bucketDay, :daysBefore, now()) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int claimReminderBucket(@Param("bucketDay") LocalDate bucketDay, @Param("daysBefore") int daysBefore);
+
+    @Query("SELECT a FROM Access a, User u WHERE u.id = a.userId AND u.department = :department AND a.status = :status AND a.expiresAt < :expiresAt")
+    List<Access> findExpiringByDepartment(@Param("department") String department, @Param("status") String status, @Param("expiresAt") Instant expiresAt);
+
+    @Query("SELECT a.userId AS userId, a.moduleId AS moduleId FROM Access a WHERE a.userId IN :userIds AND a.status = :status")
+    List<UserModuleRow> findActiveModuleRowsByUserIds(@Param("userIds") Collection<String> userIds, @Param("status") String status);
+
+    @Query(value = "UPDATE accesses SET status = 'EXPIRADO', ended_at = :now " +
+            "WHERE id IN (SELECT id FROM accesses WHERE status = 'ATIVO' AND expires_at <= :now " +
+            "ORDER BY expires_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING user_id AS \"userId\", module_id AS \"moduleId\", request_protocol AS \"requestProtocol\", " +
+            "expires_at AS \"expiresAt\"", nativeQuery = true)
+    List<ExpiredAccessRow> expireDueBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
+
+    @Query(value = "UPDATE accesses SET status = 'REVOGADO', ended_at = :now " +
+            "WHERE id IN (SELECT id FROM accesses WHERE module_id = :moduleId AND status = 'ATIVO' " +
+            "ORDER BY user_id, id LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING user_id AS \"userId\", module_id AS \"moduleId\", request_protocol AS \"requestProtocol\", " +
+            "expires_at AS \"expiresAt\"", nativeQuery = true)
+    List<RevokedAccessRow> revokeModuleBatch(@Param("moduleId") String moduleId, @Param("now") Instant now,
+                                             @Param("batchSize") int batchSize);
+
+    @Query(value = "WITH RECURSIVE lineage(item_id, user_id, module_id, protocol) AS (" +
+            "SELECT i.access_id, i.user_id, i.module_id, i.request_protocol FROM recertification_items i " +
+            "WHERE i.campaign_id = :campaignId AND i.access_id IN (:itemIds) " +
+            "UNION SELECT l.item_id, l.user_id, l.module_id, e.request_protocol FROM lineage l " +
+            "JOIN request_events e ON e.event_type = 'REQUEST_RENEWED' AND e.detail = l.protocol) " +
+            "UPDATE accesses a SET status = 'REVOGADO', ended_at = :now FROM lineage l " +
+            "WHERE a.user_id = l.user_id AND a.module_id = l.module_id AND a.request_protocol = l.protocol AND a.status = 'ATIVO' " +
+            "RETURNING l.item_id AS \"itemId\", a.user_id AS \"userId\", a.module_id AS \"moduleId\", " +
+            "a.request_protocol AS \"requestProtocol\", a.expires_at AS \"expiresAt\"", nativeQuery = true)
+    List<RecertifiedAccessRow> revokeRecertificationItems(@Param("campaignId") Long campaignId,
+                                                          @Param("itemIds") Collection<Long> itemIds, @Param("now") Instant now);
+
+    @Query("SELECT MIN(a.expiresAt) FROM Access a WHERE a.status = :status AND a.expiresAt <= :now")
+    Optional<Instant> findOldestDueExpiry(@Param("status") String status, @Param("now") Instant now);
+
+    @Query(value = "SELECT a.id AS \"id\", a.user_id AS \"userId\", a.module_id AS \"moduleId\", a.status AS \"status\", " +
+            "a.request_protocol AS \"requestProtocol\", a.expires_at AS \"expiresAt\", " +
+            "CAST(CAST(a.change_xid AS text) AS bigint) AS \"changeXid\" FROM accesses a " +
+            "WHERE (a.change_xid, a.id) > (CAST(CAST(:afterXid AS text) AS xid8), :afterId) " +
+            "AND a.change_xid < pg_snapshot_xmin(pg_current_snapshot()) " +
+            "ORDER BY a.change_xid, a.id LIMIT :limit", nativeQuery = true)
+    List<AccessChangeRow> findChangesAfter(@Param("afterXid") long afterXid, @Param("afterId") long afterId,
+                                           @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM accesses a WHERE a.user_id = :userId AND a.valid_during @> CAST(:at AS timestamptz) " +
+            "ORDER BY a.module_id, a.granted_at", nativeQuery = true)
+    List<Access> findHeldByUserAt(@Param("userId") String userId, @Param("at") Instant at);
+
+    @Query(value = "SELECT * FROM accesses a WHERE a.module_id = :moduleId AND a.valid_during @> CAST(:at AS timestamptz) " +
+            "ORDER BY a.user_id, a.granted_at", nativeQuery = true)
+    List<Access> findHeldByModuleAt(@Param("moduleId") String moduleId, @Param("at") Instant at);
+
+    @Query(value = "SELECT a.id AS \"id\", a.user_id AS \"userId\", a.request_protocol AS \"requestProtocol\", " +
+            "a.granted_at AS \"grantedAt\", a.expires_at AS \"expiresAt\" FROM accesses a " +
+            "WHERE a.module_id = :moduleId AND a.status = 'ATIVO' AND (a.user_id, a.id) > (:afterUserId, :afterId) " +
+            "ORDER BY a.user_id, a.id LIMIT :limit", nativeQuery = true)
+    List<ModuleHolderRow> findHoldersAfter(@Param("moduleId") String moduleId, @Param("afterUserId") String afterUserId,
+                                           @Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query(value = "SELECT sum(holder_count) FROM module_holder_counts WHERE module_id = :moduleId", nativeQuery = true)
+    Optional<Long> findHolderCount(@Param("moduleId") String moduleId);
+
+    @Query(value = "SELECT reconcile_module_holder_counts()", nativeQuery = true)
+    int reconcileHolderCounts();
+
+    interface ModuleHolderRow {
+        Long getId();
+
+        String getUserId();
+
+        String getRequestProtocol();
+
+        Instant getGrantedAt();
+
+        Instant getExpiresAt();
+    }
+
+    interface AccessChangeRow {
+        Long getId();
+
+        String getUserId();
+
+        String getModuleId();
+
+        String getStatus();
+
+        String getRequestProtocol();
+
+        Instant getExpiresAt();
+
+        Long getChangeXid();
+    }
+
+    interface ExpiredAccessRow {
+        String getUserId();
+
+        String getModuleId();
+
+        String getRequestProtocol();
+
+        Instant getExpiresAt();
+    }
+
+    interface RevokedAccessRow {
+        String getUserId();
+
+        String getModuleId();
+
+        String getRequestProtocol();
+
+        Instant getExpiresAt();
+    }
+
+    interface RecertifiedAccessRow extends RevokedAccessRow {
+        Long getItemId();
+    }
+
+    interface UserModuleRow {
+        String getUserId();
+
+        String getModuleId();
+    }
 }
 
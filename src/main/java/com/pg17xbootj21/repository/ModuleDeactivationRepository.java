@@ -0,0 +1,34 @@
+package com.pg17xbootj21.repository;
+
+import com.pg17xbootj21.model.ModuleDeactivation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface ModuleDeactivationRepository extends JpaRepository<ModuleDeactivation, Long> {
+
+    Optional<ModuleDeactivation> findFirstByModuleIdOrderByIdDesc(String moduleId);
+
+    Optional<ModuleDeactivation> findFirstByModuleIdAndStatus(String moduleId, String status);
+
+    Optional<ModuleDeactivation> findFirstByStatusOrderByIdAsc(String status);
+
+    @Query(value = "INSERT INTO module_deactivations (module_id, requested_by, status, total_count, revoked_count, started_at) " +
+            "VALUES (:moduleId, :requestedBy, 'EM_ANDAMENTO', :totalCount, 0, :startedAt) " +
+            "ON CONFLICT (module_id) WHERE status = 'EM_ANDAMENTO' DO NOTHING RETURNING id", nativeQuery = true)
+    Optional<Long> startIfNotRunning(@Param("moduleId") String moduleId, @Param("requestedBy") String requestedBy,
+                                     @Param("totalCount") long totalCount, @Param("startedAt") Instant startedAt);
+
+    @Modifying
+    @Query(value = "UPDATE module_deactivations d SET status = 'CONCLUIDA', revoked_count = total_count, finished_at = :now " +
+            "WHERE d.id = :id AND d.status = 'EM_ANDAMENTO' " +
+            "AND NOT EXISTS (SELECT 1 FROM accesses a WHERE a.module_id = d.module_id AND a.status = 'ATIVO')",
+            nativeQuery = true)
+    int completeIfDrained(@Param("id") Long id, @Param("now") Instant now);
+}
@@ -2,9 +2,20 @@ package com.pg17xbootj21.repository;
 
 import com.pg17xbootj21.model.Module;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ModuleRepository extends JpaRepository<Module, String> {
-}
 
+    @Query(value = "SELECT * FROM modules WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Module> lockById(@Param("id") String id);
+
+    @Query(value = "SELECT id FROM modules WHERE id IN (:ids) ORDER BY id FOR SHARE", nativeQuery = true)
+    List<String> lockSharedByIdIn(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,35 @@
+package com.pg17xbootj21.repository;
+
+import com.pg17xbootj21.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    @Query(value = "UPDATE outbox_events SET next_attempt_at = :leaseUntil WHERE id IN (" +
+            "SELECT id FROM outbox_events WHERE dispatched_at IS NULL AND next_attempt_at <= :now AND attempts < :maxAttempts " +
+            "ORDER BY next_attempt_at, id LIMIT :batchSize FOR UPDATE SKIP LOCKED) RETURNING *", nativeQuery = true)
+    List<OutboxEvent> claimDueBatch(@Param("batchSize") int batchSize, @Param("maxAttempts") int maxAttempts,
+                                    @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET dispatched_at = :dispatchedAt, last_error = NULL WHERE id IN (:ids)", nativeQuery = true)
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("dispatchedAt") Instant dispatchedAt);
+
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET attempts = attempts + 1, last_error = :error, " +
+            "next_attempt_at = :now + least(:initialBackoffMs * power(2, least(attempts, 30)), :maxBackoffMs) * interval '1 millisecond' " +
+            "WHERE id IN (:ids)", nativeQuery = true)
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("error") String error, @Param("now") Instant now,
+                   @Param("initialBackoffMs") long initialBackoffMs, @Param("maxBackoffMs") long maxBackoffMs);
+
+    @Query(value = "SELECT count(*) FROM outbox_events WHERE dispatched_at IS NULL AND attempts >= :maxAttempts", nativeQuery = true)
+    long countExhausted(@Param("maxAttempts") int maxAttempts);
+}
@@ -0,0 +1,129 @@
+package com.pg17xbootj21.repository;
+
+import com.pg17xbootj21.model.RecertificationCampaign;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecertificationCampaignRepository extends JpaRepository<RecertificationCampaign, Long> {
+
+    Optional<RecertificationCampaign> findFirstByStatusOrderByIdAsc(String status);
+
+    @Modifying
+    @Query(value = "INSERT INTO recertification_items (campaign_id, access_id, partition_key, user_id, module_id, " +
+            "department, request_protocol) " +
+            "SELECT :campaignId, a.id, CASE WHEN :partitionBy = 'DEPARTMENT' THEN coalesce(u.department, '') ELSE a.module_id END, " +
+            "a.user_id, a.module_id, u.department, a.request_protocol " +
+            "FROM accesses a JOIN users u ON u.id = a.user_id WHERE a.status = 'ATIVO'", nativeQuery = true)
+    int snapshotActiveAccesses(@Param("campaignId") Long campaignId, @Param("partitionBy") String partitionBy);
+
+    @Query(value = "SELECT i.access_id AS \"accessId\", i.user_id AS \"userId\", i.module_id AS \"moduleId\", " +
+            "i.department AS \"department\", i.request_protocol AS \"requestProtocol\", i.partition_key AS \"partitionKey\", " +
+            "i.decision AS \"decision\" FROM recertification_items i " +
+            "WHERE i.campaign_id = :campaignId AND i.access_id > :afterAccessId ORDER BY i.access_id LIMIT :limit",
+            nativeQuery = true)
+    List<RecertificationItemRow> findItemsAfter(@Param("campaignId") Long campaignId, @Param("afterAccessId") long afterAccessId,
+                                                @Param("limit") int limit);
+
+    @Query(value = "SELECT i.access_id AS \"accessId\", i.user_id AS \"userId\", i.module_id AS \"moduleId\", " +
+            "i.department AS \"department\", i.request_protocol AS \"requestProtocol\", i.partition_key AS \"partitionKey\", " +
+            "i.decision AS \"decision\" FROM recertification_items i " +
+            "WHERE i.campaign_id = :campaignId AND i.partition_key = :partition AND i.access_id > :afterAccessId " +
+            "ORDER BY i.access_id LIMIT :limit", nativeQuery = true)
+    List<RecertificationItemRow> findPartitionItemsAfter(@Param("campaignId") Long campaignId, @Param("partition") String partition,
+                                                         @Param("afterAccessId") long afterAccessId, @Param("limit") int limit);
+
+    @Query(value = "SELECT i.partition_key AS \"partition\", count(*) AS \"total\", " +
+            "count(*) FILTER (WHERE i.decision = 'MANTER') AS \"kept\", " +
+            "count(*) FILTER (WHERE i.decision = 'REVOGAR') AS \"revoked\", " +
+            "count(*) FILTER (WHERE i.decision IS NULL) AS \"pending\", " +
+            "count(*) FILTER (WHERE i.outcome = 'SEM_ACESSO') AS \"missing\" " +
+            "FROM recertification_items i WHERE i.campaign_id = :campaignId " +
+            "GROUP BY i.partition_key ORDER BY i.partition_key", nativeQuery = true)
+    List<PartitionSummaryRow> summarizePartitions(@Param("campaignId") Long campaignId);
+
+    @Modifying
+    @Query(value = "UPDATE recertification_items SET decision = :decision, decided_by = :decidedBy, decided_at = :now " +
+            "WHERE campaign_id = :campaignId AND partition_key = :partition " +
+            "AND EXISTS (SELECT 1 FROM recertification_campaigns c WHERE c.id = :campaignId AND c.status = 'ABERTA' FOR SHARE)",
+            nativeQuery = true)
+    int decidePartition(@Param("campaignId") Long campaignId, @Param("partition") String partition,
+                        @Param("decision") String decision, @Param("decidedBy") String decidedBy, @Param("now") Instant now);
+
+    @Modifying
+    @Query(value = "UPDATE recertification_items SET decision = :decision, decided_by = :decidedBy, decided_at = :now " +
+            "WHERE campaign_id = :campaignId AND access_id IN (:accessIds) " +
+            "AND EXISTS (SELECT 1 FROM recertification_campaigns c WHERE c.id = :campaignId AND c.status = 'ABERTA' FOR SHARE)",
+            nativeQuery = true)
+    int decideItems(@Param("campaignId") Long campaignId, @Param("accessIds") Collection<Long> accessIds,
+                    @Param("decision") String decision, @Param("decidedBy") String decidedBy, @Param("now") Instant now);
+
+    @Modifying
+    @Query(value = "UPDATE recertification_items SET decision = 'REVOGAR', decided_by = :decidedBy, decided_at = :now " +
+            "WHERE campaign_id = :campaignId AND decision IS NULL", nativeQuery = true)
+    int revokeUndecided(@Param("campaignId") Long campaignId, @Param("decidedBy") String decidedBy, @Param("now") Instant now);
+
+    @Query(value = "UPDATE recertification_items SET applied_at = :now " +
+            "WHERE campaign_id = :campaignId AND access_id IN (SELECT access_id FROM recertification_items " +
+            "WHERE campaign_id = :campaignId AND decision = 'REVOGAR' AND applied_at IS NULL " +
+            "ORDER BY access_id LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING access_id", nativeQuery = true)
+    List<Long> claimRevocations(@Param("campaignId") Long campaignId, @Param("now") Instant now,
+                                @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = "UPDATE recertification_items SET outcome = :outcome " +
+            "WHERE campaign_id = :campaignId AND access_id IN (:itemIds)", nativeQuery = true)
+    int markOutcome(@Param("campaignId") Long campaignId, @Param("itemIds") Collection<Long> itemIds,
+                    @Param("outcome") String outcome);
+
+    @Query(value = "SELECT count(*) FROM recertification_items WHERE campaign_id = :campaignId AND outcome = 'REVOGADO'",
+            nativeQuery = true)
+    long countRevoked(@Param("campaignId") Long campaignId);
+
+    @Modifying
+    @Query(value = "UPDATE recertification_campaigns c SET status = 'ENCERRADA', closed_at = :now, " +
+            "revoked_count = (SELECT count(*) FROM recertification_items i WHERE i.campaign_id = c.id AND i.outcome = 'REVOGADO') " +
+            "WHERE c.id = :id AND c.status = 'ENCERRANDO' " +
+            "AND NOT EXISTS (SELECT 1 FROM recertification_items i WHERE i.campaign_id = c.id " +
+            "AND i.decision = 'REVOGAR' AND i.applied_at IS NULL)", nativeQuery = true)
+    int completeIfApplied(@Param("id") Long id, @Param("now") Instant now);
+
+    interface RecertificationItemRow {
+        Long getAccessId();
+
+        String getUserId();
+
+        String getModuleId();
+
+        String getDepartment();
+
+        String getRequestProtocol();
+
+        String getPartitionKey();
+
+        String getDecision();
+    }
+
+    interface PartitionSummaryRow {
+        String getPartition();
+
+        long getTotal();
+
+        long getKept();
+
+        long getRevoked();
+
+        long getPending();
+
+        long getMissing();
+    }
+}
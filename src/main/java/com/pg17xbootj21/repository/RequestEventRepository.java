@@ -0,0 +1,19 @@
+package com.pg17xbootj21.repository;
+
+import com.pg17xbootj21.model.RequestEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RequestEventRepository extends JpaRepository<RequestEvent, Long> {
+    List<RequestEvent> findByRequestProtocolInOrderByIdAsc(Collection<String> requestProtocols);
+
+    @Query(value = "SELECT DISTINCT request_protocol FROM request_events WHERE request_protocol > :afterProtocol " +
+            "ORDER BY request_protocol LIMIT :batchSize", nativeQuery = true)
+    List<String> findProtocolsAfter(@Param("afterProtocol") String afterProtocol, @Param("batchSize") int batchSize);
+}
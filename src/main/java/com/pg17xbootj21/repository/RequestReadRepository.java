@@ -0,0 +1,310 @@
+package com.pg17xbootj21.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Repository
+public class RequestReadRepository {
+
+    private static final String SEARCH_FILTER = " WHERE r.user_id = :userId" +
+            " AND (CAST(:status AS VARCHAR) IS NULL OR r.status = :status)" +
+            " AND (CAST(:urgent AS BOOLEAN) IS NULL OR r.urgent = :urgent)" +
+            " AND (CAST(:startAt AS TIMESTAMP) IS NULL OR r.created_at >= :startAt)" +
+            " AND (CAST(:endBefore AS TIMESTAMP) IS NULL OR r.created_at < :endBefore)" +
+            " AND (CAST(:pattern AS VARCHAR) IS NULL OR r.search_document LIKE :pattern" +
+            " OR r.search_vector @@ plainto_tsquery('portuguese', :query))";
+    private static final String SEARCH_RANK = "ts_rank(r.search_vector, plainto_tsquery('portuguese', :query))" +
+            " + word_similarity(:query, r.search_document)";
+    private static final String KEYSET_ORDER = " ORDER BY r.created_at DESC, r.protocol LIMIT :limit";
+    public static final List<String> SUMMARY_FIELDS = List.of("protocol", "modules", "moduleNames", "status",
+            "justification", "urgent", "createdAt", "expiresAt", "denialReason");
+    public static final List<String> DETAILS_FIELDS = List.of("protocol", "userId", "userDepartment", "modules",
+            "status", "justification", "urgent", "createdAt", "expiresAt", "denialReason", "history");
+
+    private static final Map<String, String> FIELD_COLUMNS = Map.of(
+            "modules", "r.module_ids",
+            "moduleNames", "r.module_names",
+            "status", "r.status",
+            "justification", "r.justification",
+            "urgent", "r.urgent",
+            "expiresAt", "r.expires_at",
+            "denialReason", "r.denial_reason",
+            "userId", "r.user_id",
+            "userDepartment", "r.user_department");
+
+    private static final String EXPORT_COLUMNS = "SELECT r.protocol, r.user_id, r.user_department, r.status," +
+            " r.justification, r.urgent, r.created_at, r.expires_at, r.denial_reason, r.module_ids, r.module_names" +
+            " FROM request_summary r";
+
+    private static final RowMapper<RequestExportRow> EXPORT_MAPPER = (rs, rowNum) -> new RequestExportRow(
+            rs.getString("protocol"),
+            rs.getString("user_id"),
+            rs.getString("user_department"),
+            Arrays.asList((String[]) rs.getArray("module_ids").getArray()),
+            Arrays.asList((String[]) rs.getArray("module_names").getArray()),
+            rs.getString("status"),
+            rs.getString("justification"),
+            rs.getBoolean("urgent"),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("expires_at").toInstant(),
+            rs.getString("denial_reason"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate exportTemplate;
+
+    public RequestReadRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                 @Value("${requests.export.fetch-size:500}") int exportFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        JdbcTemplate streamingTemplate = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        streamingTemplate.setFetchSize(exportFetchSize);
+        this.exportTemplate = new NamedParameterJdbcTemplate(streamingTemplate);
+    }
+
+    public Page<RequestSummaryRow> search(String userId, String status, Boolean urgent, Instant startAt, Instant endBefore,
+                                          String pattern, String query, Set<String> fields, Pageable pageable) {
+        return findPage(" ORDER BY r.created_at DESC, r.protocol",
+                filterParameters(userId, status, urgent, startAt, endBefore, pattern, query), fields, pageable);
+    }
+
+    public Page<RequestSummaryRow> searchRanked(String userId, String status, Boolean urgent, Instant startAt, Instant endBefore,
+                                                String pattern, String query, Set<String> fields, Pageable pageable) {
+        return findPage(" ORDER BY " + SEARCH_RANK + " DESC, r.created_at DESC, r.protocol",
+                filterParameters(userId, status, urgent, startAt, endBefore, pattern, query), fields, pageable);
+    }
+
+    public List<RequestSummaryRow> searchFirst(String userId, String status, Boolean urgent, Instant startAt, Instant endBefore,
+                                               String pattern, String query, Set<String> fields, int limit) {
+        MapSqlParameterSource parameters = filterParameters(userId, status, urgent, startAt, endBefore, pattern, query)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(summaryColumns(fields) + " FROM request_summary r" + SEARCH_FILTER + KEYSET_ORDER,
+                parameters, summaryMapper(fields));
+    }
+
+    public List<RequestSummaryRow> searchAfter(String userId, String status, Boolean urgent, Instant startAt, Instant endBefore,
+                                               String pattern, String query, Instant cursorCreatedAt, String cursorProtocol,
+                                               Set<String> fields, int limit) {
+        MapSqlParameterSource parameters = filterParameters(userId, status, urgent, startAt, endBefore, pattern, query)
+                .addValue("cursorCreatedAt", Timestamp.from(cursorCreatedAt), Types.TIMESTAMP)
+                .addValue("cursorProtocol", cursorProtocol, Types.VARCHAR)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(summaryColumns(fields) + " FROM request_summary r" + SEARCH_FILTER +
+                " AND r.created_at <= :cursorCreatedAt" +
+                " AND (r.created_at < :cursorCreatedAt OR r.protocol > :cursorProtocol)" +
+                KEYSET_ORDER, parameters, summaryMapper(fields));
+    }
+
+    public Optional<RequestDetailsRow> findDetails(String protocol, String userId) {
+        return findDetails(protocol, userId, null, null);
+    }
+
+    public Optional<RequestDetailsRow> findDetails(String protocol, String userId, Set<String> fields, Integer historyLimit) {
+        Set<String> selected = fields == null ? Set.copyOf(DETAILS_FIELDS) : fields;
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("protocol", protocol)
+                .addValue("userId", userId);
+        List<RequestDetailsRow> rows = jdbcTemplate.query(
+                detailsColumns(selected) + " FROM requests r WHERE r.protocol = :protocol AND r.user_id = :userId",
+                parameters, detailsMapper(selected));
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> modules = selected.contains("modules")
+                ? findModules(List.of(protocol)).getOrDefault(protocol, Collections.emptyList())
+                : Collections.emptyList();
+        List<RequestHistoryRow> history = Collections.emptyList();
+        if (selected.contains("history") && (historyLimit == null || historyLimit > 0)) {
+            String historyQuery = historyLimit == null
+                    ? "SELECT h.date, h.action FROM request_history h WHERE h.request_protocol = :protocol ORDER BY h.id"
+                    : "SELECT h.date, h.action FROM (SELECT h.id, h.date, h.action FROM request_history h" +
+                    " WHERE h.request_protocol = :protocol ORDER BY h.id DESC LIMIT :historyLimit) h ORDER BY h.id";
+            history = jdbcTemplate.query(historyQuery, parameters.addValue("historyLimit", historyLimit, Types.INTEGER),
+                    (rs, rowNum) -> new RequestHistoryRow(rs.getTimestamp("date").toInstant(), rs.getString("action")));
+        }
+        return Optional.of(rows.get(0).withCollections(modules, history));
+    }
+
+    public long findUserVersion(String userId) {
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT v.version FROM user_request_versions v WHERE v.user_id = :userId), 0)",
+                new MapSqlParameterSource("userId", userId), Long.class);
+        return version == null ? 0 : version;
+    }
+
+    public RequestDashboardRow findDashboard(String userId, Instant expiringBefore) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId, Types.VARCHAR)
+                .addValue("expiringBefore", Timestamp.from(expiringBefore), Types.TIMESTAMP);
+        return jdbcTemplate.queryForObject(
+                "SELECT coalesce(c.active_count, 0) AS active_count, coalesce(c.denied_count, 0) AS denied_count," +
+                        " coalesce(c.cancelled_count, 0) AS cancelled_count, coalesce(c.expired_count, 0) AS expired_count," +
+                        " coalesce(c.urgent_count, 0) AS urgent_count," +
+                        " coalesce(c.active_module_count, 0) AS active_module_count," +
+                        " (SELECT count(*) FROM accesses a WHERE a.user_id = :userId AND a.status = 'ATIVO'" +
+                        " AND a.expires_at < :expiringBefore) AS expiring_count" +
+                        " FROM (SELECT 1) self LEFT JOIN user_request_counters c ON c.user_id = :userId",
+                parameters,
+                (rs, rowNum) -> new RequestDashboardRow(
+                        rs.getLong("active_count"),
+                        rs.getLong("denied_count"),
+                        rs.getLong("cancelled_count"),
+                        rs.getLong("expired_count"),
+                        rs.getLong("urgent_count"),
+                        rs.getLong("expiring_count"),
+                        rs.getLong("active_module_count")));
+    }
+
+    public void streamByUser(String userId, Consumer<RequestExportRow> consumer) {
+        exportTemplate.query(EXPORT_COLUMNS + " WHERE r.user_id = :userId ORDER BY r.created_at DESC, r.protocol",
+                new MapSqlParameterSource("userId", userId),
+                rs -> {
+                    consumer.accept(EXPORT_MAPPER.mapRow(rs, rs.getRow()));
+                });
+    }
+
+    public void streamByDepartment(String department, Consumer<RequestExportRow> consumer) {
+        exportTemplate.query(EXPORT_COLUMNS + " WHERE r.user_department = :department ORDER BY r.created_at DESC, r.protocol",
+                new MapSqlParameterSource("department", department),
+                rs -> {
+                    consumer.accept(EXPORT_MAPPER.mapRow(rs, rs.getRow()));
+                });
+    }
+
+    private Page<RequestSummaryRow> findPage(String orderBy, MapSqlParameterSource parameters, Set<String> fields,
+                                             Pageable pageable) {
+        parameters.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+        List<RequestSummaryRow> content = jdbcTemplate.query(
+                summaryColumns(fields) + " FROM request_summary r" + SEARCH_FILTER + orderBy + " LIMIT :limit OFFSET :offset",
+                parameters, summaryMapper(fields));
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM request_summary r" + SEARCH_FILTER,
+                parameters, Long.class);
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    private String summaryColumns(Set<String> fields) {
+        StringBuilder columns = new StringBuilder("SELECT r.protocol, r.created_at");
+        for (String field : SUMMARY_FIELDS) {
+            if (FIELD_COLUMNS.containsKey(field) && (fields == null || fields.contains(field))) {
+                columns.append(", ").append(FIELD_COLUMNS.get(field));
+            }
+        }
+        return columns.toString();
+    }
+
+    private String detailsColumns(Set<String> fields) {
+        StringBuilder columns = new StringBuilder("SELECT r.protocol, r.created_at");
+        for (String field : DETAILS_FIELDS) {
+            if (FIELD_COLUMNS.containsKey(field) && !field.equals("modules") && fields.contains(field)) {
+                columns.append(", ").append(FIELD_COLUMNS.get(field));
+            }
+        }
+        return columns.toString();
+    }
+
+    private RowMapper<RequestSummaryRow> summaryMapper(Set<String> fields) {
+        Set<String> selected = fields == null ? Set.copyOf(SUMMARY_FIELDS) : fields;
+        return (rs, rowNum) -> new RequestSummaryRow(
+                rs.getString("protocol"),
+                selected.contains("modules") ? Arrays.asList((String[]) rs.getArray("module_ids").getArray()) : Collections.emptyList(),
+                selected.contains("moduleNames") ? Arrays.asList((String[]) rs.getArray("module_names").getArray()) : Collections.emptyList(),
+                selected.contains("status") ? rs.getString("status") : null,
+                selected.contains("justification") ? rs.getString("justification") : null,
+                selected.contains("urgent") ? rs.getBoolean("urgent") : null,
+                rs.getTimestamp("created_at").toInstant(),
+                selected.contains("expiresAt") ? rs.getTimestamp("expires_at").toInstant() : null,
+                selected.contains("denialReason") ? rs.getString("denial_reason") : null);
+    }
+
+    private RowMapper<RequestDetailsRow> detailsMapper(Set<String> selected) {
+        return (rs, rowNum) -> new RequestDetailsRow(
+                rs.getString("protocol"),
+                selected.contains("userId") ? rs.getString("user_id") : null,
+                selected.contains("userDepartment") ? rs.getString("user_department") : null,
+                Collections.emptyList(),
+                selected.contains("status") ? rs.getString("status") : null,
+                selected.contains("justification") ? rs.getString("justification") : null,
+                selected.contains("urgent") ? rs.getBoolean("urgent") : null,
+                rs.getTimestamp("created_at").toInstant(),
+                selected.contains("expiresAt") ? rs.getTimestamp("expires_at").toInstant() : null,
+                selected.contains("denialReason") ? rs.getString("denial_reason") : null,
+                Collections.emptyList());
+    }
+
+    private Map<String, List<String>> findModules(Collection<String> protocols) {
+        Map<String, List<String>> modules = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT rm.request_protocol, rm.module_id FROM request_modules rm WHERE rm.request_protocol IN (:protocols)",
+                new MapSqlParameterSource("protocols", protocols),
+                rs -> {
+                    modules.computeIfAbsent(rs.getString("request_protocol"), protocol -> new ArrayList<>())
+                            .add(rs.getString("module_id"));
+                });
+        return modules;
+    }
+
+    private MapSqlParameterSource filterParameters(String userId, String status, Boolean urgent, Instant startAt,
+                                                   Instant endBefore, String pattern, String query) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId, Types.VARCHAR)
+                .addValue("status", status, Types.VARCHAR)
+                .addValue("urgent", urgent, Types.BOOLEAN)
+                .addValue("startAt", startAt == null ? null : Timestamp.from(startAt), Types.TIMESTAMP)
+                .addValue("endBefore", endBefore == null ? null : Timestamp.from(endBefore), Types.TIMESTAMP)
+                .addValue("pattern", pattern, Types.VARCHAR)
+                .addValue("query", query, Types.VARCHAR);
+    }
+
+    public record RequestSummaryRow(String protocol, List<String> modules, List<String> moduleNames, String status,
+                                    String justification, Boolean urgent, Instant createdAt, Instant expiresAt,
+                                    String denialReason) {
+        public RequestSummaryRow {
+            modules = List.copyOf(modules);
+            moduleNames = List.copyOf(moduleNames);
+        }
+    }
+
+    public record RequestDetailsRow(String protocol, String userId, String userDepartment, List<String> modules,
+                                    String status, String justification, Boolean urgent, Instant createdAt,
+                                    Instant expiresAt, String denialReason, List<RequestHistoryRow> history) {
+        public RequestDetailsRow {
+            modules = List.copyOf(modules);
+            history = List.copyOf(history);
+        }
+
+        RequestDetailsRow withCollections(List<String> moduleIds, List<RequestHistoryRow> entries) {
+            return new RequestDetailsRow(protocol, userId, userDepartment, moduleIds, status, justification, urgent,
+                    createdAt, expiresAt, denialReason, entries);
+        }
+    }
+
+    public record RequestHistoryRow(Instant date, String action) {
+    }
+
+    public record RequestExportRow(String protocol, String userId, String userDepartment, List<String> modules,
+                                   List<String> moduleNames, String status, String justification, boolean urgent,
+                                   Instant createdAt, Instant expiresAt, String denialReason) {
+    }
+
+    public record RequestDashboardRow(long active, long denied, long cancelled, long expired, long urgent,
+                                      long expiringSoon, long activeModules) {
+    }
+}
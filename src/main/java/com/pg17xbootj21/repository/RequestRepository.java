@@ -1,18 +1,150 @@
 package com.pg17xbootj21.repository;
 
 import com.pg17xbootj21.model.Request;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RequestRepository extends JpaRepository<Request, String> {
+    @EntityGraph(attributePaths = "modules")
     Optional<Request> findByProtocolAndUserId(String protocol, String userId);
-    
+
+    @EntityGraph(attributePaths = "modules")
     List<Request> findByUserId(String userId);
     
     List<Request> findByUserIdAndStatus(String userId, String status);
-}
 
+    @Query(value = "SELECT CASE r.status WHEN 'PENDENTE' THEN 'PENDING' ELSE 'REQUEST' END AS \"source\", " +
+            "rm.module_id AS \"moduleId\" FROM requests r " +
+            "JOIN request_modules rm ON rm.request_protocol = r.protocol " +
+            "WHERE r.user_id = :userId AND r.status IN ('ATIVO', 'PENDENTE') " +
+            "UNION ALL " +
+            "SELECT 'ACCESS' AS \"source\", a.module_id AS \"moduleId\" FROM accesses a " +
+            "WHERE a.user_id = :userId AND a.status = 'ATIVO'", nativeQuery = true)
+    List<ActiveModuleRow> findActiveModuleRows(@Param("userId") String userId);
+
+    @Query(value = "SELECT nextval('request_protocol_seq')", nativeQuery = true)
+    long nextProtocolSequence();
+
+    @Query(value = "SELECT nextval('request_protocol_seq') FROM generate_series(1, :count)", nativeQuery = true)
+    List<Long> nextProtocolSequences(@Param("count") int count);
+
+    @Query("SELECT DISTINCT r FROM Request r LEFT JOIN FETCH r.modules WHERE r.protocol IN :protocols AND r.status = :status ORDER BY r.protocol")
+    List<Request> findWithModulesByProtocolInAndStatus(@Param("protocols") Collection<String> protocols, @Param("status") String status);
+
+    @Query("SELECT r.status AS status, r.version AS version FROM Request r WHERE r.protocol = :protocol AND r.userId = :userId")
+    Optional<RequestState> findStateByProtocolAndUserId(@Param("protocol") String protocol, @Param("userId") String userId);
+
+    // UPDATE ... RETURNING is read as a result set; @Modifying would run it through executeUpdate and drop the returned version.
+    @Query(value = "UPDATE requests SET status = :newStatus, version = version + 1 " +
+            "WHERE protocol = :protocol AND user_id = :userId AND status = :expectedStatus AND version = :expectedVersion " +
+            "RETURNING version", nativeQuery = true)
+    Optional<Long> compareAndSetStatus(@Param("protocol") String protocol, @Param("userId") String userId,
+                                       @Param("expectedStatus") String expectedStatus, @Param("expectedVersion") long expectedVersion,
+                                       @Param("newStatus") String newStatus);
+
+    @Query(value = "UPDATE requests SET version = version + 1 " +
+            "WHERE status = :status AND (protocol, version) IN " +
+            "(SELECT * FROM unnest(CAST(:protocols AS varchar[]), CAST(:versions AS bigint[]))) " +
+            "RETURNING protocol", nativeQuery = true)
+    List<String> compareAndSetVersions(@Param("protocols") String[] protocols, @Param("versions") Long[] versions,
+                                       @Param("status") String status);
+
+    @Modifying
+    @Query(value = "UPDATE requests SET status = :status, denial_reason = :denialReason, version = version + 1 " +
+            "WHERE protocol = :protocol AND (status IS DISTINCT FROM :status OR denial_reason IS DISTINCT FROM :denialReason)",
+            nativeQuery = true)
+    void overwriteProjectedStatus(@Param("protocol") String protocol, @Param("status") String status,
+                                  @Param("denialReason") String denialReason);
+
+    @Query(value = "SELECT rm.request_protocol AS protocol, m.active AS active FROM request_modules rm " +
+            "JOIN modules m ON m.id = rm.module_id WHERE rm.request_protocol IN (:protocols) FOR SHARE OF m", nativeQuery = true)
+    List<ModuleStateRow> lockRequestedModuleStates(@Param("protocols") Collection<String> protocols);
+
+    @Query(value = "UPDATE requests SET status = 'EXPIRADO', version = version + 1 " +
+            "WHERE protocol IN (SELECT protocol FROM requests WHERE status = 'ATIVO' AND expires_at <= :now " +
+            "ORDER BY expires_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING protocol AS \"protocol\", user_id AS \"userId\", expires_at AS \"expiresAt\"", nativeQuery = true)
+    List<ExpiredRequestRow> expireDueBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
+
+    @Query(value = "UPDATE requests SET claimed_by = :approverId, claimed_until = :claimedUntil " +
+            "WHERE protocol IN (SELECT protocol FROM requests WHERE status = 'PENDENTE' AND user_id <> :approverId " +
+            "AND (claimed_until IS NULL OR claimed_until <= :now) " +
+            "ORDER BY urgent DESC, created_at, protocol LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING protocol", nativeQuery = true)
+    List<String> claimPendingBatch(@Param("approverId") String approverId, @Param("now") Instant now,
+                                   @Param("claimedUntil") Instant claimedUntil, @Param("batchSize") int batchSize);
+
+    @Query(value = "UPDATE requests SET status = 'ATIVO', expires_at = :expiresAt, version = version + 1, " +
+            "claimed_by = NULL, claimed_until = NULL " +
+            "WHERE protocol IN (:protocols) AND status = 'PENDENTE' AND claimed_by = :approverId AND claimed_until > :now " +
+            "RETURNING protocol", nativeQuery = true)
+    List<String> approveClaimed(@Param("protocols") Collection<String> protocols, @Param("approverId") String approverId,
+                                @Param("now") Instant now, @Param("expiresAt") Instant expiresAt);
+
+    @Query(value = "UPDATE requests SET status = :newStatus, denial_reason = :denialReason, version = version + 1, " +
+            "claimed_by = NULL, claimed_until = NULL " +
+            "WHERE protocol IN (:protocols) AND status = 'PENDENTE' AND claimed_by = :approverId AND claimed_until > :now " +
+            "RETURNING protocol", nativeQuery = true)
+    List<String> decideClaimed(@Param("protocols") Collection<String> protocols, @Param("approverId") String approverId,
+                               @Param("now") Instant now, @Param("newStatus") String newStatus,
+                               @Param("denialReason") String denialReason);
+
+    @Query(value = "SELECT r.protocol AS \"protocol\", r.user_id AS \"userId\", r.user_department AS \"userDepartment\", " +
+            "rm.module_id AS \"moduleId\" FROM requests r JOIN request_modules rm ON rm.request_protocol = r.protocol " +
+            "WHERE r.protocol IN (:protocols) AND r.status = 'PENDENTE' AND r.claimed_by = :approverId AND r.claimed_until > :now " +
+            "ORDER BY r.urgent DESC, r.created_at, r.protocol", nativeQuery = true)
+    List<ClaimedModuleRow> findClaimedModuleRows(@Param("protocols") Collection<String> protocols,
+                                                 @Param("approverId") String approverId, @Param("now") Instant now);
+
+    @Query("SELECT MIN(r.expiresAt) FROM Request r WHERE r.status = :status AND r.expiresAt <= :now")
+    Optional<Instant> findOldestDueExpiry(@Param("status") String status, @Param("now") Instant now);
+
+    @Query(value = "SELECT reconcile_user_request_counters()", nativeQuery = true)
+    int reconcileCounters();
+
+    interface RequestState {
+        String getStatus();
+
+        long getVersion();
+    }
+
+    interface ExpiredRequestRow {
+        String getProtocol();
+
+        String getUserId();
+
+        Instant getExpiresAt();
+    }
+
+    interface ActiveModuleRow {
+        String getSource();
+
+        String getModuleId();
+    }
+
+    interface ModuleStateRow {
+        String getProtocol();
+
+        boolean getActive();
+    }
+
+    interface ClaimedModuleRow {
+        String getProtocol();
+
+        String getUserId();
+
+        String getUserDepartment();
+
+        String getModuleId();
+    }
+}
@@ -0,0 +1,33 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.repository.AccessRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class AccessAuditService {
+
+    private final AccessRepository accessRepository;
+    private final UserService userService;
+
+    public AccessAuditService(AccessRepository accessRepository, UserService userService) {
+        this.accessRepository = accessRepository;
+        this.userService = userService;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Access> findHeldAt(String callerId, String userId, String moduleId, Instant at) {
+        userService.requireTiAdministrator(callerId, "run access audits");
+        if ((userId == null) == (moduleId == null)) {
+            throw new RuntimeException("Exactly one of userId or moduleId is required");
+        }
+
+        return userId != null
+                ? accessRepository.findHeldByUserAt(userId, at)
+                : accessRepository.findHeldByModuleAt(moduleId, at);
+    }
+}
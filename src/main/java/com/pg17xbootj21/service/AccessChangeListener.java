@@ -0,0 +1,97 @@
+package com.pg17xbootj21.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Component
+@ConditionalOnProperty(name = "access.check.listen.enabled", havingValue = "true")
+public class AccessChangeListener {
+
+    private static final String CHANGES_CHANNEL = "access_changes";
+    private static final String EVENTS_CHANNEL = "access_events";
+    private static final String VERSIONS_CHANNEL = "request_versions";
+
+    private final DataSource dataSource;
+    private final AccessCheckService accessCheckService;
+    private final AccessEventStream accessEventStream;
+    private final RequestCacheService requestCacheService;
+    private final long reconnectDelayMs;
+    private volatile boolean running;
+    private Thread thread;
+
+    public AccessChangeListener(DataSource dataSource, AccessCheckService accessCheckService,
+                                AccessEventStream accessEventStream, RequestCacheService requestCacheService,
+                                @Value("${access.check.listen.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.dataSource = dataSource;
+        this.accessCheckService = accessCheckService;
+        this.accessEventStream = accessEventStream;
+        this.requestCacheService = requestCacheService;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("access-change-listener").daemon().start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANGES_CHANNEL);
+                statement.execute("LISTEN " + EVENTS_CHANNEL);
+                statement.execute("LISTEN " + VERSIONS_CHANNEL);
+                accessCheckService.invalidateAll();
+                requestCacheService.startVersionTracking();
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) reconnectDelayMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            if (EVENTS_CHANNEL.equals(notification.getName())) {
+                                accessEventStream.publish(notification.getParameter());
+                            } else if (VERSIONS_CHANNEL.equals(notification.getName())) {
+                                requestCacheService.invalidateVersion(notification.getParameter());
+                            } else {
+                                accessCheckService.invalidate(notification.getParameter());
+                            }
+                        }
+                    }
+                }
+                requestCacheService.stopVersionTracking();
+                statement.execute("UNLISTEN *");
+            } catch (SQLException | RuntimeException e) {
+                requestCacheService.stopVersionTracking();
+                accessCheckService.invalidateAll();
+                accessEventStream.markGap();
+                pause();
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
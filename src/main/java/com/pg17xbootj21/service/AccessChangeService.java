@@ -0,0 +1,42 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.AccessChangeRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class AccessChangeService {
+
+    private final AccessRepository accessRepository;
+    private final UserService userService;
+
+    public AccessChangeService(AccessRepository accessRepository, UserService userService) {
+        this.accessRepository = accessRepository;
+        this.userService = userService;
+    }
+
+    @Transactional(readOnly = true)
+    public AccessChangeBatch findChanges(String userId, String since, int limit) {
+        userService.requireTiAdministrator(userId, "read access changes");
+
+        AccessChangeWatermark watermark = since == null || since.isBlank()
+                ? AccessChangeWatermark.initial()
+                : AccessChangeWatermark.decode(since.trim());
+        List<AccessChangeRow> rows = accessRepository.findChangesAfter(
+                watermark.getChangeXid(), watermark.getAccessId(), limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<AccessChangeRow> changes = hasMore ? rows.subList(0, limit) : rows;
+        if (!changes.isEmpty()) {
+            AccessChangeRow last = changes.get(changes.size() - 1);
+            watermark = new AccessChangeWatermark(last.getChangeXid(), last.getId());
+        }
+        return new AccessChangeBatch(changes, watermark.encode(), hasMore);
+    }
+
+    public record AccessChangeBatch(List<AccessChangeRow> changes, String watermark, boolean hasMore) {
+    }
+}
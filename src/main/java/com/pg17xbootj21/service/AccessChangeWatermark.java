@@ -0,0 +1,52 @@
+package com.pg17xbootj21.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class AccessChangeWatermark {
+
+    private static final String SEPARATOR = "|";
+
+    private final long changeXid;
+    private final long accessId;
+
+    public AccessChangeWatermark(long changeXid, long accessId) {
+        this.changeXid = changeXid;
+        this.accessId = accessId;
+    }
+
+    public static AccessChangeWatermark initial() {
+        return new AccessChangeWatermark(0, 0);
+    }
+
+    public static AccessChangeWatermark decode(String watermark) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new RuntimeException("Invalid watermark");
+            }
+            long changeXid = Long.parseLong(raw.substring(0, separator));
+            long accessId = Long.parseLong(raw.substring(separator + 1));
+            if (changeXid < 0 || accessId < 0) {
+                throw new RuntimeException("Invalid watermark");
+            }
+            return new AccessChangeWatermark(changeXid, accessId);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid watermark");
+        }
+    }
+
+    public String encode() {
+        String raw = changeXid + SEPARATOR + accessId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getChangeXid() {
+        return changeXid;
+    }
+
+    public long getAccessId() {
+        return accessId;
+    }
+}
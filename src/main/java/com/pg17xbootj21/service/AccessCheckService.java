@@ -0,0 +1,152 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Module;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.UserModuleRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class AccessCheckService {
+
+    private static final BitSet NO_MODULES = new BitSet();
+
+    private final AccessRepository accessRepository;
+    private final ModuleService moduleService;
+    private final int maxEntries;
+    private final long maxAgeNanos;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile Map<String, Integer> moduleBits;
+
+    public AccessCheckService(AccessRepository accessRepository, ModuleService moduleService,
+                              @Value("${access.check.max-entries:100000}") int maxEntries,
+                              @Value("${access.check.max-age-ms:300000}") long maxAgeMs) {
+        this.accessRepository = accessRepository;
+        this.moduleService = moduleService;
+        this.maxEntries = maxEntries;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+    }
+
+    public boolean hasActiveAccess(String userId, String moduleId) {
+        Integer bit = moduleBits().get(moduleId);
+        if (bit == null) {
+            return false;
+        }
+        BitSet modules = cached(userId);
+        if (modules == null) {
+            modules = load(List.of(userId)).get(userId);
+        }
+        return modules.get(bit);
+    }
+
+    public List<Boolean> hasActiveAccess(List<Check> checks) {
+        Map<String, BitSet> modulesByUser = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (Check check : checks) {
+            BitSet modules = cached(check.userId());
+            if (modules != null) {
+                modulesByUser.put(check.userId(), modules);
+            } else {
+                missing.add(check.userId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            modulesByUser.putAll(load(missing));
+        }
+
+        Map<String, Integer> bits = moduleBits();
+        List<Boolean> results = new ArrayList<>(checks.size());
+        for (Check check : checks) {
+            Integer bit = bits.get(check.moduleId());
+            results.add(bit != null && modulesByUser.get(check.userId()).get(bit));
+        }
+        return results;
+    }
+
+    public void invalidate(String userId) {
+        invalidations.incrementAndGet();
+        entries.remove(userId);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    private BitSet cached(String userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null || System.nanoTime() - entry.loadedAt() > maxAgeNanos) {
+            return null;
+        }
+        return entry.modules();
+    }
+
+    private Map<String, BitSet> load(Collection<String> userIds) {
+        long epoch = invalidations.get();
+        Map<String, Integer> bits = moduleBits();
+        Map<String, BitSet> modulesByUser = new HashMap<>();
+        for (UserModuleRow row : accessRepository.findActiveModuleRowsByUserIds(userIds, "ATIVO")) {
+            Integer bit = bits.get(row.getModuleId());
+            if (bit != null) {
+                modulesByUser.computeIfAbsent(row.getUserId(), id -> new BitSet(bits.size())).set(bit);
+            }
+        }
+
+        long loadedAt = System.nanoTime();
+        for (String userId : userIds) {
+            BitSet modules = modulesByUser.getOrDefault(userId, NO_MODULES);
+            modulesByUser.put(userId, modules);
+            evictIfFull();
+            entries.compute(userId, (key, current) -> invalidations.get() == epoch ? new Entry(modules, loadedAt) : current);
+        }
+        return modulesByUser;
+    }
+
+    private void evictIfFull() {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        Iterator<String> keys = entries.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private Map<String, Integer> moduleBits() {
+        Map<String, Integer> bits = moduleBits;
+        if (bits == null) {
+            synchronized (this) {
+                bits = moduleBits;
+                if (bits == null) {
+                    bits = new HashMap<>();
+                    for (Module module : moduleService.getAllModules()) {
+                        bits.put(module.getId(), bits.size());
+                    }
+                    moduleBits = bits;
+                }
+            }
+        }
+        return bits;
+    }
+
+    public record Check(String userId, String moduleId) {
+    }
+
+    private record Entry(BitSet modules, long loadedAt) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.pg17xbootj21.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class AccessEventStream {
+
+    private final ObjectMapper objectMapper;
+    private final Event[] buffer;
+    private final long heartbeatMs;
+    private final long timeoutMs;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final ExecutorService subscribers = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private long nextSequence;
+    private long gapSequence;
+
+    public AccessEventStream(ObjectMapper objectMapper,
+                             @Value("${access.stream.buffer-size:10000}") int bufferSize,
+                             @Value("${access.stream.heartbeat-ms:15000}") long heartbeatMs,
+                             @Value("${access.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.buffer = new Event[bufferSize];
+        this.heartbeatMs = heartbeatMs;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public void publish(String notification) {
+        try {
+            JsonNode node = objectMapper.readTree(notification);
+            append(new Event(node.get("id").asLong(), node.get("type").asText(), node.get("payload").toString()));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Invalid access event notification", e);
+        }
+    }
+
+    public void append(Event event) {
+        lock.lock();
+        try {
+            buffer[(int) (nextSequence % buffer.length)] = event;
+            nextSequence++;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void markGap() {
+        lock.lock();
+        try {
+            gapSequence = nextSequence;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(error -> open.set(false));
+
+        long cursor = resumeFrom(lastEventId);
+        subscriberCount.incrementAndGet();
+        subscribers.submit(() -> {
+            try {
+                stream(emitter, open, cursor);
+            } finally {
+                subscriberCount.decrementAndGet();
+            }
+        });
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.shutdownNow();
+    }
+
+    long resumeFrom(String lastEventId) {
+        lock.lock();
+        try {
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return nextSequence;
+            }
+            long eventId;
+            try {
+                eventId = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+            long oldest = oldestSequence();
+            for (long sequence = nextSequence - 1; sequence >= oldest; sequence--) {
+                if (buffer[(int) (sequence % buffer.length)].id() == eventId) {
+                    return sequence + 1;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Batch await(long cursor, long timeoutMs) throws InterruptedException {
+        lock.lock();
+        try {
+            if (cursor >= 0 && cursor == nextSequence) {
+                appended.await(timeoutMs, TimeUnit.MILLISECONDS);
+            }
+            long oldest = oldestSequence();
+            boolean lost = cursor < oldest;
+            List<Event> events = new ArrayList<>();
+            for (long sequence = Math.max(cursor, oldest); sequence < nextSequence; sequence++) {
+                events.add(buffer[(int) (sequence % buffer.length)]);
+            }
+            return new Batch(nextSequence, events, lost);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long oldestSequence() {
+        return Math.max(gapSequence, nextSequence - buffer.length);
+    }
+
+    private void stream(SseEmitter emitter, AtomicBoolean open, long cursor) {
+        try {
+            if (cursor < 0) {
+                emitter.send(SseEmitter.event().name("resync").data("Event history unavailable"));
+                cursor = resumeFrom(null);
+            }
+            while (open.get()) {
+                Batch batch = await(cursor, heartbeatMs);
+                if (batch.lost()) {
+                    emitter.send(SseEmitter.event().name("resync").data("Event history unavailable"));
+                }
+                if (batch.events().isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                }
+                for (Event event : batch.events()) {
+                    emitter.send(SseEmitter.event().id(String.valueOf(event.id())).name(event.type()).data(event.data()));
+                }
+                cursor = batch.next();
+            }
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    public record Event(long id, String type, String data) {
+    }
+
+    record Batch(long next, List<Event> events, boolean lost) {
+    }
+}
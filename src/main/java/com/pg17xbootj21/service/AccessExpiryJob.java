@@ -0,0 +1,25 @@
+package com.pg17xbootj21.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "access.expiry.enabled", havingValue = "true")
+public class AccessExpiryJob {
+
+    private final AccessExpiryService accessExpiryService;
+
+    public AccessExpiryJob(AccessExpiryService accessExpiryService) {
+        this.accessExpiryService = accessExpiryService;
+    }
+
+    @Scheduled(fixedDelayString = "${access.expiry.interval-ms:60000}")
+    public void expire() {
+        int expired;
+        do {
+            expired = accessExpiryService.expireBatch();
+        } while (expired == accessExpiryService.getBatchSize());
+        accessExpiryService.refreshLag();
+    }
+}
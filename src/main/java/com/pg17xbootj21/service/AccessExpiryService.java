@@ -0,0 +1,125 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.ExpiredAccessRow;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestHistoryRepository;
+import com.pg17xbootj21.repository.RequestRepository;
+import com.pg17xbootj21.repository.RequestRepository.ExpiredRequestRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Service
+public class AccessExpiryService {
+
+    private final AccessRepository accessRepository;
+    private final RequestRepository requestRepository;
+    private final RequestHistoryRepository requestHistoryRepository;
+    private final RequestEventRepository requestEventRepository;
+    private final OutboxService outboxService;
+    private final int batchSize;
+    private final Counter expiredAccesses;
+    private final Counter expiredRequests;
+    private final Timer batchTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public AccessExpiryService(AccessRepository accessRepository, RequestRepository requestRepository,
+                               RequestHistoryRepository requestHistoryRepository,
+                               RequestEventRepository requestEventRepository, OutboxService outboxService,
+                               MeterRegistry meterRegistry,
+                               @Value("${access.expiry.batch-size:200}") int batchSize) {
+        this.accessRepository = accessRepository;
+        this.requestRepository = requestRepository;
+        this.requestHistoryRepository = requestHistoryRepository;
+        this.requestEventRepository = requestEventRepository;
+        this.outboxService = outboxService;
+        this.batchSize = batchSize;
+        this.expiredAccesses = meterRegistry.counter("access.expiry.processed", "type", "access");
+        this.expiredRequests = meterRegistry.counter("access.expiry.processed", "type", "request");
+        this.batchTimer = meterRegistry.timer("access.expiry.batch");
+        meterRegistry.gauge("access.expiry.lag.seconds", lagSeconds);
+    }
+
+    @Transactional
+    public int expireBatch() {
+        Timer.Sample sample = Timer.start();
+        try {
+            return expireDue(Instant.now());
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long refreshLag() {
+        Instant now = Instant.now();
+        Optional<Instant> oldestAccess = accessRepository.findOldestDueExpiry("ATIVO", now);
+        Optional<Instant> oldestRequest = requestRepository.findOldestDueExpiry("ATIVO", now);
+        long lag = Stream.of(oldestAccess, oldestRequest)
+                .flatMap(Optional::stream)
+                .min(Instant::compareTo)
+                .map(oldest -> Duration.between(oldest, now).getSeconds())
+                .orElse(0L);
+        lagSeconds.set(lag);
+        return lag;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private int expireDue(Instant now) {
+        List<ExpiredAccessRow> accesses = accessRepository.expireDueBatch(now, batchSize);
+        List<ExpiredRequestRow> requests = requestRepository.expireDueBatch(now, batchSize);
+
+        List<RequestEvent> events = new ArrayList<>();
+        Map<String, List<ExpiredAccessRow>> accessesByProtocol = new LinkedHashMap<>();
+        for (ExpiredAccessRow access : accesses) {
+            RequestEvent event = new RequestEvent(access.getRequestProtocol(), access.getUserId(),
+                    RequestEventType.ACCESS_EXPIRED, now);
+            event.setModuleId(access.getModuleId());
+            events.add(event);
+            accessesByProtocol.computeIfAbsent(access.getRequestProtocol(), protocol -> new ArrayList<>()).add(access);
+        }
+
+        List<RequestHistory> historyEntries = new ArrayList<>();
+        for (ExpiredRequestRow request : requests) {
+            RequestEvent event = new RequestEvent(request.getProtocol(), request.getUserId(),
+                    RequestEventType.REQUEST_EXPIRED, now);
+            events.add(event);
+            historyEntries.add(RequestProjection.toHistoryEntry(
+                    requestRepository.getReferenceById(request.getProtocol()), event));
+        }
+
+        requestHistoryRepository.saveAll(historyEntries);
+        requestEventRepository.saveAll(events);
+        accessesByProtocol.forEach((protocol, expired) -> publishExpiredAccesses(protocol, expired, now));
+
+        expiredAccesses.increment(accesses.size());
+        expiredRequests.increment(requests.size());
+        return Math.max(accesses.size(), requests.size());
+    }
+
+    private void publishExpiredAccesses(String protocol, List<ExpiredAccessRow> accesses, Instant occurredAt) {
+        ExpiredAccessRow first = accesses.get(0);
+        outboxService.enqueueAccessEvent(protocol, RequestEventType.ACCESS_EXPIRED.name(), first.getUserId(),
+                accesses.stream().map(ExpiredAccessRow::getModuleId).toList(), occurredAt, first.getExpiresAt());
+    }
+}
@@ -0,0 +1,24 @@
+package com.pg17xbootj21.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+@Component
+@ConditionalOnProperty(name = "access.reminders.enabled", havingValue = "true")
+public class AccessReminderJob {
+
+    private final AccessReminderService accessReminderService;
+
+    public AccessReminderJob(AccessReminderService accessReminderService) {
+        this.accessReminderService = accessReminderService;
+    }
+
+    @Scheduled(cron = "${access.reminders.cron:0 0 8 * * *}", zone = "UTC")
+    public void remind() {
+        accessReminderService.sendReminders(LocalDate.now(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,98 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.repository.AccessRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class AccessReminderService {
+
+    private final AccessRepository accessRepository;
+    private final OutboxService outboxService;
+    private final int[] daysBefore;
+    private final Duration bucketTtl;
+    private final Map<LocalDate, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public AccessReminderService(AccessRepository accessRepository, OutboxService outboxService,
+                                 @Value("${access.reminders.days-before:30,7,1}") int[] daysBefore,
+                                 @Value("${access.reminders.bucket-ttl-ms:300000}") long bucketTtlMs) {
+        this.accessRepository = accessRepository;
+        this.outboxService = outboxService;
+        this.daysBefore = daysBefore;
+        this.bucketTtl = Duration.ofMillis(bucketTtlMs);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Access> findExpiringSoon(String userId, int days) {
+        Instant now = Instant.now();
+        return accessRepository.findByUserIdAndStatusAndExpiresAtBetweenOrderByExpiresAtAscModuleIdAsc(
+                userId, "ATIVO", now, now.plus(Duration.ofDays(days)));
+    }
+
+    @Transactional
+    public int sendReminders(LocalDate today) {
+        buckets.keySet().removeIf(day -> day.isBefore(today));
+        int reminders = 0;
+        for (int offset : daysBefore) {
+            LocalDate day = today.plusDays(offset);
+            if (accessRepository.claimReminderBucket(day, offset) == 1) {
+                reminders += remindBucket(getBucket(day), offset);
+            }
+        }
+        return reminders;
+    }
+
+    public List<Access> getBucket(LocalDate day) {
+        Instant now = Instant.now();
+        return buckets.compute(day, (key, cached) -> cached != null && cached.loadedAt().plus(bucketTtl).isAfter(now)
+                ? cached
+                : new Bucket(now, loadBucket(key))).accesses();
+    }
+
+    private List<Access> loadBucket(LocalDate day) {
+        Instant start = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+        return List.copyOf(accessRepository.findExpiringBetween("ATIVO", start, start.plus(Duration.ofDays(1))));
+    }
+
+    private int remindBucket(List<Access> accesses, int offset) {
+        int reminders = 0;
+        List<Access> group = new ArrayList<>();
+        for (Access access : accesses) {
+            if (!group.isEmpty() && !sameRequest(group.get(0), access)) {
+                publishReminder(group, offset);
+                reminders++;
+                group = new ArrayList<>();
+            }
+            group.add(access);
+        }
+        if (!group.isEmpty()) {
+            publishReminder(group, offset);
+            reminders++;
+        }
+        return reminders;
+    }
+
+    private boolean sameRequest(Access first, Access access) {
+        return first.getUserId().equals(access.getUserId()) && first.getRequestProtocol().equals(access.getRequestProtocol());
+    }
+
+    private void publishReminder(List<Access> accesses, int offset) {
+        Access first = accesses.get(0);
+        outboxService.enqueueAccessReminder(first.getRequestProtocol(), first.getUserId(),
+                accesses.stream().map(Access::getModuleId).toList(), Instant.now(), first.getExpiresAt(), offset);
+    }
+
+    private record Bucket(Instant loadedAt, List<Access> accesses) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.AccessRepository.RevokedAccessRow;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestHistoryRepository;
+import com.pg17xbootj21.repository.RequestRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AccessRevocationService {
+
+    private final RequestRepository requestRepository;
+    private final RequestHistoryRepository requestHistoryRepository;
+    private final RequestEventRepository requestEventRepository;
+    private final OutboxService outboxService;
+
+    public AccessRevocationService(RequestRepository requestRepository, RequestHistoryRepository requestHistoryRepository,
+                                   RequestEventRepository requestEventRepository, OutboxService outboxService) {
+        this.requestRepository = requestRepository;
+        this.requestHistoryRepository = requestHistoryRepository;
+        this.requestEventRepository = requestEventRepository;
+        this.outboxService = outboxService;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRevocations(List<? extends RevokedAccessRow> accesses, RequestEventType reason, String detail, Instant now) {
+        List<RequestEvent> events = new ArrayList<>();
+        List<RequestHistory> historyEntries = new ArrayList<>();
+        Map<String, List<RevokedAccessRow>> accessesByProtocol = new LinkedHashMap<>();
+        for (RevokedAccessRow access : accesses) {
+            RequestEvent event = new RequestEvent(access.getRequestProtocol(), access.getUserId(),
+                    RequestEventType.ACCESS_REVOKED, now);
+            event.setModuleId(access.getModuleId());
+            events.add(event);
+            accessesByProtocol.computeIfAbsent(access.getRequestProtocol(), protocol -> new ArrayList<>()).add(access);
+        }
+        accessesByProtocol.forEach((protocol, revoked) -> {
+            RequestEvent event = new RequestEvent(protocol, revoked.get(0).getUserId(), reason, now);
+            event.setDetail(detail);
+            events.add(event);
+            historyEntries.add(RequestProjection.toHistoryEntry(requestRepository.getReferenceById(protocol), event));
+        });
+
+        requestHistoryRepository.saveAll(historyEntries);
+        requestEventRepository.saveAll(events);
+        accessesByProtocol.forEach((protocol, revoked) -> publishRevokedAccesses(protocol, revoked, now));
+    }
+
+    private void publishRevokedAccesses(String protocol, List<RevokedAccessRow> accesses, Instant occurredAt) {
+        RevokedAccessRow first = accesses.get(0);
+        outboxService.enqueueAccessEvent(protocol, RequestEventType.ACCESS_REVOKED.name(), first.getUserId(),
+                accesses.stream().map(RevokedAccessRow::getModuleId).toList(), occurredAt, first.getExpiresAt());
+    }
+}
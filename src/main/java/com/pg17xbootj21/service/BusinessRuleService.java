@@ -8,33 +8,28 @@ import java.util.List;
 @Service
 public class BusinessRuleService {
 
-    private final ModuleService moduleService;
-    private final AccessService accessService;
-
-    public BusinessRuleService(ModuleService moduleService, AccessService accessService) {
-        this.moduleService = moduleService;
-        this.accessService = accessService;
-    }
-
-    public String validateBusinessRules(String userId, String department, List<String> requestedModuleIds) {
-        List<String> activeModuleIds = accessService.getActiveModuleIds(userId);
+    public String validateBusinessRules(RuleEvaluationContext context, List<String> requestedModuleIds) {
+        String department = context.getDepartment();
+        List<String> activeModuleIds = context.getActiveModuleIds();
         int currentActiveModules = activeModuleIds.size();
         int maxModules = "TI".equals(department) ? 10 : 5;
 
         for (String moduleId : requestedModuleIds) {
-            Module module = moduleService.findById(moduleId)
-                    .orElseThrow(() -> new RuntimeException("Module not found: " + moduleId));
+            Module module = context.getModule(moduleId);
+            if (module == null) {
+                throw new RuntimeException("Module not found: " + moduleId);
+            }
 
             if (!isDepartmentAllowed(department, module)) {
                 return "Departamento sem permissão para acessar este módulo";
             }
 
-            if (hasIncompatibleModule(activeModuleIds, module)) {
+            if (hasIncompatibleModule(context, module)) {
                 return "Módulo incompatível com outro módulo já ativo em seu perfil";
             }
         }
 
-        if (hasIncompatibleModulesInRequest(requestedModuleIds)) {
+        if (hasIncompatibleModulesInRequest(context, requestedModuleIds)) {
             return "Módulo incompatível com outro módulo já ativo em seu perfil";
         }
 
@@ -45,10 +40,10 @@ public class BusinessRuleService {
         return null;
     }
 
-    private boolean hasIncompatibleModulesInRequest(List<String> requestedModuleIds) {
+    private boolean hasIncompatibleModulesInRequest(RuleEvaluationContext context, List<String> requestedModuleIds) {
         for (int i = 0; i < requestedModuleIds.size(); i++) {
             String moduleId1 = requestedModuleIds.get(i);
-            Module module1 = moduleService.findById(moduleId1).orElse(null);
+            Module module1 = context.getModule(moduleId1);
             if (module1 != null) {
                 for (int j = i + 1; j < requestedModuleIds.size(); j++) {
                     String moduleId2 = requestedModuleIds.get(j);
@@ -68,9 +63,9 @@ public class BusinessRuleService {
         return module.getAllowedDepartments().contains(department);
     }
 
-    private boolean hasIncompatibleModule(List<String> activeModuleIds, Module requestedModule) {
-        for (String activeModuleId : activeModuleIds) {
-            Module activeModule = moduleService.findById(activeModuleId).orElse(null);
+    private boolean hasIncompatibleModule(RuleEvaluationContext context, Module requestedModule) {
+        for (String activeModuleId : context.getActiveModuleIds()) {
+            Module activeModule = context.getModule(activeModuleId);
             if (activeModule != null) {
                 if (activeModule.getIncompatibleModules().contains(requestedModule.getId()) ||
                     requestedModule.getIncompatibleModules().contains(activeModuleId)) {
@@ -81,4 +76,3 @@ public class BusinessRuleService {
         return false;
     }
 }
-
@@ -0,0 +1,62 @@
+package com.pg17xbootj21.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pg17xbootj21.model.OutboxEvent;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HttpOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+
+    public HttpOutboxSink(String url, ObjectMapper objectMapper, Duration connectTimeout, Duration readTimeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restClient = RestClient.builder().baseUrl(url).requestFactory(requestFactory).build();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        List<Map<String, Object>> messages = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            messages.add(toMessage(event));
+        }
+
+        try {
+            restClient.post()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(messages)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            throw new OutboxSinkUnavailableException("Outbox sink unavailable: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, Object> toMessage(OutboxEvent event) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("id", event.getId());
+        message.put("eventType", event.getEventType());
+        message.put("aggregateId", event.getAggregateId());
+        message.put("createdAt", event.getCreatedAt() != null ? event.getCreatedAt().toString() : null);
+        try {
+            message.put("payload", objectMapper.readTree(event.getPayload()));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Invalid outbox payload for event " + event.getId(), e);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.pg17xbootj21.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "modules.deactivation.enabled", havingValue = "true")
+public class ModuleDeactivationJob {
+
+    private final ModuleDeactivationService moduleDeactivationService;
+
+    public ModuleDeactivationJob(ModuleDeactivationService moduleDeactivationService) {
+        this.moduleDeactivationService = moduleDeactivationService;
+    }
+
+    @Scheduled(fixedDelayString = "${modules.deactivation.interval-ms:5000}")
+    public void revoke() {
+        int revoked;
+        do {
+            revoked = moduleDeactivationService.revokeBatch();
+        } while (revoked == moduleDeactivationService.getBatchSize());
+    }
+}
@@ -0,0 +1,108 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Module;
+import com.pg17xbootj21.model.ModuleDeactivation;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.RevokedAccessRow;
+import com.pg17xbootj21.repository.ModuleDeactivationRepository;
+import com.pg17xbootj21.repository.ModuleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class ModuleDeactivationService {
+
+    static final String RUNNING = "EM_ANDAMENTO";
+    static final String COMPLETED = "CONCLUIDA";
+
+    private final ModuleDeactivationRepository moduleDeactivationRepository;
+    private final ModuleRepository moduleRepository;
+    private final AccessRepository accessRepository;
+    private final AccessRevocationService accessRevocationService;
+    private final UserService userService;
+    private final int batchSize;
+    private final Counter revokedAccesses;
+
+    public ModuleDeactivationService(ModuleDeactivationRepository moduleDeactivationRepository,
+                                     ModuleRepository moduleRepository, AccessRepository accessRepository,
+                                     AccessRevocationService accessRevocationService, UserService userService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${modules.deactivation.batch-size:500}") int batchSize) {
+        this.moduleDeactivationRepository = moduleDeactivationRepository;
+        this.moduleRepository = moduleRepository;
+        this.accessRepository = accessRepository;
+        this.accessRevocationService = accessRevocationService;
+        this.userService = userService;
+        this.batchSize = batchSize;
+        this.revokedAccesses = meterRegistry.counter("module.deactivation.revoked");
+    }
+
+    @Transactional
+    public ModuleDeactivation deactivate(String userId, String moduleId) {
+        requireTi(userId);
+        Module module = moduleRepository.lockById(moduleId)
+                .orElseThrow(() -> new RuntimeException("Module not found"));
+
+        Optional<ModuleDeactivation> running = moduleDeactivationRepository.findFirstByModuleIdAndStatus(moduleId, RUNNING);
+        if (running.isPresent()) {
+            return running.get();
+        }
+
+        module.setActive(false);
+        moduleRepository.save(module);
+
+        long totalCount = accessRepository.findHolderCount(moduleId).orElse(0L);
+        return moduleDeactivationRepository.startIfNotRunning(moduleId, userId, totalCount, Instant.now())
+                .flatMap(moduleDeactivationRepository::findById)
+                .or(() -> moduleDeactivationRepository.findFirstByModuleIdAndStatus(moduleId, RUNNING))
+                .orElseThrow(() -> new RuntimeException("Module deactivation not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public ModuleDeactivation getProgress(String userId, String moduleId) {
+        requireTi(userId);
+        ModuleDeactivation deactivation = moduleDeactivationRepository.findFirstByModuleIdOrderByIdDesc(moduleId)
+                .orElseThrow(() -> new RuntimeException("Module deactivation not found"));
+        if (RUNNING.equals(deactivation.getStatus())) {
+            long remaining = accessRepository.findHolderCount(moduleId).orElse(0L);
+            deactivation.setRevokedCount(Math.max(0L, deactivation.getTotalCount() - remaining));
+        }
+        return deactivation;
+    }
+
+    @Transactional
+    public int revokeBatch() {
+        Optional<ModuleDeactivation> running = moduleDeactivationRepository.findFirstByStatusOrderByIdAsc(RUNNING);
+        if (running.isEmpty()) {
+            return 0;
+        }
+
+        ModuleDeactivation deactivation = running.get();
+        Instant now = Instant.now();
+        List<RevokedAccessRow> accesses = accessRepository.revokeModuleBatch(deactivation.getModuleId(), now, batchSize);
+
+        accessRevocationService.recordRevocations(accesses, RequestEventType.MODULE_DEACTIVATED, deactivation.getModuleId(), now);
+
+        if (accesses.size() < batchSize) {
+            moduleDeactivationRepository.completeIfDrained(deactivation.getId(), now);
+        }
+        revokedAccesses.increment(accesses.size());
+        return accesses.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private void requireTi(String userId) {
+        userService.requireTiAdministrator(userId, "deactivate modules");
+    }
+}
@@ -0,0 +1,22 @@
+package com.pg17xbootj21.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "modules.holders.reconcile.enabled", havingValue = "true")
+public class ModuleHolderCountReconciler {
+
+    private final ModuleHolderService moduleHolderService;
+
+    public ModuleHolderCountReconciler(ModuleHolderService moduleHolderService) {
+        this.moduleHolderService = moduleHolderService;
+    }
+
+    @Scheduled(fixedDelayString = "${modules.holders.reconcile.interval-ms:3600000}",
+            initialDelayString = "${modules.holders.reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        moduleHolderService.reconcileHolderCounts();
+    }
+}
@@ -0,0 +1,53 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.repository.AccessRepository.ModuleHolderRow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class ModuleHolderCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String userId;
+    private final long accessId;
+
+    public ModuleHolderCursor(String userId, long accessId) {
+        this.userId = userId;
+        this.accessId = accessId;
+    }
+
+    public static ModuleHolderCursor initial() {
+        return new ModuleHolderCursor("", 0);
+    }
+
+    public static ModuleHolderCursor of(ModuleHolderRow row) {
+        return new ModuleHolderCursor(row.getUserId(), row.getId());
+    }
+
+    public static ModuleHolderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new RuntimeException("Invalid cursor");
+            }
+            return new ModuleHolderCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = userId + SEPARATOR + accessId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public long getAccessId() {
+        return accessId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.ModuleHolderRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class ModuleHolderService {
+
+    private final AccessRepository accessRepository;
+    private final ModuleService moduleService;
+    private final UserService userService;
+
+    public ModuleHolderService(AccessRepository accessRepository, ModuleService moduleService, UserService userService) {
+        this.accessRepository = accessRepository;
+        this.moduleService = moduleService;
+        this.userService = userService;
+    }
+
+    @Transactional(readOnly = true)
+    public HolderPage findHolders(String callerId, String moduleId, String cursor, int size) {
+        userService.requireTiAdministrator(callerId, "list module holders");
+        if (moduleService.findById(moduleId).isEmpty()) {
+            throw new RuntimeException("Module not found");
+        }
+
+        ModuleHolderCursor after = cursor == null || cursor.isBlank()
+                ? ModuleHolderCursor.initial()
+                : ModuleHolderCursor.decode(cursor.trim());
+        List<ModuleHolderRow> rows = accessRepository.findHoldersAfter(moduleId, after.getUserId(), after.getAccessId(), size + 1);
+
+        boolean hasMore = rows.size() > size;
+        List<ModuleHolderRow> holders = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? ModuleHolderCursor.of(holders.get(holders.size() - 1)).encode() : null;
+        long holderCount = accessRepository.findHolderCount(moduleId).orElse(0L);
+        return new HolderPage(holders, holderCount, nextCursor);
+    }
+
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int reconcileHolderCounts() {
+        return accessRepository.reconcileHolderCounts();
+    }
+
+    public record HolderPage(List<ModuleHolderRow> holders, long holderCount, String nextCursor) {
+    }
+}
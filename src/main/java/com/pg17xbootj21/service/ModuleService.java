@@ -3,8 +3,13 @@ package com.pg17xbootj21.service;
 import com.pg17xbootj21.model.Module;
 import com.pg17xbootj21.repository.ModuleRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -24,6 +29,19 @@ public class ModuleService {
         return moduleRepository.findById(moduleId);
     }
 
+    public Map<String, Module> getCatalog(Collection<String> moduleIds) {
+        Map<String, Module> catalog = new LinkedHashMap<>();
+        for (Module module : moduleRepository.findAllById(moduleIds)) {
+            catalog.put(module.getId(), module);
+        }
+        return catalog;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockForRequest(Collection<String> moduleIds) {
+        moduleRepository.lockSharedByIdIn(moduleIds);
+    }
+
     public boolean isModuleActive(String moduleId) {
         return findById(moduleId)
                 .map(Module::isActive)
@@ -0,0 +1,32 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "outbox.dispatcher.enabled", havingValue = "true")
+public class OutboxDispatcher {
+
+    private final OutboxService outboxService;
+
+    public OutboxDispatcher(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatcher.interval-ms:1000}")
+    public void drain() {
+        int processed;
+        do {
+            List<OutboxEvent> batch = outboxService.claimBatch();
+            if (batch.isEmpty()) {
+                break;
+            }
+            processed = outboxService.recordDelivery(outboxService.deliver(batch));
+        } while (processed == outboxService.getBatchSize());
+        outboxService.refreshExhausted();
+    }
+}
@@ -0,0 +1,174 @@
+package com.pg17xbootj21.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pg17xbootj21.model.OutboxEvent;
+import com.pg17xbootj21.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final AtomicLong exhaustedEvents = new AtomicLong();
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink, ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${outbox.dispatcher.batch-size:100}") int batchSize,
+                         @Value("${outbox.dispatcher.max-attempts:10}") int maxAttempts,
+                         @Value("${outbox.dispatcher.backoff-initial-ms:1000}") long initialBackoffMs,
+                         @Value("${outbox.dispatcher.backoff-max-ms:300000}") long maxBackoffMs,
+                         @Value("${outbox.dispatcher.lease-ms:120000}") long leaseMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.lease = Duration.ofMillis(leaseMs);
+        meterRegistry.gauge("outbox.events.exhausted", exhaustedEvents);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String aggregateId, String eventType, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        event.setPayload(toJson(payload));
+        event.setCreatedAt(Instant.now());
+        event.setNextAttemptAt(event.getCreatedAt());
+        event.setAttempts(0);
+        outboxEventRepository.save(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAccessEvent(String protocol, String eventType, String userId, List<String> moduleIds,
+                                   Instant occurredAt, Instant expiresAt) {
+        enqueue(protocol, eventType, accessPayload(protocol, userId, moduleIds, occurredAt, expiresAt));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAccessReminder(String protocol, String userId, List<String> moduleIds, Instant occurredAt,
+                                      Instant expiresAt, int daysBefore) {
+        Map<String, Object> payload = accessPayload(protocol, userId, moduleIds, occurredAt, expiresAt);
+        payload.put("daysBefore", daysBefore);
+        enqueue(protocol, "ACCESS_EXPIRING", payload);
+    }
+
+    @Transactional
+    public List<OutboxEvent> claimBatch() {
+        Instant now = Instant.now();
+        List<OutboxEvent> batch = new ArrayList<>(outboxEventRepository.claimDueBatch(batchSize, maxAttempts, now, now.plus(lease)));
+        batch.sort(Comparator.comparing(OutboxEvent::getId));
+        return batch;
+    }
+
+    public Delivery deliver(List<OutboxEvent> batch) {
+        try {
+            outboxSink.deliver(batch);
+            return new Delivery(ids(batch), Map.of(), false);
+        } catch (OutboxSinkUnavailableException e) {
+            return new Delivery(List.of(), Map.of(errorMessage(e), ids(batch)), true);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                return new Delivery(List.of(), Map.of(errorMessage(e), ids(batch)), false);
+            }
+        }
+
+        List<Long> dispatched = new ArrayList<>();
+        Map<String, List<Long>> failed = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            try {
+                outboxSink.deliver(List.of(event));
+                dispatched.add(event.getId());
+            } catch (OutboxSinkUnavailableException e) {
+                failed.computeIfAbsent(errorMessage(e), message -> new ArrayList<>()).addAll(ids(batch.subList(i, batch.size())));
+                return new Delivery(dispatched, failed, true);
+            } catch (RuntimeException e) {
+                failed.computeIfAbsent(errorMessage(e), message -> new ArrayList<>()).add(event.getId());
+            }
+        }
+        return new Delivery(dispatched, failed, false);
+    }
+
+    @Transactional
+    public int recordDelivery(Delivery delivery) {
+        Instant now = Instant.now();
+        if (!delivery.dispatched().isEmpty()) {
+            outboxEventRepository.markDispatched(delivery.dispatched(), now);
+        }
+        delivery.failed().forEach((error, eventIds) ->
+                outboxEventRepository.markFailed(eventIds, error, now, initialBackoff.toMillis(), maxBackoff.toMillis()));
+        return delivery.processed();
+    }
+
+    @Transactional(readOnly = true)
+    public long refreshExhausted() {
+        long exhausted = outboxEventRepository.countExhausted(maxAttempts);
+        exhaustedEvents.set(exhausted);
+        return exhausted;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+
+    private String errorMessage(RuntimeException error) {
+        return error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+    }
+
+    private Map<String, Object> accessPayload(String protocol, String userId, List<String> moduleIds,
+                                              Instant occurredAt, Instant expiresAt) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("protocol", protocol);
+        payload.put("userId", userId);
+        payload.put("modules", moduleIds);
+        payload.put("occurredAt", occurredAt.toString());
+        payload.put("expiresAt", expiresAt != null ? expiresAt.toString() : null);
+        return payload;
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize outbox payload", e);
+        }
+    }
+
+    public record Delivery(List<Long> dispatched, Map<String, List<Long>> failed, boolean sinkUnavailable) {
+
+        public int processed() {
+            if (sinkUnavailable) {
+                return 0;
+            }
+            return dispatched.size() + failed.values().stream().mapToInt(List::size).sum();
+        }
+    }
+}
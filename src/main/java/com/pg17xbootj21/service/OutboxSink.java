@@ -0,0 +1,10 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxSink {
+
+    void deliver(List<OutboxEvent> events);
+}
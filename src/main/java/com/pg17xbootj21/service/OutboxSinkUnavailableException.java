@@ -0,0 +1,8 @@
+package com.pg17xbootj21.service;
+
+public class OutboxSinkUnavailableException extends RuntimeException {
+
+    public OutboxSinkUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,50 @@
+package com.pg17xbootj21.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Component
+@ConditionalOnProperty(name = "projections.rebuild-on-startup", havingValue = "true")
+public class ProjectionReplayRunner implements ApplicationRunner {
+
+    private static final String LOCK_KEY = "hashtext('request_projection_replay')";
+
+    private final RequestProjectionService requestProjectionService;
+    private final DataSource dataSource;
+    private final int batchSize;
+
+    public ProjectionReplayRunner(RequestProjectionService requestProjectionService, DataSource dataSource,
+                                  @Value("${projections.rebuild.batch-size:200}") int batchSize) {
+        this.requestProjectionService = requestProjectionService;
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(" + LOCK_KEY + ")");
+            try {
+                replay();
+            } finally {
+                statement.execute("SELECT pg_advisory_unlock(" + LOCK_KEY + ")");
+            }
+        }
+    }
+
+    private void replay() {
+        String lastProtocol = "";
+        while (lastProtocol != null) {
+            lastProtocol = requestProjectionService.rebuildBatch(lastProtocol, batchSize);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.pg17xbootj21.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "recertification.enabled", havingValue = "true")
+public class RecertificationJob {
+
+    private final RecertificationService recertificationService;
+
+    public RecertificationJob(RecertificationService recertificationService) {
+        this.recertificationService = recertificationService;
+    }
+
+    @Scheduled(fixedDelayString = "${recertification.interval-ms:5000}")
+    public void applyDecisions() {
+        int applied;
+        do {
+            applied = recertificationService.applyBatch();
+        } while (applied == recertificationService.getBatchSize());
+    }
+}
@@ -0,0 +1,205 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.RecertificationCampaign;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.RecertifiedAccessRow;
+import com.pg17xbootj21.repository.RecertificationCampaignRepository;
+import com.pg17xbootj21.repository.RecertificationCampaignRepository.PartitionSummaryRow;
+import com.pg17xbootj21.repository.RecertificationCampaignRepository.RecertificationItemRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class RecertificationService {
+
+    static final String OPEN = "ABERTA";
+    static final String CLOSING = "ENCERRANDO";
+    static final String REVOKED_OUTCOME = "REVOGADO";
+    static final String MISSING_OUTCOME = "SEM_ACESSO";
+
+    private static final Set<String> PARTITIONS = Set.of("DEPARTMENT", "MODULE");
+    private static final Set<String> DECISIONS = Set.of("MANTER", "REVOGAR");
+
+    private final RecertificationCampaignRepository recertificationCampaignRepository;
+    private final AccessRepository accessRepository;
+    private final AccessRevocationService accessRevocationService;
+    private final UserService userService;
+    private final int batchSize;
+    private final Counter revokedAccesses;
+    private final Counter missingAccesses;
+
+    public RecertificationService(RecertificationCampaignRepository recertificationCampaignRepository,
+                                  AccessRepository accessRepository, AccessRevocationService accessRevocationService,
+                                  UserService userService, MeterRegistry meterRegistry,
+                                  @Value("${recertification.batch-size:1000}") int batchSize) {
+        this.recertificationCampaignRepository = recertificationCampaignRepository;
+        this.accessRepository = accessRepository;
+        this.accessRevocationService = accessRevocationService;
+        this.userService = userService;
+        this.batchSize = batchSize;
+        this.revokedAccesses = meterRegistry.counter("recertification.revoked");
+        this.missingAccesses = meterRegistry.counter("recertification.missing");
+    }
+
+    @Transactional
+    public RecertificationCampaign createCampaign(String userId, String name, String partitionBy) {
+        requireTi(userId);
+        String partition = partitionBy == null ? "" : partitionBy.trim().toUpperCase();
+        if (!PARTITIONS.contains(partition)) {
+            throw new RuntimeException("Partition must be one of: DEPARTMENT, MODULE");
+        }
+
+        RecertificationCampaign campaign = new RecertificationCampaign();
+        campaign.setName(name.trim());
+        campaign.setPartitionBy(partition);
+        campaign.setStatus(OPEN);
+        campaign.setCreatedBy(userId);
+        campaign.setCreatedAt(Instant.now());
+        campaign = recertificationCampaignRepository.saveAndFlush(campaign);
+
+        campaign.setItemCount(recertificationCampaignRepository.snapshotActiveAccesses(campaign.getId(), partition));
+        return campaign;
+    }
+
+    @Transactional(readOnly = true)
+    public CampaignView getCampaign(String userId, Long campaignId) {
+        requireTi(userId);
+        RecertificationCampaign campaign = findCampaign(campaignId);
+        if (CLOSING.equals(campaign.getStatus())) {
+            campaign.setRevokedCount(recertificationCampaignRepository.countRevoked(campaignId));
+        }
+        return new CampaignView(campaign, recertificationCampaignRepository.summarizePartitions(campaignId));
+    }
+
+    @Transactional(readOnly = true)
+    public ItemPage findItems(String userId, Long campaignId, String partition, String cursor, int size) {
+        requireTi(userId);
+        findCampaign(campaignId);
+        long after = decodeCursor(cursor);
+
+        List<RecertificationItemRow> rows = partition == null || partition.isBlank()
+                ? recertificationCampaignRepository.findItemsAfter(campaignId, after, size + 1)
+                : recertificationCampaignRepository.findPartitionItemsAfter(campaignId, partition, after, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<RecertificationItemRow> items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? String.valueOf(items.get(items.size() - 1).getAccessId()) : null;
+        return new ItemPage(items, nextCursor);
+    }
+
+    @Transactional
+    public int decide(String userId, Long campaignId, String decision, String partition, Collection<Long> accessIds) {
+        requireTi(userId);
+        String normalized = decision == null ? "" : decision.trim().toUpperCase();
+        if (!DECISIONS.contains(normalized)) {
+            throw new RuntimeException("Decision must be one of: MANTER, REVOGAR");
+        }
+        boolean byPartition = partition != null && !partition.isBlank();
+        boolean byItems = accessIds != null && !accessIds.isEmpty();
+        if (byPartition == byItems) {
+            throw new RuntimeException("Exactly one of partition or accessIds is required");
+        }
+        requireOpen(findCampaign(campaignId));
+
+        Instant now = Instant.now();
+        int updated = byPartition
+                ? recertificationCampaignRepository.decidePartition(campaignId, partition, normalized, userId, now)
+                : recertificationCampaignRepository.decideItems(campaignId, accessIds, normalized, userId, now);
+        if (updated == 0) {
+            requireOpen(findCampaign(campaignId));
+        }
+        return updated;
+    }
+
+    @Transactional
+    public RecertificationCampaign closeCampaign(String userId, Long campaignId, boolean revokeUndecided) {
+        requireTi(userId);
+        RecertificationCampaign campaign = findCampaign(campaignId);
+        requireOpen(campaign);
+
+        campaign.setStatus(CLOSING);
+        recertificationCampaignRepository.saveAndFlush(campaign);
+        if (revokeUndecided) {
+            recertificationCampaignRepository.revokeUndecided(campaignId, userId, Instant.now());
+        }
+        return campaign;
+    }
+
+    @Transactional
+    public int applyBatch() {
+        Optional<RecertificationCampaign> closing = recertificationCampaignRepository.findFirstByStatusOrderByIdAsc(CLOSING);
+        if (closing.isEmpty()) {
+            return 0;
+        }
+
+        RecertificationCampaign campaign = closing.get();
+        Instant now = Instant.now();
+        List<Long> itemIds = recertificationCampaignRepository.claimRevocations(campaign.getId(), now, batchSize);
+        if (!itemIds.isEmpty()) {
+            List<RecertifiedAccessRow> revoked = accessRepository.revokeRecertificationItems(campaign.getId(), itemIds, now);
+            accessRevocationService.recordRevocations(revoked, RequestEventType.RECERTIFICATION_REVOKED, campaign.getName(), now);
+            revokedAccesses.increment(revoked.size());
+
+            Set<Long> appliedItemIds = revoked.stream().map(RecertifiedAccessRow::getItemId).collect(Collectors.toSet());
+            List<Long> revokedItemIds = itemIds.stream().filter(appliedItemIds::contains).toList();
+            List<Long> missingItemIds = itemIds.stream().filter(id -> !appliedItemIds.contains(id)).toList();
+            if (!revokedItemIds.isEmpty()) {
+                recertificationCampaignRepository.markOutcome(campaign.getId(), revokedItemIds, REVOKED_OUTCOME);
+            }
+            if (!missingItemIds.isEmpty()) {
+                recertificationCampaignRepository.markOutcome(campaign.getId(), missingItemIds, MISSING_OUTCOME);
+                missingAccesses.increment(missingItemIds.size());
+            }
+        }
+        if (itemIds.size() < batchSize) {
+            recertificationCampaignRepository.completeIfApplied(campaign.getId(), now);
+        }
+        return itemIds.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private RecertificationCampaign findCampaign(Long campaignId) {
+        return recertificationCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new RuntimeException("Campaign not found"));
+    }
+
+    private void requireOpen(RecertificationCampaign campaign) {
+        if (!OPEN.equals(campaign.getStatus())) {
+            throw new RuntimeException("Campaign is not open");
+        }
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    private void requireTi(String userId) {
+        userService.requireTiAdministrator(userId, "manage recertification campaigns");
+    }
+
+    public record CampaignView(RecertificationCampaign campaign, List<PartitionSummaryRow> partitions) {
+    }
+
+    public record ItemPage(List<RecertificationItemRow> items, String nextCursor) {
+    }
+}
@@ -0,0 +1,242 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.model.Module;
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestHistoryRepository;
+import com.pg17xbootj21.repository.RequestRepository;
+import com.pg17xbootj21.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+public class RequestApprovalService {
+
+    private static final String PENDING = "PENDENTE";
+    private static final String INACTIVE_MODULE_REASON = "Module is not active";
+    private static final Duration ACCESS_VALIDITY = Duration.ofDays(180);
+
+    private final RequestRepository requestRepository;
+    private final AccessRepository accessRepository;
+    private final RequestHistoryRepository requestHistoryRepository;
+    private final RequestEventRepository requestEventRepository;
+    private final OutboxService outboxService;
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final ModuleService moduleService;
+    private final BusinessRuleService businessRuleService;
+    private final Duration claimTtl;
+
+    public RequestApprovalService(RequestRepository requestRepository, AccessRepository accessRepository,
+                                  RequestHistoryRepository requestHistoryRepository,
+                                  RequestEventRepository requestEventRepository, OutboxService outboxService,
+                                  UserService userService, UserRepository userRepository, ModuleService moduleService,
+                                  BusinessRuleService businessRuleService,
+                                  @Value("${requests.approval.claim-ttl-ms:900000}") long claimTtlMs) {
+        this.requestRepository = requestRepository;
+        this.accessRepository = accessRepository;
+        this.requestHistoryRepository = requestHistoryRepository;
+        this.requestEventRepository = requestEventRepository;
+        this.outboxService = outboxService;
+        this.userService = userService;
+        this.userRepository = userRepository;
+        this.moduleService = moduleService;
+        this.businessRuleService = businessRuleService;
+        this.claimTtl = Duration.ofMillis(claimTtlMs);
+    }
+
+    @Transactional
+    public ClaimedBatch claim(String approverId, int size) {
+        requireApprover(approverId);
+        Instant now = Instant.now();
+        Instant claimedUntil = now.plus(claimTtl);
+        List<String> protocols = requestRepository.claimPendingBatch(approverId, now, claimedUntil, size);
+        if (protocols.isEmpty()) {
+            return new ClaimedBatch(List.of(), claimedUntil);
+        }
+
+        List<Request> requests = new ArrayList<>(requestRepository.findWithModulesByProtocolInAndStatus(protocols, PENDING));
+        requests.sort(Comparator.comparing(Request::isUrgent).reversed()
+                .thenComparing(Request::getCreatedAt)
+                .thenComparing(Request::getProtocol));
+        return new ClaimedBatch(requests, claimedUntil);
+    }
+
+    @Transactional
+    public Decision approve(String approverId, Collection<String> protocols) {
+        requireApprover(approverId);
+        Instant now = Instant.now();
+        Set<String> withInactiveModules = new LinkedHashSet<>();
+        for (RequestRepository.ModuleStateRow row : requestRepository.lockRequestedModuleStates(protocols)) {
+            if (!row.getActive()) {
+                withInactiveModules.add(row.getProtocol());
+            }
+        }
+        if (!withInactiveModules.isEmpty()) {
+            denyClaimed(approverId, withInactiveModules, INACTIVE_MODULE_REASON, now);
+        }
+
+        Set<String> rejected = new LinkedHashSet<>(withInactiveModules);
+        List<String> candidates = protocols.stream().filter(protocol -> !rejected.contains(protocol)).toList();
+        if (!candidates.isEmpty()) {
+            findRuleViolations(approverId, candidates, now).forEach((reason, violators) -> {
+                denyClaimed(approverId, violators, reason, now);
+                rejected.addAll(violators);
+            });
+        }
+
+        List<String> approvable = protocols.stream().filter(protocol -> !rejected.contains(protocol)).toList();
+        Instant expiresAt = now.plus(ACCESS_VALIDITY);
+        List<String> approved = approvable.isEmpty()
+                ? List.of()
+                : requestRepository.approveClaimed(approvable, approverId, now, expiresAt);
+        if (approved.isEmpty()) {
+            return decision(protocols, approved);
+        }
+
+        List<RequestEvent> events = new ArrayList<>();
+        List<RequestHistory> historyEntries = new ArrayList<>();
+        List<Access> accesses = new ArrayList<>();
+        for (Request request : requestRepository.findWithModulesByProtocolInAndStatus(approved, "ATIVO")) {
+            historyEntries.add(appendLifecycleEvent(request, events, RequestEventType.REQUEST_APPROVED, now, approverId));
+            for (String moduleId : request.getModules()) {
+                Access access = new Access();
+                access.setUserId(request.getUserId());
+                access.setModuleId(moduleId);
+                access.setStatus("ATIVO");
+                access.setGrantedAt(now);
+                access.setExpiresAt(expiresAt);
+                access.setRequestProtocol(request.getProtocol());
+                accesses.add(access);
+
+                RequestEvent event = new RequestEvent(request.getProtocol(), request.getUserId(), RequestEventType.ACCESS_GRANTED, now);
+                event.setModuleId(moduleId);
+                event.setExpiresAt(expiresAt);
+                events.add(event);
+            }
+            publishGrantedAccesses(request, now, expiresAt);
+        }
+
+        accessRepository.saveAll(accesses);
+        requestHistoryRepository.saveAll(historyEntries);
+        requestEventRepository.saveAll(events);
+        return decision(protocols, approved);
+    }
+
+    @Transactional
+    public Decision deny(String approverId, Collection<String> protocols, String reason) {
+        requireApprover(approverId);
+        if (reason == null || reason.isBlank()) {
+            throw new RuntimeException("Denial reason is required");
+        }
+        List<String> denied = denyClaimed(approverId, protocols, reason.trim(), Instant.now());
+        return decision(protocols, denied);
+    }
+
+    private Map<String, Set<String>> findRuleViolations(String approverId, Collection<String> protocols, Instant now) {
+        Map<String, ClaimedRequest> claimed = new LinkedHashMap<>();
+        for (RequestRepository.ClaimedModuleRow row : requestRepository.findClaimedModuleRows(protocols, approverId, now)) {
+            claimed.computeIfAbsent(row.getProtocol(), protocol -> new ClaimedRequest(row.getUserId(), row.getUserDepartment(),
+                    new ArrayList<>())).moduleIds().add(row.getModuleId());
+        }
+        if (claimed.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<String> userIds = new TreeSet<>();
+        Set<String> catalogIds = new LinkedHashSet<>();
+        claimed.values().forEach(request -> {
+            userIds.add(request.userId());
+            catalogIds.addAll(request.moduleIds());
+        });
+        userRepository.lockByIdIn(userIds);
+
+        Map<String, List<String>> heldModules = new HashMap<>();
+        for (AccessRepository.UserModuleRow row : accessRepository.findActiveModuleRowsByUserIds(userIds, "ATIVO")) {
+            heldModules.computeIfAbsent(row.getUserId(), userId -> new ArrayList<>()).add(row.getModuleId());
+            catalogIds.add(row.getModuleId());
+        }
+        Map<String, Module> catalog = moduleService.getCatalog(catalogIds);
+
+        Map<String, Set<String>> violations = new LinkedHashMap<>();
+        claimed.forEach((protocol, request) -> {
+            List<String> held = heldModules.computeIfAbsent(request.userId(), userId -> new ArrayList<>());
+            RuleEvaluationContext context = new RuleEvaluationContext(request.department(), held, List.of(), catalog);
+            String denialReason = businessRuleService.validateBusinessRules(context, request.moduleIds());
+            if (denialReason != null) {
+                violations.computeIfAbsent(denialReason, reason -> new LinkedHashSet<>()).add(protocol);
+            } else {
+                held.addAll(request.moduleIds());
+            }
+        });
+        return violations;
+    }
+
+    private List<String> denyClaimed(String approverId, Collection<String> protocols, String denialReason, Instant now) {
+        List<String> denied = requestRepository.decideClaimed(protocols, approverId, now, "NEGADO", denialReason);
+        if (denied.isEmpty()) {
+            return denied;
+        }
+
+        List<RequestEvent> events = new ArrayList<>();
+        List<RequestHistory> historyEntries = new ArrayList<>();
+        for (Request request : requestRepository.findWithModulesByProtocolInAndStatus(denied, "NEGADO")) {
+            historyEntries.add(appendLifecycleEvent(request, events, RequestEventType.REQUEST_DENIED, now, denialReason));
+        }
+
+        requestHistoryRepository.saveAll(historyEntries);
+        requestEventRepository.saveAll(events);
+        return denied;
+    }
+
+    private RequestHistory appendLifecycleEvent(Request request, List<RequestEvent> events, RequestEventType type,
+                                                Instant occurredAt, String detail) {
+        RequestEvent event = new RequestEvent(request.getProtocol(), request.getUserId(), type, occurredAt);
+        event.setDetail(detail);
+        events.add(event);
+        return RequestProjection.toHistoryEntry(request, event);
+    }
+
+    private void publishGrantedAccesses(Request request, Instant occurredAt, Instant expiresAt) {
+        outboxService.enqueueAccessEvent(request.getProtocol(), RequestEventType.ACCESS_GRANTED.name(), request.getUserId(),
+                List.copyOf(request.getModules()), occurredAt, expiresAt);
+    }
+
+    private Decision decision(Collection<String> requested, List<String> decided) {
+        Set<String> skipped = new LinkedHashSet<>(requested);
+        decided.forEach(skipped::remove);
+        return new Decision(decided, List.copyOf(skipped));
+    }
+
+    private void requireApprover(String approverId) {
+        userService.requireTiAdministrator(approverId, "approve requests");
+    }
+
+    private record ClaimedRequest(String userId, String department, List<String> moduleIds) {
+    }
+
+    public record ClaimedBatch(List<Request> requests, Instant claimedUntil) {
+    }
+
+    public record Decision(List<String> decided, List<String> skipped) {
+    }
+}
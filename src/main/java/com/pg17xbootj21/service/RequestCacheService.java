@@ -0,0 +1,116 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.repository.RequestReadRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Service
+public class RequestCacheService {
+
+    private final RequestReadRepository requestReadRepository;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile boolean versionsTracked;
+
+    public RequestCacheService(RequestReadRepository requestReadRepository,
+                               @Value("${requests.cache.max-entries:10000}") int maxEntries) {
+        this.requestReadRepository = requestReadRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    public long currentVersion(String userId) {
+        if (!versionsTracked) {
+            return requestReadRepository.findUserVersion(userId);
+        }
+        Long cached = versions.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = invalidations.get();
+        long version = requestReadRepository.findUserVersion(userId);
+        evictIfFull(versions);
+        versions.compute(userId, (key, current) ->
+                versionsTracked && invalidations.get() == epoch ? Long.valueOf(version) : current);
+        return version;
+    }
+
+    public void invalidateVersion(String userId) {
+        invalidations.incrementAndGet();
+        versions.remove(userId);
+    }
+
+    public void startVersionTracking() {
+        invalidations.incrementAndGet();
+        versions.clear();
+        versionsTracked = true;
+    }
+
+    public void stopVersionTracking() {
+        versionsTracked = false;
+        invalidations.incrementAndGet();
+        versions.clear();
+    }
+
+    public String etag(String userId, long version) {
+        return "\"" + userId + "-" + version + "\"";
+    }
+
+    public boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.trim().isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String userId, long version, String key, Supplier<T> loader) {
+        String cacheKey = userId + "|" + key;
+        Entry cached = entries.get(cacheKey);
+        if (cached != null && cached.version() == version) {
+            return (T) cached.value();
+        }
+        T value = loader.get();
+        if (value != null) {
+            evictIfFull(entries);
+            entries.merge(cacheKey, new Entry(version, value),
+                    (current, loaded) -> current.version() > loaded.version() ? current : loaded);
+        }
+        return value;
+    }
+
+    public void clear() {
+        entries.clear();
+        versions.clear();
+    }
+
+    private void evictIfFull(Map<String, ?> map) {
+        if (map.size() < maxEntries) {
+            return;
+        }
+        Iterator<String> keys = map.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry(long version, Object value) {
+    }
+}
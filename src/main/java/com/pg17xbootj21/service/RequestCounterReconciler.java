@@ -0,0 +1,22 @@
+package com.pg17xbootj21.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "requests.counters.reconcile.enabled", havingValue = "true")
+public class RequestCounterReconciler {
+
+    private final RequestDashboardService requestDashboardService;
+
+    public RequestCounterReconciler(RequestDashboardService requestDashboardService) {
+        this.requestDashboardService = requestDashboardService;
+    }
+
+    @Scheduled(fixedDelayString = "${requests.counters.reconcile.interval-ms:3600000}",
+            initialDelayString = "${requests.counters.reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        requestDashboardService.reconcileCounters();
+    }
+}
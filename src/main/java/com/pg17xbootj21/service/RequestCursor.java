@@ -0,0 +1,60 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.repository.RequestReadRepository.RequestSummaryRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public class RequestCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final Instant createdAt;
+    private final String protocol;
+
+    public RequestCursor(Instant createdAt, String protocol) {
+        this.createdAt = createdAt;
+        this.protocol = protocol;
+    }
+
+    public static RequestCursor of(RequestSummaryRow row) {
+        return new RequestCursor(row.createdAt(), row.protocol());
+    }
+
+    public static RequestCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new RuntimeException("Invalid cursor");
+            }
+            return new RequestCursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    public static boolean isValid(String cursor) {
+        try {
+            decode(cursor);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + protocol;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+}
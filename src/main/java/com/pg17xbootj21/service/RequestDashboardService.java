@@ -0,0 +1,34 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.repository.RequestReadRepository;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestDashboardRow;
+import com.pg17xbootj21.repository.RequestRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Service
+public class RequestDashboardService {
+
+    private static final long EXPIRING_WINDOW_SECONDS = 30 * 24 * 60 * 60L;
+
+    private final RequestReadRepository requestReadRepository;
+    private final RequestRepository requestRepository;
+
+    public RequestDashboardService(RequestReadRepository requestReadRepository, RequestRepository requestRepository) {
+        this.requestReadRepository = requestReadRepository;
+        this.requestRepository = requestRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public RequestDashboardRow getDashboard(String userId) {
+        return requestReadRepository.findDashboard(userId, Instant.now().plusSeconds(EXPIRING_WINDOW_SECONDS));
+    }
+
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int reconcileCounters() {
+        return requestRepository.reconcileCounters();
+    }
+}
@@ -0,0 +1,111 @@
+package com.pg17xbootj21.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pg17xbootj21.repository.RequestReadRepository;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestExportRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+public class RequestExportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+
+    private static final String CSV_HEADER = "protocol,userId,userDepartment,modules,moduleNames,status," +
+            "justification,urgent,createdAt,expiresAt,denialReason";
+
+    private final RequestReadRepository requestReadRepository;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+
+    public RequestExportService(RequestReadRepository requestReadRepository, UserService userService, ObjectMapper objectMapper) {
+        this.requestReadRepository = requestReadRepository;
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+    }
+
+    public String resolveDepartment(String userId, String department) {
+        if (department == null || department.trim().isEmpty()) {
+            return null;
+        }
+        userService.requireTiAdministrator(userId, "export requests for a department");
+        return department.trim();
+    }
+
+    @Transactional(readOnly = true)
+    public void export(String userId, String department, String format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        Consumer<RequestExportRow> sink;
+        if (FORMAT_CSV.equals(format)) {
+            writeLine(writer, CSV_HEADER);
+            sink = row -> writeLine(writer, toCsvLine(row));
+        } else {
+            sink = row -> writeLine(writer, toJsonLine(row));
+        }
+
+        if (department != null) {
+            requestReadRepository.streamByDepartment(department, sink);
+        } else {
+            requestReadRepository.streamByUser(userId, sink);
+        }
+        writer.flush();
+    }
+
+    private String toJsonLine(RequestExportRow row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize request " + row.protocol(), e);
+        }
+    }
+
+    private String toCsvLine(RequestExportRow row) {
+        return String.join(",",
+                csvField(row.protocol()),
+                csvField(row.userId()),
+                csvField(row.userDepartment()),
+                csvField(joinValues(row.modules())),
+                csvField(joinValues(row.moduleNames())),
+                csvField(row.status()),
+                csvField(row.justification()),
+                String.valueOf(row.urgent()),
+                csvField(row.createdAt() != null ? row.createdAt().toString() : null),
+                csvField(row.expiresAt() != null ? row.expiresAt().toString() : null),
+                csvField(row.denialReason()));
+    }
+
+    private String joinValues(List<String> values) {
+        return values == null ? null : String.join(";", values);
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.pg17xbootj21.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class RequestFields {
+
+    private RequestFields() {
+    }
+
+    public static Set<String> parse(String fields, List<String> allowed) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return null;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        List<String> invalid = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (allowed.contains(name)) {
+                requested.add(name);
+            } else {
+                invalid.add(name);
+            }
+        }
+        if (!invalid.isEmpty() || requested.isEmpty()) {
+            throw new RuntimeException("Invalid fields: " + String.join(", ", invalid) +
+                    ". Allowed fields: " + String.join(", ", allowed));
+        }
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String name : allowed) {
+            if (requested.contains(name)) {
+                ordered.add(name);
+            }
+        }
+        return Collections.unmodifiableSet(ordered);
+    }
+
+    public static boolean isValid(String fields, List<String> allowed) {
+        try {
+            parse(fields, allowed);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
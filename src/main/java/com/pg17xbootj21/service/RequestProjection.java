@@ -0,0 +1,116 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestHistory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RequestProjection {
+
+    private String status;
+    private String denialReason;
+    private final List<RequestEvent> lifecycleEvents = new ArrayList<>();
+    private final Map<String, Access> accesses = new LinkedHashMap<>();
+
+    public static RequestProjection replay(List<RequestEvent> events) {
+        RequestProjection projection = new RequestProjection();
+        events.forEach(projection::apply);
+        return projection;
+    }
+
+    public static RequestHistory toHistoryEntry(Request request, RequestEvent event) {
+        RequestHistory entry = new RequestHistory();
+        entry.setRequest(request);
+        entry.setDate(event.getOccurredAt());
+        entry.setAction(historyAction(event));
+        return entry;
+    }
+
+    public static String historyAction(RequestEvent event) {
+        return switch (event.getEventType()) {
+            case REQUEST_CREATED -> "CREATED";
+            case REQUEST_RENEWED -> "RENEWAL";
+            case REQUEST_PENDING -> "PENDING_APPROVAL";
+            case REQUEST_APPROVED -> "APPROVED";
+            case REQUEST_DENIED -> "DENIED";
+            case REQUEST_CANCELLED -> "CANCELLED: " + event.getDetail();
+            case REQUEST_EXPIRED -> "EXPIRED";
+            case MODULE_DEACTIVATED -> "MODULE_DEACTIVATED: " + event.getDetail();
+            case RECERTIFICATION_REVOKED -> "RECERTIFICATION_REVOKED: " + event.getDetail();
+            default -> throw new IllegalArgumentException("Event has no history entry: " + event.getEventType());
+        };
+    }
+
+    public void apply(RequestEvent event) {
+        switch (event.getEventType()) {
+            case REQUEST_CREATED, REQUEST_RENEWED, MODULE_DEACTIVATED, RECERTIFICATION_REVOKED -> lifecycleEvents.add(event);
+            case REQUEST_PENDING -> {
+                status = "PENDENTE";
+                lifecycleEvents.add(event);
+            }
+            case REQUEST_APPROVED -> {
+                status = "ATIVO";
+                denialReason = null;
+                lifecycleEvents.add(event);
+            }
+            case REQUEST_DENIED -> {
+                status = "NEGADO";
+                denialReason = event.getDetail();
+                lifecycleEvents.add(event);
+            }
+            case REQUEST_CANCELLED -> {
+                status = "CANCELADO";
+                lifecycleEvents.add(event);
+            }
+            case REQUEST_EXPIRED -> {
+                status = "EXPIRADO";
+                lifecycleEvents.add(event);
+            }
+            case ACCESS_GRANTED -> {
+                Access access = new Access();
+                access.setUserId(event.getUserId());
+                access.setModuleId(event.getModuleId());
+                access.setStatus("ATIVO");
+                access.setGrantedAt(event.getOccurredAt());
+                access.setExpiresAt(event.getExpiresAt());
+                access.setRequestProtocol(event.getRequestProtocol());
+                accesses.put(event.getModuleId(), access);
+            }
+            case ACCESS_REVOKED -> {
+                Access access = accesses.get(event.getModuleId());
+                if (access != null) {
+                    access.setStatus("REVOGADO");
+                    access.setEndedAt(event.getOccurredAt());
+                }
+            }
+            case ACCESS_EXPIRED -> {
+                Access access = accesses.get(event.getModuleId());
+                if (access != null) {
+                    access.setStatus("EXPIRADO");
+                    access.setEndedAt(event.getOccurredAt());
+                }
+            }
+        }
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getDenialReason() {
+        return denialReason;
+    }
+
+    public List<RequestEvent> getLifecycleEvents() {
+        return lifecycleEvents;
+    }
+
+    public List<Access> getAccesses() {
+        return new ArrayList<>(accesses.values());
+    }
+}
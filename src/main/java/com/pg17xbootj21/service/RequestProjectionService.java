@@ -0,0 +1,119 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+public class RequestProjectionService {
+
+    private static final String ACTIVE = "ATIVO";
+    private static final String REVOKED = "REVOGADO";
+
+    private final RequestEventRepository requestEventRepository;
+    private final RequestRepository requestRepository;
+    private final AccessRepository accessRepository;
+
+    public RequestProjectionService(RequestEventRepository requestEventRepository, RequestRepository requestRepository,
+                                    AccessRepository accessRepository) {
+        this.requestEventRepository = requestEventRepository;
+        this.requestRepository = requestRepository;
+        this.accessRepository = accessRepository;
+    }
+
+    @Transactional
+    public int rebuild(Collection<String> protocols) {
+        Map<String, List<RequestEvent>> eventsByProtocol = requestEventRepository.findByRequestProtocolInOrderByIdAsc(protocols).stream()
+                .collect(Collectors.groupingBy(RequestEvent::getRequestProtocol, LinkedHashMap::new, Collectors.toList()));
+        if (eventsByProtocol.isEmpty()) {
+            return 0;
+        }
+
+        List<Request> requests = requestRepository.findAllById(eventsByProtocol.keySet());
+        Map<AccessKey, Access> stale = new HashMap<>();
+        for (Access access : accessRepository.findByRequestProtocolIn(eventsByProtocol.keySet())) {
+            stale.put(new AccessKey(access.getRequestProtocol(), access.getModuleId()), access);
+        }
+
+        List<Access> inserted = new ArrayList<>();
+        for (Request request : requests) {
+            RequestProjection projection = RequestProjection.replay(eventsByProtocol.get(request.getProtocol()));
+            requestRepository.overwriteProjectedStatus(request.getProtocol(), projection.getStatus(), projection.getDenialReason());
+
+            List<RequestHistory> history = projection.getLifecycleEvents().stream()
+                    .map(event -> RequestProjection.toHistoryEntry(request, event))
+                    .toList();
+            if (!sameHistory(request.getHistory(), history)) {
+                request.getHistory().clear();
+                request.getHistory().addAll(history);
+            }
+            for (Access projected : projection.getAccesses()) {
+                Access current = stale.remove(new AccessKey(projected.getRequestProtocol(), projected.getModuleId()));
+                if (current == null) {
+                    inserted.add(projected);
+                } else {
+                    current.setUserId(projected.getUserId());
+                    current.setStatus(projected.getStatus());
+                    current.setGrantedAt(projected.getGrantedAt());
+                    current.setExpiresAt(projected.getExpiresAt());
+                    current.setEndedAt(projected.getEndedAt());
+                }
+            }
+        }
+        Instant now = Instant.now();
+        for (Access orphan : stale.values()) {
+            if (ACTIVE.equals(orphan.getStatus())) {
+                orphan.setStatus(REVOKED);
+            }
+            if (orphan.getEndedAt() == null) {
+                orphan.setEndedAt(now);
+            }
+        }
+        accessRepository.saveAll(inserted);
+
+        return requests.size();
+    }
+
+    @Transactional
+    public String rebuildBatch(String afterProtocol, int batchSize) {
+        List<String> protocols = requestEventRepository.findProtocolsAfter(afterProtocol, batchSize);
+        if (protocols.isEmpty()) {
+            return null;
+        }
+        rebuild(protocols);
+        return protocols.get(protocols.size() - 1);
+    }
+
+    private boolean sameHistory(List<RequestHistory> current, List<RequestHistory> replayed) {
+        if (current.size() != replayed.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            RequestHistory existing = current.get(i);
+            RequestHistory expected = replayed.get(i);
+            if (!Objects.equals(existing.getDate(), expected.getDate()) || !Objects.equals(existing.getAction(), expected.getAction())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record AccessKey(String protocol, String moduleId) {
+    }
+}
@@ -3,18 +3,35 @@ package com.pg17xbootj21.service;
 import com.pg17xbootj21.model.Access;
 import com.pg17xbootj21.model.Module;
 import com.pg17xbootj21.model.Request;
-import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
 import com.pg17xbootj21.model.User;
 import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestReadRepository;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestDetailsRow;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestSummaryRow;
 import com.pg17xbootj21.repository.RequestRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,17 +43,27 @@ public class RequestService {
     private final AccessService accessService;
     private final UserService userService;
     private final BusinessRuleService businessRuleService;
+    private final OutboxService outboxService;
+    private final RequestEventRepository requestEventRepository;
+    private final RequestReadRepository requestReadRepository;
+    private static final long RENEWAL_WINDOW_DAYS = 30;
+    private static final int MAX_TRANSITION_ATTEMPTS = 3;
     private static final List<String> GENERIC_WORDS = List.of("teste", "aaa", "preciso");
 
     public RequestService(RequestRepository requestRepository, AccessRepository accessRepository,
                          ModuleService moduleService, AccessService accessService, 
-                         UserService userService, BusinessRuleService businessRuleService) {
+                         UserService userService, BusinessRuleService businessRuleService,
+                         OutboxService outboxService, RequestEventRepository requestEventRepository,
+                         RequestReadRepository requestReadRepository) {
         this.requestRepository = requestRepository;
         this.accessRepository = accessRepository;
         this.moduleService = moduleService;
         this.accessService = accessService;
         this.userService = userService;
         this.businessRuleService = businessRuleService;
+        this.outboxService = outboxService;
+        this.requestEventRepository = requestEventRepository;
+        this.requestReadRepository = requestReadRepository;
     }
 
     @Transactional
@@ -44,14 +71,15 @@ public class RequestService {
         User user = userService.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        validateRequest(userId, moduleIds, justification);
+        RuleEvaluationContext context = loadRuleEvaluationContext(user, moduleIds);
+        validateRequest(context, moduleIds, justification);
 
         String protocol = generateProtocol();
         Instant createdAt = Instant.now();
         Instant expiresAt = Instant.now().plusSeconds(180 * 24 * 60 * 60L);
 
-        String denialReason = businessRuleService.validateBusinessRules(userId, user.getDepartment(), moduleIds);
-        String status = denialReason == null ? "ATIVO" : "NEGADO";
+        String denialReason = businessRuleService.validateBusinessRules(context, moduleIds);
+        String status = denialReason != null ? "NEGADO" : requiresApproval(context, moduleIds) ? "PENDENTE" : "ATIVO";
 
         Request request = new Request();
         request.setProtocol(protocol);
@@ -64,45 +92,63 @@ public class RequestService {
         request.setCreatedAt(createdAt);
         request.setExpiresAt(expiresAt);
         request.setDenialReason(denialReason);
+        request.setHistory(new ArrayList<>());
 
-        List<RequestHistory> history = new ArrayList<>();
-        history.add(createHistoryEntry(request, createdAt, "CREATED"));
-        if ("ATIVO".equals(status)) {
-            history.add(createHistoryEntry(request, createdAt, "APPROVED"));
-        } else {
-            history.add(createHistoryEntry(request, createdAt, "DENIED"));
-        }
-        request.setHistory(history);
+        List<RequestEvent> events = new ArrayList<>();
+        recordLifecycleEvents(request, events, createdAt, null);
 
         requestRepository.save(request);
 
         if ("ATIVO".equals(status)) {
-            createAccesses(userId, moduleIds, protocol, createdAt, expiresAt);
+            createAccesses(userId, moduleIds, protocol, createdAt, expiresAt, events);
         }
 
+        requestEventRepository.saveAll(events);
         return request;
     }
 
-    private void validateRequest(String userId, List<String> moduleIds, String justification) {
-        List<Request> activeRequests = requestRepository.findByUserIdAndStatus(userId, "ATIVO");
-        List<String> activeModuleIds = accessService.getActiveModuleIds(userId);
+    private RuleEvaluationContext loadRuleEvaluationContext(User user, List<String> moduleIds) {
+        moduleService.lockForRequest(moduleIds);
+        List<String> activeModuleIds = new ArrayList<>();
+        List<String> activeRequestModuleIds = new ArrayList<>();
+        for (RequestRepository.ActiveModuleRow row : requestRepository.findActiveModuleRows(user.getId())) {
+            if ("ACCESS".equals(row.getSource())) {
+                activeModuleIds.add(row.getModuleId());
+            } else {
+                activeRequestModuleIds.add(row.getModuleId());
+                if ("PENDING".equals(row.getSource())) {
+                    activeModuleIds.add(row.getModuleId());
+                }
+            }
+        }
 
+        Set<String> catalogIds = new LinkedHashSet<>(moduleIds);
+        catalogIds.addAll(activeModuleIds);
+        Map<String, Module> catalog = moduleService.getCatalog(catalogIds);
+
+        return new RuleEvaluationContext(user.getDepartment(), activeModuleIds, activeRequestModuleIds, catalog);
+    }
+
+    private boolean requiresApproval(RuleEvaluationContext context, List<String> moduleIds) {
+        return moduleIds.stream().anyMatch(moduleId -> context.getModule(moduleId).isRequiresApproval());
+    }
+
+    private void validateRequest(RuleEvaluationContext context, List<String> moduleIds, String justification) {
         for (String moduleId : moduleIds) {
-            Module module = moduleService.findById(moduleId)
-                    .orElseThrow(() -> new RuntimeException("Module not found: " + moduleId));
+            Module module = context.getModule(moduleId);
+            if (module == null) {
+                throw new RuntimeException("Module not found: " + moduleId);
+            }
 
             if (!module.isActive()) {
                 throw new RuntimeException("Module is not active: " + moduleId);
             }
 
-            boolean hasActiveRequest = activeRequests.stream()
-                    .anyMatch(req -> req.getModules().contains(moduleId) && "ATIVO".equals(req.getStatus()));
-
-            if (hasActiveRequest) {
+            if (context.getActiveRequestModuleIds().contains(moduleId)) {
                 throw new RuntimeException("Active request already exists for module: " + moduleId);
             }
 
-            if (activeModuleIds.contains(moduleId)) {
+            if (context.getActiveModuleIds().contains(moduleId)) {
                 throw new RuntimeException("User already has active access to module: " + moduleId);
             }
         }
@@ -125,6 +171,11 @@ public class RequestService {
         return requestRepository.findByProtocolAndUserId(protocol, userId).orElse(null);
     }
 
+    @Transactional(readOnly = true)
+    public RequestDetailsRow findRequestDetails(String userId, String protocol, Set<String> fields, Integer historyLimit) {
+        return requestReadRepository.findDetails(protocol, userId, fields, historyLimit).orElse(null);
+    }
+
     @Transactional
     public Request cancelRequest(String userId, String protocol, String reason) {
         Request request = findRequestByProtocol(userId, protocol);
@@ -132,24 +183,48 @@ public class RequestService {
             throw new RuntimeException("Request not found");
         }
 
-        if (!"ATIVO".equals(request.getStatus())) {
-            throw new RuntimeException("Only requests with ATIVO status can be cancelled");
+        String status = request.getStatus();
+        long version = request.getVersion();
+        for (int attempt = 1; ; attempt++) {
+            if (!"ATIVO".equals(status) && !"PENDENTE".equals(status)) {
+                throw new RuntimeException("Only requests with ATIVO or PENDENTE status can be cancelled");
+            }
+
+            Optional<Long> newVersion = requestRepository.compareAndSetStatus(protocol, userId, status, version, "CANCELADO");
+            if (newVersion.isPresent()) {
+                request.setStatus("CANCELADO");
+                request.setVersion(newVersion.get());
+                break;
+            }
+
+            RequestRepository.RequestState state = reloadStateForRetry(userId, protocol, attempt);
+            status = state.getStatus();
+            version = state.getVersion();
         }
 
         Instant cancelledAt = Instant.now();
-        request.setStatus("CANCELADO");
-
-        RequestHistory historyEntry = createHistoryEntry(request, cancelledAt, "CANCELLED: " + reason);
-        request.getHistory().add(historyEntry);
+        List<RequestEvent> events = new ArrayList<>();
+        appendLifecycleEvent(request, events, RequestEventType.REQUEST_CANCELLED, cancelledAt, reason);
 
-        requestRepository.save(request);
-        revokeAccessesByProtocol(userId, protocol);
+        if ("ATIVO".equals(status)) {
+            revokeAccessesByProtocol(userId, protocol, cancelledAt);
+            recordAccessEvents(events, RequestEventType.ACCESS_REVOKED, userId, protocol, request.getModules(), cancelledAt, null);
+        }
 
+        requestEventRepository.saveAll(events);
         return request;
     }
 
-    private void revokeAccessesByProtocol(String userId, String protocol) {
-        accessRepository.updateStatusByUserIdAndProtocol(userId, protocol, "ATIVO", "REVOGADO");
+    private RequestRepository.RequestState reloadStateForRetry(String userId, String protocol, int attempt) {
+        if (attempt >= MAX_TRANSITION_ATTEMPTS) {
+            throw new RuntimeException("Request was modified concurrently, please try again");
+        }
+        return requestRepository.findStateByProtocolAndUserId(protocol, userId)
+                .orElseThrow(() -> new RuntimeException("Request not found"));
+    }
+
+    private void revokeAccessesByProtocol(String userId, String protocol, Instant revokedAt) {
+        accessRepository.updateStatusByUserIdAndProtocol(userId, protocol, "ATIVO", "REVOGADO", revokedAt);
     }
 
     @Transactional
@@ -159,10 +234,30 @@ public class RequestService {
             throw new RuntimeException("Request not found");
         }
 
-        if (!"ATIVO".equals(originalRequest.getStatus())) {
-            throw new RuntimeException("Request status must be ATIVO");
+        String status = originalRequest.getStatus();
+        long version = originalRequest.getVersion();
+        String protocol = null;
+        for (int attempt = 1; ; attempt++) {
+            if (!"ATIVO".equals(status)) {
+                throw new RuntimeException("Request status must be ATIVO");
+            }
+
+            if (protocol == null) {
+                protocol = generateProtocol();
+            }
+            Request newRequest = attemptRenewal(userId, originalRequest, version, protocol);
+            if (newRequest != null) {
+                return newRequest;
+            }
+
+            RequestRepository.RequestState state = reloadStateForRetry(userId, originalProtocol, attempt);
+            status = state.getStatus();
+            version = state.getVersion();
         }
+    }
 
+    private Request attemptRenewal(String userId, Request originalRequest, long expectedVersion, String protocol) {
+        String originalProtocol = originalRequest.getProtocol();
         List<Access> accesses = accessService.getAccessesByProtocol(userId, originalProtocol);
         if (accesses.isEmpty()) {
             throw new RuntimeException("No active accesses found for this request");
@@ -172,52 +267,184 @@ public class RequestService {
         Instant expiresAt = firstAccess.getExpiresAt();
         long daysUntilExpiration = calculateDaysUntilExpiration(expiresAt);
         
-        if (daysUntilExpiration >= 30) {
+        if (daysUntilExpiration >= RENEWAL_WINDOW_DAYS) {
             throw new RuntimeException("Access can only be renewed when less than 30 days until expiration");
         }
 
         User user = userService.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<String> moduleIds = originalRequest.getModules();
-        String justification = "Renovação de acesso - Solicitação original: " + originalProtocol;
-
-        String denialReason = businessRuleService.validateBusinessRules(userId, user.getDepartment(), moduleIds);
-        String status = denialReason == null ? "ATIVO" : "NEGADO";
+        List<String> moduleIds = new ArrayList<>(originalRequest.getModules());
+        RuleEvaluationContext context = loadRuleEvaluationContext(user, moduleIds);
+        String inactiveModuleId = findInactiveModule(context, moduleIds);
+        if (inactiveModuleId != null) {
+            throw new RuntimeException("Module is not active: " + inactiveModuleId);
+        }
+        String denialReason = businessRuleService.validateBusinessRules(context, moduleIds);
 
-        String newProtocol = generateProtocol();
         Instant createdAt = Instant.now();
         Instant newExpiresAt = Instant.now().plusSeconds(180 * 24 * 60 * 60L);
+        Request newRequest = buildRenewalRequest(originalRequest, user, denialReason, protocol, createdAt, newExpiresAt);
 
-        Request newRequest = new Request();
-        newRequest.setProtocol(newProtocol);
-        newRequest.setUserId(userId);
-        newRequest.setUserDepartment(user.getDepartment());
-        newRequest.setModules(moduleIds);
-        newRequest.setJustification(justification);
-        newRequest.setUrgent(originalRequest.isUrgent());
-        newRequest.setStatus(status);
-        newRequest.setCreatedAt(createdAt);
-        newRequest.setExpiresAt(newExpiresAt);
-        newRequest.setDenialReason(denialReason);
+        Optional<Long> newVersion = requestRepository.compareAndSetStatus(originalProtocol, userId, "ATIVO", expectedVersion, "ATIVO");
+        if (newVersion.isEmpty()) {
+            return null;
+        }
+        originalRequest.setVersion(newVersion.get());
 
-        List<RequestHistory> history = new ArrayList<>();
-        history.add(createHistoryEntry(newRequest, createdAt, "CREATED"));
-        history.add(createHistoryEntry(newRequest, createdAt, "RENEWAL"));
-        if ("ATIVO".equals(status)) {
-            history.add(createHistoryEntry(newRequest, createdAt, "APPROVED"));
+        List<RequestEvent> events = new ArrayList<>();
+        recordLifecycleEvents(newRequest, events, createdAt, originalProtocol);
+        requestRepository.save(newRequest);
+
+        if ("ATIVO".equals(newRequest.getStatus())) {
+            revokeAccessesByProtocol(userId, originalProtocol, createdAt);
+            recordAccessEvents(events, RequestEventType.ACCESS_REVOKED, userId, originalProtocol,
+                    accesses.stream().map(Access::getModuleId).collect(Collectors.toList()), createdAt, null);
+            createAccesses(userId, moduleIds, newRequest.getProtocol(), createdAt, newExpiresAt, events);
+        }
+
+        requestEventRepository.saveAll(events);
+        return newRequest;
+    }
+
+    @Transactional
+    public List<Request> renewExpiringAccesses(String userId, String department) {
+        boolean departmentWide = department != null && !department.trim().isEmpty();
+        User caller = departmentWide
+                ? userService.requireTiAdministrator(userId, "renew accesses for a department")
+                : userService.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+
+        Instant createdAt = Instant.now();
+        Instant threshold = createdAt.plusSeconds(RENEWAL_WINDOW_DAYS * 24 * 60 * 60L);
+
+        List<Access> expiringAccesses;
+        if (departmentWide) {
+            expiringAccesses = accessRepository.findExpiringByDepartment(department, "ATIVO", threshold);
         } else {
-            history.add(createHistoryEntry(newRequest, createdAt, "DENIED"));
+            expiringAccesses = accessRepository.findByUserIdAndStatusAndExpiresAtBefore(userId, "ATIVO", threshold);
         }
-        newRequest.setHistory(history);
 
-        requestRepository.save(newRequest);
+        Map<String, List<Access>> accessesByProtocol = expiringAccesses.stream()
+                .collect(Collectors.groupingBy(Access::getRequestProtocol, LinkedHashMap::new, Collectors.toList()));
+        if (accessesByProtocol.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        if ("ATIVO".equals(status)) {
-            revokeOldAccesses(accesses);
-            createAccesses(userId, moduleIds, newProtocol, createdAt, newExpiresAt);
+        List<Request> originalRequests = requestRepository.findWithModulesByProtocolInAndStatus(accessesByProtocol.keySet(), "ATIVO");
+        if (originalRequests.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> userIds = originalRequests.stream().map(Request::getUserId).collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, User> users = new HashMap<>();
+        if (departmentWide) {
+            userService.findAllById(userIds).forEach(user -> users.put(user.getId(), user));
+        } else {
+            users.put(caller.getId(), caller);
+        }
+
+        Map<String, List<String>> activeModuleIdsByUser = new HashMap<>();
+        for (AccessRepository.UserModuleRow row : accessRepository.findActiveModuleRowsByUserIds(userIds, "ATIVO")) {
+            activeModuleIdsByUser.computeIfAbsent(row.getUserId(), id -> new ArrayList<>()).add(row.getModuleId());
+        }
+
+        Set<String> catalogIds = new LinkedHashSet<>();
+        originalRequests.forEach(request -> catalogIds.addAll(request.getModules()));
+        activeModuleIdsByUser.values().forEach(catalogIds::addAll);
+        Map<String, Module> catalog = moduleService.getCatalog(catalogIds);
+
+        Map<String, RuleEvaluationContext> contexts = new HashMap<>();
+        List<Long> sequences = requestRepository.nextProtocolSequences(originalRequests.size());
+        Instant expiresAt = createdAt.plusSeconds(180 * 24 * 60 * 60L);
+
+        Map<Request, Request> renewals = new LinkedHashMap<>();
+        Map<Request, Request> approvedRenewals = new LinkedHashMap<>();
+        for (int i = 0; i < originalRequests.size(); i++) {
+            Request originalRequest = originalRequests.get(i);
+            User user = users.get(originalRequest.getUserId());
+            if (user == null) {
+                continue;
+            }
+
+            RuleEvaluationContext context = contexts.computeIfAbsent(user.getId(), id -> new RuleEvaluationContext(
+                    user.getDepartment(), activeModuleIdsByUser.getOrDefault(id, new ArrayList<>()), new ArrayList<>(), catalog));
+            List<String> moduleIds = new ArrayList<>(originalRequest.getModules());
+            String inactiveModuleId = findInactiveModule(context, moduleIds);
+            String denialReason = inactiveModuleId != null
+                    ? "Module is not active: " + inactiveModuleId
+                    : businessRuleService.validateBusinessRules(context, moduleIds);
+
+            Request renewal = buildRenewalRequest(originalRequest, user, denialReason,
+                    formatProtocol(sequences.get(i)), createdAt, expiresAt);
+            renewals.put(originalRequest, renewal);
+
+            if ("ATIVO".equals(renewal.getStatus())) {
+                approvedRenewals.put(originalRequest, renewal);
+            }
         }
 
+        if (!renewals.isEmpty()) {
+            String[] protocols = renewals.keySet().stream().map(Request::getProtocol).toArray(String[]::new);
+            Long[] versions = renewals.keySet().stream().map(Request::getVersion).toArray(Long[]::new);
+            Set<String> claimedProtocols = new HashSet<>(requestRepository.compareAndSetVersions(protocols, versions, "ATIVO"));
+            renewals.keySet().removeIf(originalRequest -> !claimedProtocols.contains(originalRequest.getProtocol()));
+            approvedRenewals.keySet().removeIf(originalRequest -> !claimedProtocols.contains(originalRequest.getProtocol()));
+        }
+
+        List<RequestEvent> events = new ArrayList<>();
+        renewals.forEach((originalRequest, renewal) ->
+                recordLifecycleEvents(renewal, events, createdAt, originalRequest.getProtocol()));
+        List<Request> renewedRequests = new ArrayList<>(renewals.values());
+        requestRepository.saveAll(renewedRequests);
+
+        if (!approvedRenewals.isEmpty()) {
+            List<String> revokedProtocols = approvedRenewals.keySet().stream().map(Request::getProtocol).collect(Collectors.toList());
+            accessRepository.updateStatusByProtocols(revokedProtocols, "ATIVO", "REVOGADO", createdAt);
+
+            List<Access> grants = new ArrayList<>();
+            approvedRenewals.values().forEach(renewal -> grants.addAll(
+                    buildAccesses(renewal.getUserId(), renewal.getModules(), renewal.getProtocol(), createdAt, expiresAt)));
+            accessRepository.saveAll(grants);
+        }
+
+        approvedRenewals.forEach((originalRequest, renewal) -> {
+            recordAccessEvents(events, RequestEventType.ACCESS_REVOKED, originalRequest.getUserId(), originalRequest.getProtocol(),
+                    accessesByProtocol.get(originalRequest.getProtocol()).stream().map(Access::getModuleId).collect(Collectors.toList()),
+                    createdAt, null);
+            recordAccessEvents(events, RequestEventType.ACCESS_GRANTED, renewal.getUserId(), renewal.getProtocol(),
+                    renewal.getModules(), createdAt, expiresAt);
+        });
+
+        requestEventRepository.saveAll(events);
+        return renewedRequests;
+    }
+
+    private String findInactiveModule(RuleEvaluationContext context, List<String> moduleIds) {
+        for (String moduleId : moduleIds) {
+            Module module = context.getModule(moduleId);
+            if (module != null && !module.isActive()) {
+                return moduleId;
+            }
+        }
+        return null;
+    }
+
+    private Request buildRenewalRequest(Request originalRequest, User user, String denialReason, String protocol,
+                                        Instant createdAt, Instant expiresAt) {
+        String status = denialReason == null ? "ATIVO" : "NEGADO";
+
+        Request newRequest = new Request();
+        newRequest.setProtocol(protocol);
+        newRequest.setUserId(user.getId());
+        newRequest.setUserDepartment(user.getDepartment());
+        newRequest.setModules(new ArrayList<>(originalRequest.getModules()));
+        newRequest.setJustification("Renovação de acesso - Solicitação original: " + originalRequest.getProtocol());
+        newRequest.setUrgent(originalRequest.isUrgent());
+        newRequest.setStatus(status);
+        newRequest.setCreatedAt(createdAt);
+        newRequest.setExpiresAt(expiresAt);
+        newRequest.setDenialReason(denialReason);
+        newRequest.setHistory(new ArrayList<>());
         return newRequest;
     }
 
@@ -226,16 +453,14 @@ public class RequestService {
         return (expiresAt.toEpochMilli() - now.toEpochMilli()) / (1000 * 60 * 60 * 24);
     }
 
-    private void revokeOldAccesses(List<Access> accesses) {
-        for (Access access : accesses) {
-            if ("ATIVO".equals(access.getStatus())) {
-                access.setStatus("REVOGADO");
-                accessRepository.save(access);
-            }
-        }
+    private void createAccesses(String userId, List<String> moduleIds, String protocol, Instant grantedAt, Instant expiresAt,
+                                List<RequestEvent> events) {
+        accessRepository.saveAll(buildAccesses(userId, moduleIds, protocol, grantedAt, expiresAt));
+        recordAccessEvents(events, RequestEventType.ACCESS_GRANTED, userId, protocol, moduleIds, grantedAt, expiresAt);
     }
 
-    private void createAccesses(String userId, List<String> moduleIds, String protocol, Instant grantedAt, Instant expiresAt) {
+    private List<Access> buildAccesses(String userId, List<String> moduleIds, String protocol, Instant grantedAt, Instant expiresAt) {
+        List<Access> accesses = new ArrayList<>();
         for (String moduleId : moduleIds) {
             Access access = new Access();
             access.setUserId(userId);
@@ -244,98 +469,112 @@ public class RequestService {
             access.setGrantedAt(grantedAt);
             access.setExpiresAt(expiresAt);
             access.setRequestProtocol(protocol);
-            accessRepository.save(access);
+            accesses.add(access);
         }
+        return accesses;
     }
 
-    private String generateProtocol() {
-        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        long count = requestRepository.count();
-        int sequence = (int) (count + 1);
-        return String.format("SOL-%s-%04d", date, sequence);
+    private void recordLifecycleEvents(Request request, List<RequestEvent> events, Instant occurredAt, String renewedFrom) {
+        appendLifecycleEvent(request, events, RequestEventType.REQUEST_CREATED, occurredAt, null);
+        if (renewedFrom != null) {
+            appendLifecycleEvent(request, events, RequestEventType.REQUEST_RENEWED, occurredAt, renewedFrom);
+        }
+        if ("ATIVO".equals(request.getStatus())) {
+            appendLifecycleEvent(request, events, RequestEventType.REQUEST_APPROVED, occurredAt, null);
+        } else if ("PENDENTE".equals(request.getStatus())) {
+            appendLifecycleEvent(request, events, RequestEventType.REQUEST_PENDING, occurredAt, null);
+        } else {
+            appendLifecycleEvent(request, events, RequestEventType.REQUEST_DENIED, occurredAt, request.getDenialReason());
+        }
     }
 
-    private RequestHistory createHistoryEntry(Request request, Instant date, String action) {
-        RequestHistory entry = new RequestHistory();
-        entry.setRequest(request);
-        entry.setDate(date);
-        entry.setAction(action);
-        return entry;
+    private void appendLifecycleEvent(Request request, List<RequestEvent> events, RequestEventType type,
+                                      Instant occurredAt, String detail) {
+        RequestEvent event = new RequestEvent(request.getProtocol(), request.getUserId(), type, occurredAt);
+        event.setDetail(detail);
+        events.add(event);
+        request.getHistory().add(RequestProjection.toHistoryEntry(request, event));
     }
 
-    public List<Request> searchRequests(String userId, String search, String status, String startDate, String endDate, Boolean urgent) {
-        List<Request> allRequests = requestRepository.findByUserId(userId);
-        
-        return allRequests.stream()
-                .filter(req -> matchesSearch(req, search))
-                .filter(req -> matchesStatus(req, status))
-                .filter(req -> matchesDateRange(req, startDate, endDate))
-                .filter(req -> matchesUrgent(req, urgent))
-                .sorted((r1, r2) -> r2.getCreatedAt().compareTo(r1.getCreatedAt()))
-                .collect(Collectors.toList());
+    private void recordAccessEvents(List<RequestEvent> events, RequestEventType type, String userId, String protocol,
+                                    List<String> moduleIds, Instant occurredAt, Instant expiresAt) {
+        for (String moduleId : moduleIds) {
+            RequestEvent event = new RequestEvent(protocol, userId, type, occurredAt);
+            event.setModuleId(moduleId);
+            event.setExpiresAt(expiresAt);
+            events.add(event);
+        }
+        outboxService.enqueueAccessEvent(protocol, type.name(), userId, moduleIds, occurredAt, expiresAt);
     }
 
-    private boolean matchesSearch(Request request, String search) {
-        if (search == null || search.trim().isEmpty()) {
-            return true;
-        }
-        String lowerSearch = search.toLowerCase();
-        if (request.getProtocol() != null && request.getProtocol().toLowerCase().contains(lowerSearch)) {
-            return true;
-        }
-        if (request.getModules() != null) {
-            for (String moduleId : request.getModules()) {
-                Module module = moduleService.findById(moduleId).orElse(null);
-                if (module != null && module.getName().toLowerCase().contains(lowerSearch)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    private String generateProtocol() {
+        return formatProtocol(requestRepository.nextProtocolSequence());
     }
 
-    private boolean matchesStatus(Request request, String status) {
-        if (status == null || status.trim().isEmpty()) {
-            return true;
-        }
-        return status.equalsIgnoreCase(request.getStatus());
+    private String formatProtocol(long sequence) {
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return String.format("SOL-%s-%04d", date, sequence);
     }
 
-    private boolean matchesDateRange(Request request, String startDate, String endDate) {
-        if (startDate == null && endDate == null) {
-            return true;
+    @Transactional(readOnly = true)
+    public Page<RequestSummaryRow> searchRequests(String userId, String search, String status, String startDate, String endDate,
+                                        Boolean urgent, Set<String> fields, int page, int size) {
+        String normalizedStatus = status == null || status.trim().isEmpty() ? null : status.trim().toUpperCase();
+        Instant startAt = parseDateBoundary(startDate, false);
+        Instant endBefore = parseDateBoundary(endDate, true);
+        String query = toSearchQuery(search);
+        if (query == null) {
+            return requestReadRepository.search(userId, normalizedStatus, urgent, startAt, endBefore,
+                    null, null, fields, PageRequest.of(page, size));
         }
-        Instant createdAt = request.getCreatedAt();
-        if (createdAt == null) {
-            return false;
+        return requestReadRepository.searchRanked(userId, normalizedStatus, urgent, startAt, endBefore,
+                toSearchPattern(query), query, fields, PageRequest.of(page, size));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<RequestSummaryRow> searchRequestsAfter(String userId, String search, String status, String startDate, String endDate,
+                                              Boolean urgent, Set<String> fields, String cursor, int size) {
+        String normalizedStatus = status == null || status.trim().isEmpty() ? null : status.trim().toUpperCase();
+        Instant startAt = parseDateBoundary(startDate, false);
+        Instant endBefore = parseDateBoundary(endDate, true);
+        String query = toSearchQuery(search);
+        String pattern = toSearchPattern(query);
+        List<RequestSummaryRow> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = requestReadRepository.searchFirst(userId, normalizedStatus, urgent, startAt, endBefore, pattern, query, fields, size + 1);
+        } else {
+            RequestCursor after = RequestCursor.decode(cursor);
+            rows = requestReadRepository.searchAfter(userId, normalizedStatus, urgent, startAt, endBefore, pattern, query,
+                    after.getCreatedAt(), after.getProtocol(), fields, size + 1);
         }
-        if (startDate != null) {
-            try {
-                Instant start = Instant.parse(startDate);
-                if (createdAt.isBefore(start)) {
-                    return false;
-                }
-            } catch (Exception e) {
-                return false;
-            }
+        boolean hasNext = rows.size() > size;
+        List<RequestSummaryRow> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private Instant parseDateBoundary(String date, boolean endOfRange) {
+        if (date == null || date.trim().isEmpty()) {
+            return null;
         }
-        if (endDate != null) {
-            try {
-                Instant end = Instant.parse(endDate);
-                if (createdAt.isAfter(end)) {
-                    return false;
-                }
-            } catch (Exception e) {
-                return false;
-            }
+        LocalDate day = LocalDate.parse(date.trim());
+        return (endOfRange ? day.plusDays(1) : day).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private String toSearchQuery(String search) {
+        if (search == null || search.trim().isEmpty()) {
+            return null;
         }
-        return true;
+        return search.trim().toLowerCase();
     }
 
-    private boolean matchesUrgent(Request request, Boolean urgent) {
-        if (urgent == null) {
-            return true;
+    private String toSearchPattern(String query) {
+        if (query == null) {
+            return null;
         }
-        return request.isUrgent() == urgent;
+        String escaped = query
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
     }
 }
@@ -0,0 +1,42 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Module;
+
+import java.util.List;
+import java.util.Map;
+
+public class RuleEvaluationContext {
+
+    private final String department;
+    private final List<String> activeModuleIds;
+    private final List<String> activeRequestModuleIds;
+    private final Map<String, Module> catalog;
+
+    public RuleEvaluationContext(String department, List<String> activeModuleIds,
+                                 List<String> activeRequestModuleIds, Map<String, Module> catalog) {
+        this.department = department;
+        this.activeModuleIds = activeModuleIds;
+        this.activeRequestModuleIds = activeRequestModuleIds;
+        this.catalog = catalog;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public List<String> getActiveModuleIds() {
+        return activeModuleIds;
+    }
+
+    public List<String> getActiveRequestModuleIds() {
+        return activeRequestModuleIds;
+    }
+
+    public Map<String, Module> getCatalog() {
+        return catalog;
+    }
+
+    public Module getModule(String moduleId) {
+        return catalog.get(moduleId);
+    }
+}
@@ -4,6 +4,8 @@ import com.pg17xbootj21.model.User;
 import com.pg17xbootj21.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -19,8 +21,21 @@ public class UserService {
         return userRepository.findById(userId);
     }
 
+    public List<User> findAllById(Collection<String> userIds) {
+        return userRepository.findAllById(userIds);
+    }
+
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
+
+    public User requireTiAdministrator(String userId, String action) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (!"TI".equals(user.getDepartment())) {
+            throw new RuntimeException("Only TI administrators can " + action);
+        }
+        return user;
+    }
 }
 
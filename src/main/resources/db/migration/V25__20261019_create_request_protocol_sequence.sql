@@ -0,0 +1,6 @@
+CREATE SEQUENCE IF NOT EXISTS request_protocol_seq;
+
+SELECT setval('request_protocol_seq', (SELECT COUNT(*) FROM requests) + 1, false);
+
+ALTER SEQUENCE accesses_id_seq INCREMENT BY 50;
+ALTER SEQUENCE request_history_id_seq INCREMENT BY 50;
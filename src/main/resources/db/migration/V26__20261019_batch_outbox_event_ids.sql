@@ -0,0 +1 @@
+ALTER SEQUENCE outbox_events_id_seq INCREMENT BY 50;
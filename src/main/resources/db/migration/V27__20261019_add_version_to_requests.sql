@@ -0,0 +1 @@
+ALTER TABLE requests ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,59 @@
+CREATE TABLE IF NOT EXISTS request_events (
+    id BIGSERIAL PRIMARY KEY,
+    request_protocol VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    module_id VARCHAR(255),
+    detail TEXT,
+    occurred_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_request_events_protocol ON request_events(request_protocol, id);
+
+CREATE OR REPLACE FUNCTION reject_request_event_changes() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'request_events is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_request_events_append_only
+    BEFORE UPDATE OR DELETE ON request_events
+    FOR EACH ROW EXECUTE FUNCTION reject_request_event_changes();
+
+INSERT INTO request_events (request_protocol, user_id, event_type, module_id, detail, occurred_at, expires_at)
+SELECT request_protocol, user_id, event_type, module_id, detail, occurred_at, expires_at
+FROM (
+    SELECT h.request_protocol, r.user_id,
+           CASE
+               WHEN h.action = 'CREATED' THEN 'REQUEST_CREATED'
+               WHEN h.action = 'RENEWAL' THEN 'REQUEST_RENEWED'
+               WHEN h.action = 'APPROVED' THEN 'REQUEST_APPROVED'
+               WHEN h.action = 'DENIED' THEN 'REQUEST_DENIED'
+               ELSE 'REQUEST_CANCELLED'
+           END AS event_type,
+           NULL AS module_id,
+           CASE
+               WHEN h.action = 'RENEWAL' THEN substring(r.justification FROM 'Solicitação original: (.*)$')
+               WHEN h.action = 'DENIED' THEN r.denial_reason
+               WHEN h.action LIKE 'CANCELLED: %' THEN substring(h.action FROM 12)
+           END AS detail,
+           h.date AS occurred_at,
+           NULL::TIMESTAMP AS expires_at,
+           0 AS phase,
+           h.id AS source_id
+    FROM request_history h
+    JOIN requests r ON r.protocol = h.request_protocol
+    UNION ALL
+    SELECT a.request_protocol, a.user_id, 'ACCESS_GRANTED', a.module_id, NULL, a.granted_at, a.expires_at, 1, a.id
+    FROM accesses a
+    UNION ALL
+    SELECT a.request_protocol, a.user_id, 'ACCESS_REVOKED', a.module_id, NULL,
+           GREATEST(a.granted_at, (SELECT MAX(h.date) FROM request_history h WHERE h.request_protocol = a.request_protocol)),
+           NULL, 2, a.id
+    FROM accesses a
+    WHERE a.status = 'REVOGADO'
+) backfill
+ORDER BY request_protocol, phase, occurred_at, source_id;
+
+ALTER SEQUENCE request_events_id_seq INCREMENT BY 50;
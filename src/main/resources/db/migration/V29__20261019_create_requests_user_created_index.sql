@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_requests_user_created_at ON requests(user_id, created_at DESC, protocol);
+
+DROP INDEX IF EXISTS idx_requests_user_id;
@@ -0,0 +1,63 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE requests ADD COLUMN IF NOT EXISTS search_document TEXT NOT NULL DEFAULT '';
+ALTER TABLE requests ADD COLUMN IF NOT EXISTS search_vector TSVECTOR NOT NULL DEFAULT ''::tsvector;
+
+CREATE OR REPLACE FUNCTION request_module_names(target_protocol VARCHAR) RETURNS TEXT AS $$
+    SELECT coalesce(string_agg(m.name, ' ' ORDER BY m.name), '')
+    FROM request_modules rm
+    JOIN modules m ON m.id = rm.module_id
+    WHERE rm.request_protocol = target_protocol
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION set_request_search_columns() RETURNS trigger AS $$
+DECLARE
+    module_names TEXT := request_module_names(NEW.protocol);
+BEGIN
+    NEW.search_document := lower(concat_ws(' ', NEW.protocol, module_names, NEW.justification));
+    NEW.search_vector := setweight(to_tsvector('simple', NEW.protocol), 'A')
+        || setweight(to_tsvector('portuguese', module_names), 'B')
+        || setweight(to_tsvector('portuguese', coalesce(NEW.justification, '')), 'C');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_requests_search_columns
+    BEFORE INSERT OR UPDATE OF justification ON requests
+    FOR EACH ROW EXECUTE FUNCTION set_request_search_columns();
+
+CREATE OR REPLACE FUNCTION refresh_request_search_from_modules() RETURNS trigger AS $$
+BEGIN
+    UPDATE requests SET justification = justification
+    WHERE protocol IN (SELECT request_protocol FROM changed_rows);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_request_modules_search_insert
+    AFTER INSERT ON request_modules
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_request_search_from_modules();
+
+CREATE TRIGGER trg_request_modules_search_delete
+    AFTER DELETE ON request_modules
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION refresh_request_search_from_modules();
+
+CREATE OR REPLACE FUNCTION refresh_request_search_from_module_name() RETURNS trigger AS $$
+BEGIN
+    UPDATE requests SET justification = justification
+    WHERE protocol IN (SELECT request_protocol FROM request_modules WHERE module_id = NEW.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_modules_search_name
+    AFTER UPDATE OF name ON modules
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION refresh_request_search_from_module_name();
+
+UPDATE requests SET justification = justification;
+
+CREATE INDEX IF NOT EXISTS idx_requests_search_document_trgm ON requests USING GIN (search_document gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_requests_search_vector ON requests USING GIN (search_vector);
@@ -0,0 +1,64 @@
+CREATE TABLE IF NOT EXISTS request_summary (
+    protocol VARCHAR(255) PRIMARY KEY REFERENCES requests(protocol) ON DELETE CASCADE,
+    user_id VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    urgent BOOLEAN NOT NULL,
+    justification TEXT,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    denial_reason TEXT,
+    module_ids TEXT[] NOT NULL DEFAULT '{}',
+    module_names TEXT[] NOT NULL DEFAULT '{}',
+    search_document TEXT NOT NULL DEFAULT '',
+    search_vector TSVECTOR NOT NULL DEFAULT ''::tsvector
+);
+
+CREATE OR REPLACE FUNCTION upsert_request_summary() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO request_summary (protocol, user_id, status, urgent, justification, created_at, expires_at,
+                                 denial_reason, module_ids, module_names, search_document, search_vector)
+    SELECT NEW.protocol, NEW.user_id, NEW.status, NEW.urgent, NEW.justification, NEW.created_at, NEW.expires_at,
+           NEW.denial_reason,
+           coalesce(array_agg(rm.module_id ORDER BY rm.module_id) FILTER (WHERE rm.module_id IS NOT NULL), '{}'),
+           coalesce(array_agg(coalesce(m.name, rm.module_id) ORDER BY rm.module_id) FILTER (WHERE rm.module_id IS NOT NULL), '{}'),
+           NEW.search_document, NEW.search_vector
+    FROM (SELECT 1) self
+    LEFT JOIN request_modules rm ON rm.request_protocol = NEW.protocol
+    LEFT JOIN modules m ON m.id = rm.module_id
+    ON CONFLICT (protocol) DO UPDATE SET
+        status = EXCLUDED.status,
+        urgent = EXCLUDED.urgent,
+        justification = EXCLUDED.justification,
+        created_at = EXCLUDED.created_at,
+        expires_at = EXCLUDED.expires_at,
+        denial_reason = EXCLUDED.denial_reason,
+        module_ids = EXCLUDED.module_ids,
+        module_names = EXCLUDED.module_names,
+        search_document = EXCLUDED.search_document,
+        search_vector = EXCLUDED.search_vector;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_requests_summary
+    AFTER INSERT OR UPDATE OF status, urgent, justification, created_at, expires_at, denial_reason ON requests
+    FOR EACH ROW EXECUTE FUNCTION upsert_request_summary();
+
+INSERT INTO request_summary (protocol, user_id, status, urgent, justification, created_at, expires_at,
+                             denial_reason, module_ids, module_names, search_document, search_vector)
+SELECT r.protocol, r.user_id, r.status, r.urgent, r.justification, r.created_at, r.expires_at, r.denial_reason,
+       coalesce(array_agg(rm.module_id ORDER BY rm.module_id) FILTER (WHERE rm.module_id IS NOT NULL), '{}'),
+       coalesce(array_agg(coalesce(m.name, rm.module_id) ORDER BY rm.module_id) FILTER (WHERE rm.module_id IS NOT NULL), '{}'),
+       r.search_document, r.search_vector
+FROM requests r
+LEFT JOIN request_modules rm ON rm.request_protocol = r.protocol
+LEFT JOIN modules m ON m.id = rm.module_id
+GROUP BY r.protocol
+ON CONFLICT (protocol) DO NOTHING;
+
+CREATE INDEX IF NOT EXISTS idx_request_summary_user_created_at ON request_summary(user_id, created_at DESC, protocol);
+CREATE INDEX IF NOT EXISTS idx_request_summary_search_document_trgm ON request_summary USING GIN (search_document gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_request_summary_search_vector ON request_summary USING GIN (search_vector);
+
+DROP INDEX IF EXISTS idx_requests_search_document_trgm;
+DROP INDEX IF EXISTS idx_requests_search_vector;
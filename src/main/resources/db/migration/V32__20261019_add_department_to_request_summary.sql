@@ -0,0 +1,36 @@
+ALTER TABLE request_summary ADD COLUMN IF NOT EXISTS user_department VARCHAR(255);
+
+UPDATE request_summary s SET user_department = r.user_department
+FROM requests r
+WHERE r.protocol = s.protocol;
+
+ALTER TABLE request_summary ALTER COLUMN user_department SET NOT NULL;
+
+CREATE OR REPLACE FUNCTION upsert_request_summary() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO request_summary (protocol, user_id, user_department, status, urgent, justification, created_at, expires_at,
+                                 denial_reason, module_ids, module_names, search_document, search_vector)
+    SELECT NEW.protocol, NEW.user_id, NEW.user_department, NEW.status, NEW.urgent, NEW.justification, NEW.created_at,
+           NEW.expires_at, NEW.denial_reason,
+           coalesce(array_agg(rm.module_id ORDER BY rm.module_id) FILTER (WHERE rm.module_id IS NOT NULL), '{}'),
+           coalesce(array_agg(coalesce(m.name, rm.module_id) ORDER BY rm.module_id) FILTER (WHERE rm.module_id IS NOT NULL), '{}'),
+           NEW.search_document, NEW.search_vector
+    FROM (SELECT 1) self
+    LEFT JOIN request_modules rm ON rm.request_protocol = NEW.protocol
+    LEFT JOIN modules m ON m.id = rm.module_id
+    ON CONFLICT (protocol) DO UPDATE SET
+        status = EXCLUDED.status,
+        urgent = EXCLUDED.urgent,
+        justification = EXCLUDED.justification,
+        created_at = EXCLUDED.created_at,
+        expires_at = EXCLUDED.expires_at,
+        denial_reason = EXCLUDED.denial_reason,
+        module_ids = EXCLUDED.module_ids,
+        module_names = EXCLUDED.module_names,
+        search_document = EXCLUDED.search_document,
+        search_vector = EXCLUDED.search_vector;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE INDEX IF NOT EXISTS idx_request_summary_department_created_at ON request_summary(user_department, created_at DESC, protocol);
@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS user_request_versions (
+    user_id VARCHAR(255) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION bump_user_request_version() RETURNS trigger AS $$
+DECLARE
+    target_user_id VARCHAR(255);
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        target_user_id := OLD.user_id;
+    ELSE
+        target_user_id := NEW.user_id;
+    END IF;
+
+    INSERT INTO user_request_versions (user_id, version) VALUES (target_user_id, 1)
+    ON CONFLICT (user_id) DO UPDATE SET version = user_request_versions.version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_request_summary_user_version
+    AFTER INSERT OR UPDATE OR DELETE ON request_summary
+    FOR EACH ROW EXECUTE FUNCTION bump_user_request_version();
+
+INSERT INTO user_request_versions (user_id, version)
+SELECT user_id, 1 FROM request_summary GROUP BY user_id
+ON CONFLICT (user_id) DO NOTHING;
@@ -0,0 +1,112 @@
+CREATE TABLE IF NOT EXISTS user_request_counters (
+    user_id VARCHAR(255) PRIMARY KEY,
+    active_count BIGINT NOT NULL DEFAULT 0,
+    denied_count BIGINT NOT NULL DEFAULT 0,
+    cancelled_count BIGINT NOT NULL DEFAULT 0,
+    urgent_count BIGINT NOT NULL DEFAULT 0,
+    active_module_count BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE OR REPLACE FUNCTION apply_request_counter_delta(target_user_id VARCHAR, target_status VARCHAR,
+                                                       target_urgent BOOLEAN, delta INTEGER) RETURNS void AS $$
+BEGIN
+    INSERT INTO user_request_counters (user_id, active_count, denied_count, cancelled_count, urgent_count)
+    VALUES (target_user_id,
+            CASE WHEN target_status = 'ATIVO' THEN delta ELSE 0 END,
+            CASE WHEN target_status = 'NEGADO' THEN delta ELSE 0 END,
+            CASE WHEN target_status = 'CANCELADO' THEN delta ELSE 0 END,
+            CASE WHEN target_urgent THEN delta ELSE 0 END)
+    ON CONFLICT (user_id) DO UPDATE SET
+        active_count = user_request_counters.active_count + EXCLUDED.active_count,
+        denied_count = user_request_counters.denied_count + EXCLUDED.denied_count,
+        cancelled_count = user_request_counters.cancelled_count + EXCLUDED.cancelled_count,
+        urgent_count = user_request_counters.urgent_count + EXCLUDED.urgent_count;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_request_summary() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status = NEW.status AND OLD.urgent = NEW.urgent AND OLD.user_id = NEW.user_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM apply_request_counter_delta(OLD.user_id, OLD.status, OLD.urgent, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM apply_request_counter_delta(NEW.user_id, NEW.status, NEW.urgent, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_request_summary_counters
+    AFTER INSERT OR UPDATE OR DELETE ON request_summary
+    FOR EACH ROW EXECUTE FUNCTION count_request_summary();
+
+CREATE OR REPLACE FUNCTION count_active_accesses() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status = NEW.status AND OLD.user_id = NEW.user_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.status = 'ATIVO' THEN
+        INSERT INTO user_request_counters (user_id, active_module_count) VALUES (OLD.user_id, -1)
+        ON CONFLICT (user_id) DO UPDATE SET active_module_count = user_request_counters.active_module_count - 1;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.status = 'ATIVO' THEN
+        INSERT INTO user_request_counters (user_id, active_module_count) VALUES (NEW.user_id, 1)
+        ON CONFLICT (user_id) DO UPDATE SET active_module_count = user_request_counters.active_module_count + 1;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_accesses_counters
+    AFTER INSERT OR UPDATE OF status, user_id OR DELETE ON accesses
+    FOR EACH ROW EXECUTE FUNCTION count_active_accesses();
+
+CREATE OR REPLACE FUNCTION reconcile_user_request_counters() RETURNS INTEGER AS $$
+DECLARE
+    corrected INTEGER;
+BEGIN
+    WITH expected AS (
+        SELECT u.user_id,
+               coalesce(s.active_count, 0) AS active_count,
+               coalesce(s.denied_count, 0) AS denied_count,
+               coalesce(s.cancelled_count, 0) AS cancelled_count,
+               coalesce(s.urgent_count, 0) AS urgent_count,
+               coalesce(a.active_module_count, 0) AS active_module_count
+        FROM (SELECT user_id FROM request_summary
+              UNION SELECT user_id FROM accesses
+              UNION SELECT user_id FROM user_request_counters) u
+        LEFT JOIN (SELECT user_id,
+                          count(*) FILTER (WHERE status = 'ATIVO') AS active_count,
+                          count(*) FILTER (WHERE status = 'NEGADO') AS denied_count,
+                          count(*) FILTER (WHERE status = 'CANCELADO') AS cancelled_count,
+                          count(*) FILTER (WHERE urgent) AS urgent_count
+                   FROM request_summary GROUP BY user_id) s ON s.user_id = u.user_id
+        LEFT JOIN (SELECT user_id, count(*) AS active_module_count
+                   FROM accesses WHERE status = 'ATIVO' GROUP BY user_id) a ON a.user_id = u.user_id
+    )
+    INSERT INTO user_request_counters (user_id, active_count, denied_count, cancelled_count, urgent_count,
+                                       active_module_count)
+    SELECT user_id, active_count, denied_count, cancelled_count, urgent_count, active_module_count FROM expected
+    ON CONFLICT (user_id) DO UPDATE SET
+        active_count = EXCLUDED.active_count,
+        denied_count = EXCLUDED.denied_count,
+        cancelled_count = EXCLUDED.cancelled_count,
+        urgent_count = EXCLUDED.urgent_count,
+        active_module_count = EXCLUDED.active_module_count
+    WHERE (user_request_counters.active_count, user_request_counters.denied_count,
+           user_request_counters.cancelled_count, user_request_counters.urgent_count,
+           user_request_counters.active_module_count)
+          IS DISTINCT FROM
+          (EXCLUDED.active_count, EXCLUDED.denied_count, EXCLUDED.cancelled_count,
+           EXCLUDED.urgent_count, EXCLUDED.active_module_count);
+    GET DIAGNOSTICS corrected = ROW_COUNT;
+    RETURN corrected;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT reconcile_user_request_counters();
+
+CREATE INDEX IF NOT EXISTS idx_accesses_user_active_expires_at ON accesses(user_id, expires_at) WHERE status = 'ATIVO';
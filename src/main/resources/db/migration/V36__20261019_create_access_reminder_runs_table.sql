@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS access_reminder_runs (
+    bucket_day DATE NOT NULL,
+    days_before INTEGER NOT NULL,
+    claimed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (bucket_day, days_before)
+);
@@ -0,0 +1,15 @@
+CREATE OR REPLACE FUNCTION notify_access_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM pg_notify('access_changes', OLD.user_id);
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.user_id IS DISTINCT FROM OLD.user_id) THEN
+        PERFORM pg_notify('access_changes', NEW.user_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_accesses_notify_change
+    AFTER INSERT OR UPDATE OF status, user_id, module_id OR DELETE ON accesses
+    FOR EACH ROW EXECUTE FUNCTION notify_access_change();
@@ -0,0 +1,15 @@
+CREATE OR REPLACE FUNCTION notify_access_event() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('access_events', json_build_object(
+        'id', NEW.id,
+        'type', NEW.event_type,
+        'payload', NEW.payload::json)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_outbox_events_notify_access_event
+    AFTER INSERT ON outbox_events
+    FOR EACH ROW
+    WHEN (NEW.event_type IN ('ACCESS_GRANTED', 'ACCESS_REVOKED', 'ACCESS_EXPIRED'))
+    EXECUTE FUNCTION notify_access_event();
@@ -0,0 +1,19 @@
+ALTER TABLE accesses ADD COLUMN IF NOT EXISTS change_xid XID8;
+
+UPDATE accesses SET change_xid = pg_current_xact_id() WHERE change_xid IS NULL;
+
+ALTER TABLE accesses ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id();
+ALTER TABLE accesses ALTER COLUMN change_xid SET NOT NULL;
+
+CREATE OR REPLACE FUNCTION stamp_access_change() RETURNS trigger AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_accesses_stamp_change
+    BEFORE UPDATE ON accesses
+    FOR EACH ROW EXECUTE FUNCTION stamp_access_change();
+
+CREATE INDEX IF NOT EXISTS idx_accesses_change_xid ON accesses(change_xid, id);
@@ -0,0 +1,22 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE accesses ADD COLUMN IF NOT EXISTS ended_at TIMESTAMP;
+
+UPDATE accesses a SET ended_at = e.occurred_at
+FROM (SELECT request_protocol, module_id, MAX(occurred_at) AS occurred_at
+      FROM request_events
+      WHERE event_type IN ('ACCESS_REVOKED', 'ACCESS_EXPIRED')
+      GROUP BY request_protocol, module_id) e
+WHERE a.status <> 'ATIVO'
+  AND a.ended_at IS NULL
+  AND e.request_protocol = a.request_protocol
+  AND e.module_id = a.module_id;
+
+ALTER TABLE accesses ADD COLUMN IF NOT EXISTS valid_during TSTZRANGE
+    GENERATED ALWAYS AS (tstzrange(
+        granted_at AT TIME ZONE 'UTC',
+        GREATEST(granted_at, LEAST(ended_at, expires_at)) AT TIME ZONE 'UTC',
+        '[)')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_accesses_user_valid_during ON accesses USING gist (user_id, valid_during);
+CREATE INDEX IF NOT EXISTS idx_accesses_module_valid_during ON accesses USING gist (module_id, valid_during);
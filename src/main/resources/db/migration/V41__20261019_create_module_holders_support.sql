@@ -0,0 +1,36 @@
+CREATE INDEX IF NOT EXISTS idx_accesses_active_module_holders ON accesses(module_id, user_id, id)
+    INCLUDE (request_protocol, granted_at, expires_at)
+    WHERE status = 'ATIVO';
+
+CREATE TABLE IF NOT EXISTS module_holder_counts (
+    module_id VARCHAR(255) PRIMARY KEY REFERENCES modules(id),
+    holder_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO module_holder_counts (module_id, holder_count)
+SELECT m.id, count(a.id)
+FROM modules m
+LEFT JOIN accesses a ON a.module_id = m.id AND a.status = 'ATIVO'
+GROUP BY m.id
+ON CONFLICT (module_id) DO UPDATE SET holder_count = EXCLUDED.holder_count;
+
+CREATE OR REPLACE FUNCTION count_module_holders() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status = NEW.status AND OLD.module_id = NEW.module_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.status = 'ATIVO' THEN
+        INSERT INTO module_holder_counts (module_id, holder_count) VALUES (OLD.module_id, -1)
+        ON CONFLICT (module_id) DO UPDATE SET holder_count = module_holder_counts.holder_count - 1;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.status = 'ATIVO' THEN
+        INSERT INTO module_holder_counts (module_id, holder_count) VALUES (NEW.module_id, 1)
+        ON CONFLICT (module_id) DO UPDATE SET holder_count = module_holder_counts.holder_count + 1;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_accesses_module_holder_counts
+    AFTER INSERT OR UPDATE OF status, module_id OR DELETE ON accesses
+    FOR EACH ROW EXECUTE FUNCTION count_module_holders();
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS module_deactivations (
+    id BIGSERIAL PRIMARY KEY,
+    module_id VARCHAR(255) NOT NULL REFERENCES modules(id),
+    requested_by VARCHAR(255) NOT NULL REFERENCES users(id),
+    status VARCHAR(50) NOT NULL,
+    total_count BIGINT NOT NULL,
+    revoked_count BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_module_deactivations_running ON module_deactivations(module_id)
+    WHERE status = 'EM_ANDAMENTO';
+CREATE INDEX IF NOT EXISTS idx_module_deactivations_module ON module_deactivations(module_id, id);
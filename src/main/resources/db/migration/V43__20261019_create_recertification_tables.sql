@@ -0,0 +1,32 @@
+CREATE TABLE IF NOT EXISTS recertification_campaigns (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    partition_by VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_by VARCHAR(255) NOT NULL REFERENCES users(id),
+    created_at TIMESTAMP NOT NULL,
+    item_count BIGINT NOT NULL DEFAULT 0,
+    revoked_count BIGINT NOT NULL DEFAULT 0,
+    closed_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS recertification_items (
+    campaign_id BIGINT NOT NULL REFERENCES recertification_campaigns(id),
+    access_id BIGINT NOT NULL,
+    partition_key VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    module_id VARCHAR(255) NOT NULL,
+    department VARCHAR(255),
+    request_protocol VARCHAR(255) NOT NULL,
+    decision VARCHAR(50),
+    decided_by VARCHAR(255),
+    decided_at TIMESTAMP,
+    applied_at TIMESTAMP,
+    PRIMARY KEY (campaign_id, access_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_recertification_items_partition
+    ON recertification_items(campaign_id, partition_key, access_id);
+CREATE INDEX IF NOT EXISTS idx_recertification_items_pending_revocation
+    ON recertification_items(campaign_id, access_id)
+    WHERE decision = 'REVOGAR' AND applied_at IS NULL;
@@ -0,0 +1,7 @@
+ALTER TABLE modules ADD COLUMN IF NOT EXISTS requires_approval BOOLEAN NOT NULL DEFAULT false;
+
+ALTER TABLE requests ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(255) REFERENCES users(id);
+ALTER TABLE requests ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_requests_approval_queue ON requests(urgent DESC, created_at, protocol)
+    WHERE status = 'PENDENTE';
@@ -0,0 +1,4 @@
+ALTER TABLE recertification_items ADD COLUMN IF NOT EXISTS outcome VARCHAR(50);
+
+CREATE INDEX IF NOT EXISTS idx_request_events_renewed_from ON request_events(detail)
+    WHERE event_type = 'REQUEST_RENEWED';
@@ -0,0 +1,15 @@
+CREATE OR REPLACE FUNCTION bump_user_request_version_for_history() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO user_request_versions (user_id, version)
+    SELECT DISTINCT r.user_id, 1
+    FROM inserted_history h
+    JOIN requests r ON r.protocol = h.request_protocol
+    ON CONFLICT (user_id) DO UPDATE SET version = user_request_versions.version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_request_history_user_version
+    AFTER INSERT ON request_history
+    REFERENCING NEW TABLE AS inserted_history
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_user_request_version_for_history();
@@ -0,0 +1,53 @@
+ALTER TABLE module_holder_counts ADD COLUMN IF NOT EXISTS stripe SMALLINT NOT NULL DEFAULT 0;
+
+ALTER TABLE module_holder_counts DROP CONSTRAINT IF EXISTS module_holder_counts_pkey;
+ALTER TABLE module_holder_counts ADD PRIMARY KEY (module_id, stripe);
+
+CREATE OR REPLACE FUNCTION count_module_holders() RETURNS trigger AS $$
+DECLARE
+    target_stripe SMALLINT := pg_backend_pid() % 16;
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status = NEW.status AND OLD.module_id = NEW.module_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.status = 'ATIVO' THEN
+        INSERT INTO module_holder_counts (module_id, stripe, holder_count) VALUES (OLD.module_id, target_stripe, -1)
+        ON CONFLICT (module_id, stripe) DO UPDATE SET holder_count = module_holder_counts.holder_count - 1;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.status = 'ATIVO' THEN
+        INSERT INTO module_holder_counts (module_id, stripe, holder_count) VALUES (NEW.module_id, target_stripe, 1)
+        ON CONFLICT (module_id, stripe) DO UPDATE SET holder_count = module_holder_counts.holder_count + 1;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION reconcile_module_holder_counts() RETURNS INTEGER AS $$
+DECLARE
+    corrected INTEGER;
+BEGIN
+    WITH expected AS (
+        SELECT m.id AS module_id, count(a.id) AS holder_count
+        FROM modules m
+        LEFT JOIN accesses a ON a.module_id = m.id AND a.status = 'ATIVO'
+        GROUP BY m.id
+    ), drifted AS (
+        SELECT e.module_id, e.holder_count
+        FROM expected e
+        LEFT JOIN (SELECT module_id, sum(holder_count) AS holder_count
+                   FROM module_holder_counts GROUP BY module_id) c ON c.module_id = e.module_id
+        WHERE coalesce(c.holder_count, 0) <> e.holder_count
+    ), collapsed AS (
+        DELETE FROM module_holder_counts c
+        USING drifted d
+        WHERE c.module_id = d.module_id AND c.stripe <> 0
+    )
+    INSERT INTO module_holder_counts (module_id, stripe, holder_count)
+    SELECT module_id, 0, holder_count FROM drifted
+    ON CONFLICT (module_id, stripe) DO UPDATE SET holder_count = EXCLUDED.holder_count;
+    GET DIAGNOSTICS corrected = ROW_COUNT;
+    RETURN corrected;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT reconcile_module_holder_counts();
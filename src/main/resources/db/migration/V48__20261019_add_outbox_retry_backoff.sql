@@ -0,0 +1,6 @@
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+
+UPDATE outbox_events SET next_attempt_at = created_at WHERE dispatched_at IS NULL;
+
+DROP INDEX IF EXISTS idx_outbox_events_pending;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_due ON outbox_events(next_attempt_at, id) WHERE dispatched_at IS NULL;
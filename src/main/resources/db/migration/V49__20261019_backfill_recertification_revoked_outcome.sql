@@ -0,0 +1,2 @@
+UPDATE recertification_items SET outcome = 'REVOGADO'
+WHERE decision = 'REVOGAR' AND applied_at IS NOT NULL AND outcome IS NULL;
@@ -0,0 +1,10 @@
+CREATE OR REPLACE FUNCTION notify_user_request_version() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('request_versions', NEW.user_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_user_request_versions_notify
+    AFTER INSERT OR UPDATE OF version ON user_request_versions
+    FOR EACH ROW EXECUTE FUNCTION notify_user_request_version();
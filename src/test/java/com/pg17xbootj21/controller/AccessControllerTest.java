@@ -0,0 +1,274 @@
+package com.pg17xbootj21.controller;
+
+import com.pg17xbootj21.config.SecurityConfig;
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.security.SecurityInterceptor;
+import com.pg17xbootj21.service.AccessAuditService;
+import com.pg17xbootj21.service.AccessChangeService;
+import com.pg17xbootj21.service.AccessChangeService.AccessChangeBatch;
+import com.pg17xbootj21.service.AccessCheckService;
+import com.pg17xbootj21.service.AccessCheckService.Check;
+import com.pg17xbootj21.service.AccessEventStream;
+import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.SessionService;
+import com.pg17xbootj21.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(
+        controllers = AccessController.class,
+        excludeAutoConfiguration = {
+                org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
+        },
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class)
+)
+class AccessControllerTest {
+
+    private static final String TOKEN = "valid-token-123";
+    private static final String AUTHORIZATION = "Bearer " + TOKEN;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AccessCheckService accessCheckService;
+
+    @MockBean
+    private AccessEventStream accessEventStream;
+
+    @MockBean
+    private AccessChangeService accessChangeService;
+
+    @MockBean
+    private AccessAuditService accessAuditService;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private SessionService sessionService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private SecurityInterceptor securityInterceptor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(securityInterceptor.preHandle(
+                argThat(request -> true),
+                argThat(response -> true),
+                argThat(handler -> true)
+        )).thenReturn(true);
+    }
+
+    @Test
+    void checkAccess_WhenValid_ShouldReturnResult() throws Exception {
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(true);
+        when(accessCheckService.hasActiveAccess("user1", "PORTAL")).thenReturn(true);
+
+        mockMvc.perform(get("/accesses/check")
+                .param("userId", "user1")
+                .param("moduleId", "PORTAL")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value("user1"))
+                .andExpect(jsonPath("$.moduleId").value("PORTAL"))
+                .andExpect(jsonPath("$.allowed").value(true));
+    }
+
+    @Test
+    void checkAccess_WhenModuleMissing_ShouldReturnBadRequest() throws Exception {
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(true);
+
+        mockMvc.perform(get("/accesses/check")
+                .param("userId", "user1")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("User id and module id are required"));
+
+        verifyNoInteractions(accessCheckService);
+    }
+
+    @Test
+    void checkAccess_WhenInvalidToken_ShouldReturnUnauthorized() throws Exception {
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(false);
+
+        mockMvc.perform(get("/accesses/check")
+                .param("userId", "user1")
+                .param("moduleId", "PORTAL")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(accessCheckService);
+    }
+
+    @Test
+    void checkAccesses_WhenValid_ShouldReturnResultsInOrder() throws Exception {
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(true);
+        when(accessCheckService.hasActiveAccess(List.of(new Check("user1", "PORTAL"), new Check("user2", "PORTAL"))))
+                .thenReturn(Arrays.asList(true, false));
+
+        mockMvc.perform(post("/accesses/check")
+                .header("Authorization", AUTHORIZATION)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"checks\":[{\"userId\":\"user1\",\"moduleId\":\"PORTAL\"},{\"userId\":\"user2\",\"moduleId\":\"PORTAL\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].userId").value("user1"))
+                .andExpect(jsonPath("$[0].allowed").value(true))
+                .andExpect(jsonPath("$[1].userId").value("user2"))
+                .andExpect(jsonPath("$[1].allowed").value(false));
+    }
+
+    @Test
+    void checkAccesses_WhenEmpty_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/accesses/check")
+                .header("Authorization", AUTHORIZATION)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"checks\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At least one check is required"));
+
+        verifyNoInteractions(accessCheckService);
+    }
+
+    @Test
+    void streamAccessEvents_WhenValid_ShouldSubscribeFromLastEventId() throws Exception {
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(TOKEN))).thenReturn("admin");
+        when(accessEventStream.subscribe("42")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/accesses/stream")
+                .header("Authorization", AUTHORIZATION)
+                .header("Last-Event-ID", "42"))
+                .andExpect(request().asyncStarted());
+
+        verify(userService, times(1)).requireTiAdministrator("admin", "stream access events");
+        verify(accessEventStream, times(1)).subscribe("42");
+    }
+
+    @Test
+    void streamAccessEvents_WhenCallerNotTi_ShouldReturnBadRequest() throws Exception {
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(TOKEN))).thenReturn("user1");
+        when(userService.requireTiAdministrator("user1", "stream access events"))
+                .thenThrow(new RuntimeException("Only TI administrators can stream access events"));
+
+        mockMvc.perform(get("/accesses/stream")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Only TI administrators can stream access events"));
+
+        verifyNoInteractions(accessEventStream);
+    }
+
+    @Test
+    void streamAccessEvents_WhenInvalidToken_ShouldReturnUnauthorized() throws Exception {
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(false);
+
+        mockMvc.perform(get("/accesses/stream")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(accessEventStream);
+    }
+
+    @Test
+    void getAccessChanges_WhenValid_ShouldReturnBatchAndWatermark() throws Exception {
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(TOKEN))).thenReturn("admin");
+        when(accessChangeService.findChanges("admin", "abc", 100))
+                .thenReturn(new AccessChangeBatch(Collections.emptyList(), "def", false));
+
+        mockMvc.perform(get("/accesses/changes")
+                .param("since", "abc")
+                .param("limit", "100")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty())
+                .andExpect(jsonPath("$.watermark").value("def"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getAccessChanges_WhenServiceRejects_ShouldReturnBadRequest() throws Exception {
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(TOKEN))).thenReturn("user1");
+        when(accessChangeService.findChanges("user1", null, 500))
+                .thenThrow(new RuntimeException("Only TI administrators can read access changes"));
+
+        mockMvc.perform(get("/accesses/changes")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Only TI administrators can read access changes"));
+    }
+
+    @Test
+    void getAccessChanges_WhenLimitOutOfRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/accesses/changes")
+                .param("limit", "0")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be between 1 and 1000"));
+
+        verifyNoInteractions(accessChangeService);
+    }
+
+    @Test
+    void getAccessesAsOf_WhenUserQueried_ShouldReturnAccessesValidAtInstant() throws Exception {
+        Access access = new Access();
+        access.setUserId("user1");
+        access.setModuleId("PORTAL");
+        access.setRequestProtocol("SOL-20260101-0001");
+        access.setStatus("REVOGADO");
+        access.setGrantedAt(Instant.parse("2026-01-01T10:00:00Z"));
+        access.setExpiresAt(Instant.parse("2026-06-30T10:00:00Z"));
+        access.setEndedAt(Instant.parse("2026-03-01T10:00:00Z"));
+        Instant at = Instant.parse("2026-02-01T00:00:00Z");
+        when(sessionService.isValidSession(eq(TOKEN))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(TOKEN))).thenReturn("admin");
+        when(accessAuditService.findHeldAt("admin", "user1", null, at)).thenReturn(List.of(access));
+
+        mockMvc.perform(get("/accesses/as-of")
+                .param("at", "2026-02-01T00:00:00Z")
+                .param("userId", "user1")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].moduleId").value("PORTAL"))
+                .andExpect(jsonPath("$[0].status").value("REVOGADO"))
+                .andExpect(jsonPath("$[0].validUntil").value("2026-03-01T10:00:00Z"));
+    }
+
+    @Test
+    void getAccessesAsOf_WhenAtInvalid_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/accesses/as-of")
+                .param("at", "2026-02-01")
+                .param("userId", "user1")
+                .header("Authorization", AUTHORIZATION))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid at format. Expected ISO-8601 instant, e.g. 2026-01-15T10:00:00Z"));
+
+        verifyNoInteractions(accessAuditService);
+    }
+}
@@ -0,0 +1,137 @@
+package com.pg17xbootj21.controller;
+
+import com.pg17xbootj21.config.SecurityConfig;
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.security.SecurityInterceptor;
+import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.RequestApprovalService;
+import com.pg17xbootj21.service.RequestApprovalService.ClaimedBatch;
+import com.pg17xbootj21.service.RequestApprovalService.Decision;
+import com.pg17xbootj21.service.SessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(
+        controllers = ApprovalController.class,
+        excludeAutoConfiguration = {
+                org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
+        },
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class)
+)
+class ApprovalControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RequestApprovalService requestApprovalService;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private SessionService sessionService;
+
+    @MockBean
+    private SecurityInterceptor securityInterceptor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(securityInterceptor.preHandle(
+                argThat(request -> true),
+                argThat(response -> true),
+                argThat(handler -> true)
+        )).thenReturn(true);
+    }
+
+    @Test
+    void claim_WhenValid_ShouldReturnClaimedRequests() throws Exception {
+        Request request = new Request();
+        request.setProtocol("SOL-20260101-0001");
+        request.setUserId("user1");
+        request.setUserDepartment("Financeiro");
+        request.setModules(List.of("AUDITORIA"));
+        request.setUrgent(true);
+        request.setCreatedAt(Instant.parse("2026-01-01T09:00:00Z"));
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("admin");
+        when(requestApprovalService.claim("admin", 5))
+                .thenReturn(new ClaimedBatch(List.of(request), Instant.parse("2026-01-15T10:15:00Z")));
+
+        mockMvc.perform(post("/approvals/claim")
+                .param("size", "5")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requests[0].protocol").value("SOL-20260101-0001"))
+                .andExpect(jsonPath("$.requests[0].urgent").value(true))
+                .andExpect(jsonPath("$.claimedUntil").value("2026-01-15T10:15:00Z"));
+    }
+
+    @Test
+    void claim_WhenSizeOutOfRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/approvals/claim")
+                .param("size", "101")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Batch size must be between 1 and 100"));
+
+        verifyNoInteractions(requestApprovalService);
+    }
+
+    @Test
+    void approve_WhenValid_ShouldReturnDecidedAndSkippedProtocols() throws Exception {
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("admin");
+        when(requestApprovalService.approve("admin", List.of("SOL-20260101-0001", "SOL-20260101-0002")))
+                .thenReturn(new Decision(List.of("SOL-20260101-0001"), List.of("SOL-20260101-0002")));
+
+        mockMvc.perform(post("/approvals/approve")
+                .header("Authorization", "Bearer valid-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"protocols\":[\"SOL-20260101-0001\",\"SOL-20260101-0002\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.decided[0]").value("SOL-20260101-0001"))
+                .andExpect(jsonPath("$.skipped[0]").value("SOL-20260101-0002"));
+    }
+
+    @Test
+    void deny_WhenServiceRejects_ShouldReturnBadRequest() throws Exception {
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("user1");
+        when(requestApprovalService.deny("user1", List.of("SOL-20260101-0001"), "Sem justificativa"))
+                .thenThrow(new RuntimeException("Only TI administrators can approve requests"));
+
+        mockMvc.perform(post("/approvals/deny")
+                .header("Authorization", "Bearer valid-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"protocols\":[\"SOL-20260101-0001\"],\"reason\":\"Sem justificativa\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Only TI administrators can approve requests"));
+    }
+
+    @Test
+    void approve_WhenNoToken_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/approvals/approve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"protocols\":[\"SOL-20260101-0001\"]}"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(requestApprovalService);
+    }
+}
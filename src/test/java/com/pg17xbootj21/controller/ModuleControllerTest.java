@@ -2,7 +2,12 @@ package com.pg17xbootj21.controller;
 
 import com.pg17xbootj21.config.SecurityConfig;
 import com.pg17xbootj21.model.Module;
+import com.pg17xbootj21.model.ModuleDeactivation;
 import com.pg17xbootj21.security.SecurityInterceptor;
+import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.ModuleDeactivationService;
+import com.pg17xbootj21.service.ModuleHolderService;
+import com.pg17xbootj21.service.ModuleHolderService.HolderPage;
 import com.pg17xbootj21.service.ModuleService;
 import com.pg17xbootj21.service.SessionService;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,13 +20,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(
@@ -39,6 +47,15 @@ class ModuleControllerTest {
     @MockBean
     private ModuleService moduleService;
 
+    @MockBean
+    private ModuleHolderService moduleHolderService;
+
+    @MockBean
+    private ModuleDeactivationService moduleDeactivationService;
+
+    @MockBean
+    private AuthService authService;
+
     @MockBean
     private SessionService sessionService;
 
@@ -142,5 +159,76 @@ class ModuleControllerTest {
         verify(sessionService, times(1)).isValidSession(eq(token));
         verify(moduleService, times(1)).getAllModules();
     }
-}
 
+    @Test
+    void listHolders_WhenValid_ShouldReturnHoldersWithCachedCount() throws Exception {
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("admin");
+        when(moduleHolderService.findHolders("admin", "AUDITORIA", null, 50))
+                .thenReturn(new HolderPage(Collections.emptyList(), 42L, "next"));
+
+        mockMvc.perform(get("/modules/AUDITORIA/holders")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.totalElements").value(42))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void listHolders_WhenServiceRejects_ShouldReturnBadRequest() throws Exception {
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("user1");
+        when(moduleHolderService.findHolders("user1", "AUDITORIA", null, 50))
+                .thenThrow(new RuntimeException("Only TI administrators can list module holders"));
+
+        mockMvc.perform(get("/modules/AUDITORIA/holders")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Only TI administrators can list module holders"));
+    }
+
+    @Test
+    void listHolders_WhenSizeOutOfRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/modules/AUDITORIA/holders")
+                .param("size", "501")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page size must be between 1 and 500"));
+
+        verifyNoInteractions(moduleHolderService);
+    }
+
+    @Test
+    void deactivateModule_WhenValid_ShouldReturnAcceptedWithProgress() throws Exception {
+        ModuleDeactivation deactivation = new ModuleDeactivation();
+        deactivation.setModuleId("AUDITORIA");
+        deactivation.setRequestedBy("admin");
+        deactivation.setStatus("EM_ANDAMENTO");
+        deactivation.setTotalCount(1200L);
+        deactivation.setStartedAt(Instant.parse("2026-01-15T10:00:00Z"));
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("admin");
+        when(moduleDeactivationService.deactivate("admin", "AUDITORIA")).thenReturn(deactivation);
+
+        mockMvc.perform(post("/modules/AUDITORIA/deactivation")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("EM_ANDAMENTO"))
+                .andExpect(jsonPath("$.totalCount").value(1200))
+                .andExpect(jsonPath("$.revokedCount").value(0));
+    }
+
+    @Test
+    void getDeactivationProgress_WhenNotFound_ShouldReturnBadRequest() throws Exception {
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("admin");
+        when(moduleDeactivationService.getProgress("admin", "AUDITORIA"))
+                .thenThrow(new RuntimeException("Module deactivation not found"));
+
+        mockMvc.perform(get("/modules/AUDITORIA/deactivation")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Module deactivation not found"));
+    }
+}
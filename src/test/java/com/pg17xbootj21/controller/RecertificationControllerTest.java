@@ -0,0 +1,141 @@
+package com.pg17xbootj21.controller;
+
+import com.pg17xbootj21.config.SecurityConfig;
+import com.pg17xbootj21.model.RecertificationCampaign;
+import com.pg17xbootj21.security.SecurityInterceptor;
+import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.RecertificationService;
+import com.pg17xbootj21.service.SessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(
+        controllers = RecertificationController.class,
+        excludeAutoConfiguration = {
+                org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
+        },
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class)
+)
+class RecertificationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RecertificationService recertificationService;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private SessionService sessionService;
+
+    @MockBean
+    private SecurityInterceptor securityInterceptor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(securityInterceptor.preHandle(
+                argThat(request -> true),
+                argThat(response -> true),
+                argThat(handler -> true)
+        )).thenReturn(true);
+    }
+
+    @Test
+    void createCampaign_WhenValid_ShouldReturnCreated() throws Exception {
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("admin");
+        when(recertificationService.createCampaign("admin", "Q1 2026", "DEPARTMENT")).thenReturn(campaign("ABERTA"));
+
+        mockMvc.perform(post("/recertifications")
+                .header("Authorization", "Bearer valid-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Q1 2026\",\"partitionBy\":\"DEPARTMENT\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.status").value("ABERTA"))
+                .andExpect(jsonPath("$.itemCount").value(1500));
+    }
+
+    @Test
+    void createCampaign_WhenNoToken_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/recertifications")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Q1 2026\",\"partitionBy\":\"DEPARTMENT\"}"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(recertificationService);
+    }
+
+    @Test
+    void decide_WhenServiceRejects_ShouldReturnBadRequest() throws Exception {
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("admin");
+        when(recertificationService.decide(eq("admin"), eq(3L), eq("REVOGAR"), isNull(), eq(List.of(10L, 11L))))
+                .thenThrow(new RuntimeException("Campaign is not open"));
+
+        mockMvc.perform(post("/recertifications/3/decisions")
+                .header("Authorization", "Bearer valid-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"decision\":\"REVOGAR\",\"accessIds\":[10,11]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Campaign is not open"));
+    }
+
+    @Test
+    void listItems_WhenSizeOutOfRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/recertifications/3/items")
+                .param("size", "501")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page size must be between 1 and 500"));
+
+        verifyNoInteractions(recertificationService);
+    }
+
+    @Test
+    void closeCampaign_WhenNoBody_ShouldKeepUndecidedItemsAndReturnAccepted() throws Exception {
+        when(sessionService.isValidSession(eq("valid-token"))).thenReturn(true);
+        when(authService.getUserIdByToken(eq("valid-token"))).thenReturn("admin");
+        when(recertificationService.closeCampaign("admin", 3L, false)).thenReturn(campaign("ENCERRANDO"));
+
+        mockMvc.perform(post("/recertifications/3/close")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("ENCERRANDO"));
+
+        verify(recertificationService, never()).closeCampaign(any(), any(), eq(true));
+    }
+
+    private RecertificationCampaign campaign(String status) {
+        RecertificationCampaign campaign = new RecertificationCampaign();
+        campaign.setId(3L);
+        campaign.setName("Q1 2026");
+        campaign.setPartitionBy("DEPARTMENT");
+        campaign.setStatus(status);
+        campaign.setCreatedBy("admin");
+        campaign.setCreatedAt(Instant.parse("2026-01-15T10:00:00Z"));
+        campaign.setItemCount(1500L);
+        return campaign;
+    }
+}
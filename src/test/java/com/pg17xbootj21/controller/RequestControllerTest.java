@@ -2,14 +2,26 @@ package com.pg17xbootj21.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pg17xbootj21.config.SecurityConfig;
+import com.pg17xbootj21.dto.BulkRenewAccessRequest;
 import com.pg17xbootj21.dto.CancelRequestRequest;
 import com.pg17xbootj21.dto.CreateRequestRequest;
 import com.pg17xbootj21.dto.ErrorResponse;
 import com.pg17xbootj21.dto.RenewAccessRequest;
+import com.pg17xbootj21.model.Access;
 import com.pg17xbootj21.model.Request;
 import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.RequestReadRepository;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestDashboardRow;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestDetailsRow;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestHistoryRow;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestSummaryRow;
 import com.pg17xbootj21.security.SecurityInterceptor;
+import com.pg17xbootj21.service.AccessReminderService;
 import com.pg17xbootj21.service.AuthService;
+import com.pg17xbootj21.service.RequestCacheService;
+import com.pg17xbootj21.service.RequestCursor;
+import com.pg17xbootj21.service.RequestDashboardService;
+import com.pg17xbootj21.service.RequestExportService;
 import com.pg17xbootj21.service.RequestService;
 import com.pg17xbootj21.service.SessionService;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,20 +29,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +63,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         },
         excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class)
 )
+@Import(RequestCacheService.class)
 class RequestControllerTest {
 
     @Autowired
@@ -59,6 +81,21 @@ class RequestControllerTest {
     @MockBean
     private SecurityInterceptor securityInterceptor;
 
+    @MockBean
+    private RequestExportService requestExportService;
+
+    @MockBean
+    private RequestReadRepository requestReadRepository;
+
+    @MockBean
+    private RequestDashboardService requestDashboardService;
+
+    @MockBean
+    private AccessReminderService accessReminderService;
+
+    @Autowired
+    private RequestCacheService requestCacheService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -71,11 +108,14 @@ class RequestControllerTest {
     private String token;
     private String userId;
     private Request request;
+    private RequestSummaryRow summaryRow;
+    private RequestDetailsRow detailsRow;
 
     @BeforeEach
     void setUp() throws Exception {
         token = "valid-token-123";
         userId = "user1";
+        requestCacheService.clear();
 
         when(securityInterceptor.preHandle(
                 argThat(request -> true),
@@ -97,6 +137,12 @@ class RequestControllerTest {
         historyEntry.setAction("CREATED");
         historyEntry.setDate(Instant.parse("2025-01-01T10:00:00Z"));
         request.setHistory(Arrays.asList(historyEntry));
+
+        summaryRow = new RequestSummaryRow("SOL-20260101-0001", Arrays.asList("module1"), Arrays.asList("Portal"), "ATIVO",
+                VALID_JUSTIFICATION, false, Instant.parse("2025-01-01T10:00:00Z"), Instant.parse("2025-06-30T10:00:00Z"), null);
+        detailsRow = new RequestDetailsRow("SOL-20260101-0001", userId, "TI", Arrays.asList("module1"), "ATIVO",
+                VALID_JUSTIFICATION, false, Instant.parse("2025-01-01T10:00:00Z"), Instant.parse("2025-06-30T10:00:00Z"),
+                null, Arrays.asList(new RequestHistoryRow(Instant.parse("2025-01-01T10:00:00Z"), "CREATED")));
     }
 
     private CreateRequestRequest buildCreateRequestPayload() {
@@ -304,6 +350,31 @@ class RequestControllerTest {
         );
     }
 
+    @Test
+    void createRequest_WhenRequestIsPending_ShouldReturnAwaitingApprovalMessage() throws Exception {
+        CreateRequestRequest createRequest = buildCreateRequestPayload();
+        Request pendingRequest = new Request();
+        pendingRequest.setProtocol("SOL-20260101-0003");
+        pendingRequest.setStatus("PENDENTE");
+
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestService.createRequest(
+                eq(userId),
+                eq(Arrays.asList("module1")),
+                eq(VALID_JUSTIFICATION),
+                eq(false)
+        )).thenReturn(pendingRequest);
+
+        mockMvc.perform(post("/requests")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("PENDENTE"))
+                .andExpect(jsonPath("$.message").value("Solicitação criada com sucesso! Protocolo: SOL-20260101-0003. Aguardando aprovação."));
+    }
+
     @Test
     void createRequest_WhenUnexpectedExceptionOccurs_ShouldReturnInternalServerError() throws Exception {
         CreateRequestRequest createRequest = buildCreateRequestPayload();
@@ -335,9 +406,44 @@ class RequestControllerTest {
         );
     }
 
+    @Test
+    void searchRequests_WhenRepeatedWithSameVersion_ShouldServeFromCacheWithEtag() throws Exception {
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestReadRepository.findUserVersion(eq(userId))).thenReturn(5L);
+        when(requestService.searchRequests(eq(userId), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(0), eq(10)))
+                .thenReturn(new PageImpl<>(Arrays.asList(summaryRow), PageRequest.of(0, 10), 1));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/requests")
+                    .header("Authorization", VALID_AUTHORIZATION))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"user1-5\""))
+                    .andExpect(header().string("Cache-Control", "no-cache, private"))
+                    .andExpect(jsonPath("$.content[0].protocol").value("SOL-20260101-0001"));
+        }
+
+        verify(requestService, times(1)).searchRequests(eq(userId), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(0), eq(10));
+    }
+
+    @Test
+    void searchRequests_WhenEtagMatches_ShouldReturnNotModified() throws Exception {
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestReadRepository.findUserVersion(eq(userId))).thenReturn(5L);
+
+        mockMvc.perform(get("/requests")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .header("If-None-Match", "W/\"user1-5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(requestService);
+    }
+
     @Test
     void searchRequests_WhenValid_ShouldReturnRequests() throws Exception {
-        List<Request> requests = Arrays.asList(request);
+        List<RequestSummaryRow> requests = Arrays.asList(summaryRow);
 
         when(sessionService.isValidSession(eq(token))).thenReturn(true);
         when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
@@ -347,8 +453,11 @@ class RequestControllerTest {
             eq("ATIVO"),
             eq("2025-01-01"),
             eq("2025-01-31"),
-            eq(true)
-        )).thenReturn(requests);
+            eq(true),
+            isNull(),
+            eq(0),
+            eq(10)
+        )).thenReturn(new PageImpl<>(requests, PageRequest.of(0, 10), 1));
 
         mockMvc.perform(get("/requests")
                 .header("Authorization", VALID_AUTHORIZATION)
@@ -362,7 +471,10 @@ class RequestControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray())
-                .andExpect(jsonPath("$.content[0].protocol").value("SOL-20260101-0001"));
+                .andExpect(jsonPath("$.content[0].protocol").value("SOL-20260101-0001"))
+                .andExpect(jsonPath("$.content[0].moduleNames[0]").value("Portal"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.totalPages").value(1));
 
         verify(sessionService, times(1)).isValidSession(eq(token));
         verify(authService, times(1)).getUserIdByToken(eq(token));
@@ -372,10 +484,81 @@ class RequestControllerTest {
             eq("ATIVO"),
             eq("2025-01-01"),
             eq("2025-01-31"),
-            eq(true)
+            eq(true),
+            isNull(),
+            eq(0),
+            eq(10)
         );
     }
 
+    @Test
+    void searchRequests_WhenCursorModeHasMoreRows_ShouldReturnNextCursorWithoutTotals() throws Exception {
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestService.searchRequestsAfter(
+            eq(userId), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(""), eq(1)
+        )).thenReturn(new SliceImpl<>(Arrays.asList(summaryRow), PageRequest.of(0, 1), true));
+
+        String expectedCursor = RequestCursor.of(summaryRow).encode();
+
+        mockMvc.perform(get("/requests")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .param("cursor", "")
+                .param("size", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].protocol").value("SOL-20260101-0001"))
+                .andExpect(jsonPath("$.nextCursor").value(expectedCursor))
+                .andExpect(jsonPath("$.totalElements").isEmpty());
+
+        verify(requestService, never()).searchRequests(any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchRequests_WhenFieldsGiven_ShouldReturnOnlySelectedFields() throws Exception {
+        Set<String> fields = Set.of("protocol", "status");
+        RequestSummaryRow sparseRow = new RequestSummaryRow("SOL-20260101-0001", List.of(), List.of(), "ATIVO",
+                null, null, Instant.parse("2025-01-01T10:00:00Z"), null, null);
+
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestService.searchRequests(eq(userId), isNull(), isNull(), isNull(), isNull(), isNull(), eq(fields), eq(0), eq(10)))
+                .thenReturn(new PageImpl<>(Arrays.asList(sparseRow), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(get("/requests")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .param("fields", "status, protocol"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].protocol").value("SOL-20260101-0001"))
+                .andExpect(jsonPath("$.content[0].status").value("ATIVO"))
+                .andExpect(jsonPath("$.content[0].justification").doesNotExist())
+                .andExpect(jsonPath("$.content[0].modules").doesNotExist());
+    }
+
+    @Test
+    void searchRequests_WhenFieldsAreInvalid_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/requests")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .param("fields", "protocol,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(
+                        "Fields must be a comma-separated list of: protocol, modules, moduleNames, status, justification, urgent, createdAt, expiresAt, denialReason"));
+
+        verifyNoInteractions(requestService);
+    }
+
+    @Test
+    void searchRequests_WhenCursorIsInvalid_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/requests")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .param("cursor", "not-a-cursor")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+
+        verifyNoInteractions(requestService);
+    }
+
     @Test
     void searchRequests_WhenPageIsNegative_ShouldReturnBadRequest() throws Exception {
         mockMvc.perform(get("/requests")
@@ -410,10 +593,10 @@ class RequestControllerTest {
     void searchRequests_WhenStatusIsInvalid_ShouldReturnBadRequest() throws Exception {
         mockMvc.perform(get("/requests")
                 .header("Authorization", VALID_AUTHORIZATION)
-                .param("status", "pendente")
+                .param("status", "aprovado")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message").value("Status must be one of: ATIVO, NEGADO, CANCELADO"));
+                .andExpect(jsonPath("$.message").value("Status must be one of: ATIVO, NEGADO, CANCELADO, EXPIRADO, PENDENTE"));
 
         verifyNoInteractions(sessionService);
         verifyNoInteractions(authService);
@@ -489,7 +672,10 @@ class RequestControllerTest {
                 eq(null),
                 eq(null),
                 eq(null),
-                eq(null)
+                eq(null),
+                isNull(),
+                eq(0),
+                eq(10)
         )).thenThrow(new IllegalStateException("Repository failure"));
 
         mockMvc.perform(get("/requests")
@@ -507,10 +693,142 @@ class RequestControllerTest {
                 eq(null),
                 eq(null),
                 eq(null),
-                eq(null)
+                eq(null),
+                isNull(),
+                eq(0),
+                eq(10)
         );
     }
 
+    @Test
+    void exportRequests_WhenValid_ShouldStreamNdjson() throws Exception {
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestExportService.resolveDepartment(eq(userId), isNull())).thenReturn(null);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(3);
+            outputStream.write("{\"protocol\":\"SOL-20260101-0001\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(requestExportService).export(eq(userId), isNull(), eq("ndjson"), any());
+
+        MvcResult result = mockMvc.perform(get("/requests/export")
+                .header("Authorization", VALID_AUTHORIZATION))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string("{\"protocol\":\"SOL-20260101-0001\"}\n"));
+
+        verify(requestExportService, times(1)).export(eq(userId), isNull(), eq("ndjson"), any());
+    }
+
+    @Test
+    void exportRequests_WhenFormatIsInvalid_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/requests/export")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Format must be one of: ndjson, csv"));
+
+        verifyNoInteractions(requestExportService);
+    }
+
+    @Test
+    void exportRequests_WhenInvalidToken_ShouldReturnUnauthorized() throws Exception {
+        when(sessionService.isValidSession(eq(token))).thenReturn(false);
+
+        mockMvc.perform(get("/requests/export")
+                .header("Authorization", VALID_AUTHORIZATION))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("Unauthorized"))
+                .andExpect(jsonPath("$.message").value("Invalid or expired token"));
+
+        verifyNoInteractions(requestExportService);
+    }
+
+    @Test
+    void exportRequests_WhenDepartmentNotAllowed_ShouldReturnBadRequest() throws Exception {
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestExportService.resolveDepartment(eq(userId), eq("RH")))
+                .thenThrow(new RuntimeException("Only TI administrators can export requests for a department"));
+
+        mockMvc.perform(get("/requests/export")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .param("format", "csv")
+                .param("department", "RH"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Only TI administrators can export requests for a department"));
+
+        verify(requestExportService, never()).export(any(), any(), any(), any());
+    }
+
+    @Test
+    void getDashboard_WhenValid_ShouldReturnCounters() throws Exception {
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestDashboardService.getDashboard(eq(userId))).thenReturn(new RequestDashboardRow(3, 1, 2, 5, 1, 2, 4));
+
+        mockMvc.perform(get("/requests/dashboard")
+                .header("Authorization", VALID_AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCounts.ATIVO").value(3))
+                .andExpect(jsonPath("$.statusCounts.NEGADO").value(1))
+                .andExpect(jsonPath("$.statusCounts.CANCELADO").value(2))
+                .andExpect(jsonPath("$.statusCounts.EXPIRADO").value(5))
+                .andExpect(jsonPath("$.urgent").value(1))
+                .andExpect(jsonPath("$.expiringSoon").value(2))
+                .andExpect(jsonPath("$.activeModules").value(4));
+
+        verify(requestDashboardService, times(1)).getDashboard(eq(userId));
+        verifyNoInteractions(requestService);
+    }
+
+    @Test
+    void getDashboard_WhenInvalidToken_ShouldReturnUnauthorized() throws Exception {
+        when(sessionService.isValidSession(eq(token))).thenReturn(false);
+
+        mockMvc.perform(get("/requests/dashboard")
+                .header("Authorization", VALID_AUTHORIZATION))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(requestDashboardService);
+    }
+
+    @Test
+    void getExpiringAccesses_WhenValid_ShouldReturnAccessesWithDaysRemaining() throws Exception {
+        Access access = new Access();
+        access.setUserId(userId);
+        access.setModuleId("module1");
+        access.setRequestProtocol("SOL-20260101-0001");
+        access.setStatus("ATIVO");
+        access.setExpiresAt(Instant.now().plusSeconds(5 * 24 * 60 * 60L + 3600));
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(accessReminderService.findExpiringSoon(eq(userId), eq(7))).thenReturn(List.of(access));
+
+        mockMvc.perform(get("/requests/expiring")
+                .param("days", "7")
+                .header("Authorization", VALID_AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].protocol").value("SOL-20260101-0001"))
+                .andExpect(jsonPath("$[0].moduleId").value("module1"))
+                .andExpect(jsonPath("$[0].daysRemaining").value(5));
+    }
+
+    @Test
+    void getExpiringAccesses_WhenDaysOutOfRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/requests/expiring")
+                .param("days", "31")
+                .header("Authorization", VALID_AUTHORIZATION))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Days must be between 1 and 30"));
+
+        verifyNoInteractions(accessReminderService);
+    }
+
     @Test
     void getRequestDetails_WhenValid_ShouldReturnRequest() throws Exception {
         String authorization = "Bearer " + token;
@@ -518,7 +836,7 @@ class RequestControllerTest {
 
         when(sessionService.isValidSession(eq(token))).thenReturn(true);
         when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
-        when(requestService.findRequestByProtocol(eq(userId), eq(protocol))).thenReturn(request);
+        when(requestService.findRequestDetails(eq(userId), eq(protocol), isNull(), isNull())).thenReturn(detailsRow);
 
         mockMvc.perform(get("/requests/" + protocol)
                 .header("Authorization", authorization)
@@ -530,7 +848,74 @@ class RequestControllerTest {
 
         verify(sessionService, times(1)).isValidSession(eq(token));
         verify(authService, times(1)).getUserIdByToken(eq(token));
-        verify(requestService, times(1)).findRequestByProtocol(eq(userId), eq(protocol));
+        verify(requestService, times(1)).findRequestDetails(eq(userId), eq(protocol), isNull(), isNull());
+    }
+
+    @Test
+    void getRequestDetails_WhenEtagMatches_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        String protocol = "SOL-20260101-0001";
+
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestReadRepository.findUserVersion(eq(userId))).thenReturn(3L);
+
+        mockMvc.perform(get("/requests/" + protocol)
+                .header("Authorization", VALID_AUTHORIZATION)
+                .header("If-None-Match", "\"user1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"user1-3\""));
+
+        verifyNoInteractions(requestService);
+    }
+
+    @Test
+    void getRequestDetails_WhenVersionChanged_ShouldReloadDetails() throws Exception {
+        String protocol = "SOL-20260101-0001";
+
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestReadRepository.findUserVersion(eq(userId))).thenReturn(3L, 3L, 4L);
+        when(requestService.findRequestDetails(eq(userId), eq(protocol), isNull(), isNull())).thenReturn(detailsRow);
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/requests/" + protocol)
+                    .header("Authorization", VALID_AUTHORIZATION))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.protocol").value(protocol));
+        }
+
+        verify(requestService, times(2)).findRequestDetails(eq(userId), eq(protocol), isNull(), isNull());
+    }
+
+    @Test
+    void getRequestDetails_WhenFieldsAndHistoryLimitGiven_ShouldReturnTruncatedSparseDetails() throws Exception {
+        String protocol = "SOL-20260101-0001";
+        Set<String> fields = Set.of("protocol", "history");
+
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestService.findRequestDetails(eq(userId), eq(protocol), eq(fields), eq(1))).thenReturn(detailsRow);
+
+        mockMvc.perform(get("/requests/" + protocol)
+                .header("Authorization", VALID_AUTHORIZATION)
+                .param("fields", "protocol,history")
+                .param("historyLimit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.protocol").value(protocol))
+                .andExpect(jsonPath("$.history[0].action").value("CREATED"))
+                .andExpect(jsonPath("$.justification").doesNotExist())
+                .andExpect(jsonPath("$.status").doesNotExist());
+    }
+
+    @Test
+    void getRequestDetails_WhenHistoryLimitIsNegative_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/requests/SOL-20260101-0001")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .param("historyLimit", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("History limit must be greater than or equal to 0"));
+
+        verifyNoInteractions(requestService);
     }
 
     @Test
@@ -540,7 +925,7 @@ class RequestControllerTest {
 
         when(sessionService.isValidSession(eq(token))).thenReturn(true);
         when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
-        when(requestService.findRequestByProtocol(eq(userId), eq(protocol))).thenReturn(null);
+        when(requestService.findRequestDetails(eq(userId), eq(protocol), isNull(), isNull())).thenReturn(null);
 
         mockMvc.perform(get("/requests/" + protocol)
                 .header("Authorization", authorization)
@@ -550,7 +935,7 @@ class RequestControllerTest {
 
         verify(sessionService, times(1)).isValidSession(eq(token));
         verify(authService, times(1)).getUserIdByToken(eq(token));
-        verify(requestService, times(1)).findRequestByProtocol(eq(userId), eq(protocol));
+        verify(requestService, times(1)).findRequestDetails(eq(userId), eq(protocol), isNull(), isNull());
     }
 
     @Test
@@ -616,7 +1001,7 @@ class RequestControllerTest {
 
         when(sessionService.isValidSession(eq(token))).thenReturn(true);
         when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
-        when(requestService.findRequestByProtocol(eq(userId), eq(protocol)))
+        when(requestService.findRequestDetails(eq(userId), eq(protocol), isNull(), isNull()))
                 .thenThrow(new IllegalStateException("Repository unavailable"));
 
         mockMvc.perform(get("/requests/" + protocol)
@@ -628,12 +1013,12 @@ class RequestControllerTest {
 
         verify(sessionService, times(1)).isValidSession(eq(token));
         verify(authService, times(1)).getUserIdByToken(eq(token));
-        verify(requestService, times(1)).findRequestByProtocol(eq(userId), eq(protocol));
+        verify(requestService, times(1)).findRequestDetails(eq(userId), eq(protocol), isNull(), isNull());
     }
 
     @Test
     void getRequestDetails_WhenProtocolIsNull_ShouldReturnBadRequestDirectly() {
-        ResponseEntity<?> response = requestController.getRequestDetails(VALID_AUTHORIZATION, null);
+        ResponseEntity<?> response = requestController.getRequestDetails(VALID_AUTHORIZATION, null, null, null, null);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         ErrorResponse body = (ErrorResponse) response.getBody();
@@ -665,6 +1050,59 @@ class RequestControllerTest {
         verify(requestService, times(1)).renewAccess(eq(userId), eq("SOL-20260101-0001"));
     }
 
+    @Test
+    void renewExpiringAccesses_WhenValid_ShouldReturnCreated() throws Exception {
+        BulkRenewAccessRequest bulkRequest = new BulkRenewAccessRequest();
+        bulkRequest.setDepartment("RH");
+
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestService.renewExpiringAccesses(eq(userId), eq("RH"))).thenReturn(Arrays.asList(request));
+
+        mockMvc.perform(post("/requests/renew/bulk")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.approved").value(1))
+                .andExpect(jsonPath("$.denied").value(0))
+                .andExpect(jsonPath("$.renewals[0].protocol").value("SOL-20260101-0001"));
+
+        verify(requestService, times(1)).renewExpiringAccesses(eq(userId), eq("RH"));
+    }
+
+    @Test
+    void renewExpiringAccesses_WhenNotAllowed_ShouldReturnBadRequest() throws Exception {
+        BulkRenewAccessRequest bulkRequest = new BulkRenewAccessRequest();
+        bulkRequest.setDepartment("RH");
+
+        when(sessionService.isValidSession(eq(token))).thenReturn(true);
+        when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
+        when(requestService.renewExpiringAccesses(eq(userId), eq("RH")))
+                .thenThrow(new RuntimeException("Only TI administrators can renew accesses for a department"));
+
+        mockMvc.perform(post("/requests/renew/bulk")
+                .header("Authorization", VALID_AUTHORIZATION)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Only TI administrators can renew accesses for a department"));
+    }
+
+    @Test
+    void renewExpiringAccesses_WhenInvalidToken_ShouldReturnUnauthorized() throws Exception {
+        when(sessionService.isValidSession(eq(token))).thenReturn(false);
+
+        mockMvc.perform(post("/requests/renew/bulk")
+                .header("Authorization", VALID_AUTHORIZATION))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid or expired token"));
+
+        verifyNoInteractions(authService);
+        verifyNoInteractions(requestService);
+    }
+
     @Test
     void renewAccess_WhenInvalidToken_ShouldReturnUnauthorized() throws Exception {
         RenewAccessRequest renewRequest = buildRenewAccessRequest("SOL-20260101-0001");
@@ -755,6 +1193,7 @@ class RequestControllerTest {
         when(sessionService.isValidSession(eq(token))).thenReturn(true);
         when(authService.getUserIdByToken(eq(token))).thenReturn(userId);
         when(requestService.cancelRequest(eq(userId), eq(protocol), eq(reason))).thenReturn(request);
+        when(requestService.findRequestDetails(eq(userId), eq(protocol), isNull(), isNull())).thenReturn(detailsRow);
 
         mockMvc.perform(post("/requests/" + protocol + "/cancel")
                 .header("Authorization", authorization)
@@ -766,6 +1205,7 @@ class RequestControllerTest {
         verify(sessionService, times(1)).isValidSession(eq(token));
         verify(authService, times(1)).getUserIdByToken(eq(token));
         verify(requestService, times(1)).cancelRequest(eq(userId), eq(protocol), eq(reason));
+        verify(requestService, times(1)).findRequestDetails(eq(userId), eq(protocol), isNull(), isNull());
     }
 
     @Test
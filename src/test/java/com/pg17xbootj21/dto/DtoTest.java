@@ -3,6 +3,7 @@ package com.pg17xbootj21.dto;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,6 +56,22 @@ class DtoTest {
         assertTrue(moduleResponse.isActive());
         assertEquals(1, moduleResponse.getAllowedDepartments().size());
 
+        RequestDashboardResponse dashboardResponse = new RequestDashboardResponse();
+        dashboardResponse.setStatusCounts(Map.of("ATIVO", 2L));
+        dashboardResponse.setUrgent(1);
+        dashboardResponse.setExpiringSoon(1);
+        dashboardResponse.setActiveModules(3);
+        assertEquals(2L, dashboardResponse.getStatusCounts().get("ATIVO"));
+        assertEquals(3, dashboardResponse.getActiveModules());
+
+        ExpiringAccessResponse expiringAccessResponse = new ExpiringAccessResponse();
+        expiringAccessResponse.setProtocol("SOL-20260101-0001");
+        expiringAccessResponse.setModuleId("PORTAL");
+        expiringAccessResponse.setExpiresAt("2026-01-08T10:00:00Z");
+        expiringAccessResponse.setDaysRemaining(6);
+        assertEquals("PORTAL", expiringAccessResponse.getModuleId());
+        assertEquals(6, expiringAccessResponse.getDaysRemaining());
+
         PagedResponse<String> pagedResponse = new PagedResponse<>(List.of("item"), 0, 10, 1);
         assertEquals(1, pagedResponse.getContent().size());
         assertEquals(0, pagedResponse.getPage());
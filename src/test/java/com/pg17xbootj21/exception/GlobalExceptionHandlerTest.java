@@ -9,6 +9,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.util.List;
@@ -46,6 +47,16 @@ class GlobalExceptionHandlerTest {
         assertEquals("Required parameter is missing: status", response.getBody().getMessage());
     }
 
+    @Test
+    void handleResponseStatus_ShouldKeepStatusAndReason() {
+        ResponseEntity<ErrorResponse> response = handler.handleResponseStatus(
+                new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired token"));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals("Unauthorized", response.getBody().getError());
+        assertEquals("Invalid or expired token", response.getBody().getMessage());
+    }
+
     @Test
     void handleIllegalArgument_ShouldReturnBadRequest() {
         ResponseEntity<ErrorResponse> response = handler.handleIllegalArgument(new IllegalArgumentException("Erro"));
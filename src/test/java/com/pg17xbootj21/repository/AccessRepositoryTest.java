@@ -0,0 +1,164 @@
+package com.pg17xbootj21.repository;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.repository.AccessRepository.AccessChangeRow;
+import com.pg17xbootj21.repository.AccessRepository.ExpiredAccessRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccessRepositoryTest {
+
+    private static final String USER_ID = "f84af7aa-324c-4f50-9d0a-d295d802dec6";
+    private static final String OTHER_USER_ID = "a1b2c3d4-e5f6-7890-abcd-ef1234567890";
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private AccessRepository accessRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.execute("TRUNCATE requests, module_holder_counts CASCADE");
+        jdbcTemplate.update("INSERT INTO requests (protocol, user_id, user_department, status, created_at, expires_at) " +
+                "VALUES ('SOL-20260101-0001', ?, 'TI', 'ATIVO', now(), now() + interval '180 days')", USER_ID);
+        jdbcTemplate.update("INSERT INTO requests (protocol, user_id, user_department, status, created_at, expires_at) " +
+                "VALUES ('SOL-20260101-0002', ?, 'Financeiro', 'ATIVO', now(), now() + interval '180 days')", OTHER_USER_ID);
+    }
+
+    @Test
+    void findChangesAfter_ShouldReturnCommittedChangesInXidOrderAfterWatermark() {
+        long first = insertAccess(USER_ID, "PORTAL", "SOL-20260101-0001", "2026-01-01T10:00:00Z", "2026-06-30T10:00:00Z");
+        long second = insertAccess(OTHER_USER_ID, "PORTAL", "SOL-20260101-0002", "2026-01-01T10:00:00Z", "2026-06-30T10:00:00Z");
+
+        List<AccessChangeRow> changes = accessRepository.findChangesAfter(0L, 0L, 10);
+
+        assertEquals(List.of(first, second), changes.stream().map(AccessChangeRow::getId).toList());
+        assertTrue(changes.get(0).getChangeXid() < changes.get(1).getChangeXid());
+
+        AccessChangeRow watermark = changes.get(0);
+        List<AccessChangeRow> remaining = accessRepository.findChangesAfter(watermark.getChangeXid(), watermark.getId(), 10);
+
+        assertEquals(List.of(second), remaining.stream().map(AccessChangeRow::getId).toList());
+    }
+
+    @Test
+    void findChangesAfter_WhenEarlierTransactionInFlight_ShouldHoldBackLaterCommits() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT CAST(pg_current_xact_id() AS text)", String.class);
+
+            CompletableFuture.runAsync(() ->
+                    insertAccess(USER_ID, "PORTAL", "SOL-20260101-0001", "2026-01-01T10:00:00Z", "2026-06-30T10:00:00Z")).join();
+
+            List<AccessChangeRow> whileInFlight = CompletableFuture.supplyAsync(() ->
+                    accessRepository.findChangesAfter(0L, 0L, 10)).join();
+
+            assertTrue(whileInFlight.isEmpty());
+        });
+
+        assertEquals(1, accessRepository.findChangesAfter(0L, 0L, 10).size());
+    }
+
+    @Test
+    void findHeldByUserAt_ShouldMatchValidityRangeIncludingEndedAccesses() {
+        long revoked = insertAccess(USER_ID, "PORTAL", "SOL-20260101-0001", "2026-01-01T10:00:00Z", "2026-06-30T10:00:00Z");
+        jdbcTemplate.update("UPDATE accesses SET status = 'REVOGADO', ended_at = ? WHERE id = ?",
+                Timestamp.from(Instant.parse("2026-03-01T10:00:00Z")), revoked);
+        long active = insertAccess(USER_ID, "RELATORIOS", "SOL-20260101-0001", "2026-03-15T10:00:00Z", "2026-09-15T10:00:00Z");
+
+        List<Access> february = accessRepository.findHeldByUserAt(USER_ID, Instant.parse("2026-02-01T10:00:00Z"));
+        List<Access> april = accessRepository.findHeldByUserAt(USER_ID, Instant.parse("2026-04-01T10:00:00Z"));
+        List<Access> october = accessRepository.findHeldByUserAt(USER_ID, Instant.parse("2026-10-01T10:00:00Z"));
+
+        assertEquals(List.of(revoked), february.stream().map(Access::getId).toList());
+        assertEquals(List.of(active), april.stream().map(Access::getId).toList());
+        assertTrue(october.isEmpty());
+        assertEquals(List.of(active), accessRepository.findHeldByModuleAt("RELATORIOS", Instant.parse("2026-04-01T10:00:00Z"))
+                .stream().map(Access::getId).toList());
+    }
+
+    @Test
+    void expireDueBatch_ShouldSkipRowsClaimedByConcurrentTransaction() {
+        insertAccess(USER_ID, "PORTAL", "SOL-20260101-0001", "2026-01-01T10:00:00Z", "2026-02-01T10:00:00Z");
+        insertAccess(USER_ID, "RELATORIOS", "SOL-20260101-0001", "2026-01-01T10:00:00Z", "2026-02-02T10:00:00Z");
+        insertAccess(OTHER_USER_ID, "PORTAL", "SOL-20260101-0002", "2026-01-01T10:00:00Z", "2026-02-03T10:00:00Z");
+        Instant now = Instant.parse("2026-03-01T10:00:00Z");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<ExpiredAccessRow> claimed = accessRepository.expireDueBatch(now, 1);
+
+            List<ExpiredAccessRow> concurrent = CompletableFuture.supplyAsync(() ->
+                    transactionTemplate.execute(inner -> accessRepository.expireDueBatch(now, 10))).join();
+
+            assertEquals(List.of("PORTAL"), claimed.stream().map(ExpiredAccessRow::getModuleId).toList());
+            assertEquals(2, concurrent.size());
+            assertTrue(concurrent.stream().noneMatch(row -> USER_ID.equals(row.getUserId()) && "PORTAL".equals(row.getModuleId())));
+        });
+
+        assertTrue(transactionTemplate.execute(status -> accessRepository.expireDueBatch(now, 10)).isEmpty());
+    }
+
+    @Test
+    void findHolderCount_ShouldFollowTriggerDeltasAndReconcileDrift() {
+        insertAccess(USER_ID, "AUDITORIA", "SOL-20260101-0001", "2026-01-01T10:00:00Z", "2026-06-30T10:00:00Z");
+        long revoked = insertAccess(OTHER_USER_ID, "AUDITORIA", "SOL-20260101-0002", "2026-01-01T10:00:00Z", "2026-06-30T10:00:00Z");
+        insertAccess(OTHER_USER_ID, "PORTAL", "SOL-20260101-0002", "2026-01-01T10:00:00Z", "2026-06-30T10:00:00Z");
+        jdbcTemplate.update("UPDATE accesses SET status = 'REVOGADO', ended_at = now() WHERE id = ?", revoked);
+
+        assertEquals(1L, accessRepository.findHolderCount("AUDITORIA").orElseThrow());
+        assertEquals(1L, accessRepository.findHolderCount("PORTAL").orElseThrow());
+
+        jdbcTemplate.update("INSERT INTO module_holder_counts (module_id, stripe, holder_count) VALUES ('AUDITORIA', 15, 5) " +
+                "ON CONFLICT (module_id, stripe) DO UPDATE SET holder_count = module_holder_counts.holder_count + 5");
+
+        assertEquals(Integer.valueOf(1), transactionTemplate.execute(status -> accessRepository.reconcileHolderCounts()));
+        assertEquals(1L, accessRepository.findHolderCount("AUDITORIA").orElseThrow());
+        assertEquals(Integer.valueOf(0), transactionTemplate.execute(status -> accessRepository.reconcileHolderCounts()));
+    }
+
+    private long insertAccess(String userId, String moduleId, String protocol, String grantedAt, String expiresAt) {
+        return jdbcTemplate.queryForObject("INSERT INTO accesses (user_id, module_id, status, granted_at, expires_at, request_protocol) " +
+                        "VALUES (?, ?, 'ATIVO', ?, ?, ?) RETURNING id", Long.class,
+                userId, moduleId, Timestamp.from(Instant.parse(grantedAt)), Timestamp.from(Instant.parse(expiresAt)), protocol);
+    }
+}
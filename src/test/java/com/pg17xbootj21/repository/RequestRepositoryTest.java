@@ -0,0 +1,166 @@
+package com.pg17xbootj21.repository;
+
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestHistory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Sql(statements = "ALTER TABLE requests ALTER COLUMN version SET DEFAULT 0")
+@Import(RequestReadRepository.class)
+class RequestRepositoryTest {
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestReadRepository requestReadRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findByUserId_ShouldLoadModulesAndHistoryInConstantQueries() {
+        persistRequests("user1", 3);
+        long smallPageQueries = countQueriesLoadingRequestsOf("user1");
+
+        persistRequests("user2", 20);
+        long largePageQueries = countQueriesLoadingRequestsOf("user2");
+
+        assertEquals(2, smallPageQueries);
+        assertEquals(smallPageQueries, largePageQueries);
+    }
+
+    @Test
+    void findByProtocolAndUserId_ShouldLoadModulesAndHistoryInTwoQueries() {
+        persistRequests("user1", 1);
+        statistics.clear();
+
+        Optional<Request> request = requestRepository.findByProtocolAndUserId("SOL-20260101-0000", "user1");
+
+        assertTrue(request.isPresent());
+        assertEquals(2, request.get().getModules().size());
+        assertEquals(2, request.get().getHistory().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllById_ShouldBatchLazyCollectionsAcrossThePage() {
+        List<String> protocols = persistRequests("user1", 20);
+        statistics.clear();
+
+        List<Request> requests = requestRepository.findAllById(protocols);
+        requests.forEach(request -> {
+            request.getModules().size();
+            request.getHistory().size();
+        });
+
+        assertEquals(20, requests.size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findDetails_ShouldMapRowModulesAndHistoryWithoutManagedEntities() {
+        persistRequests("user1", 1);
+        statistics.clear();
+
+        Optional<RequestReadRepository.RequestDetailsRow> details = requestReadRepository.findDetails("SOL-20260101-0000", "user1");
+
+        assertTrue(details.isPresent());
+        assertEquals("TI", details.get().userDepartment());
+        assertEquals(Arrays.asList("PORTAL", "RELATORIOS"), details.get().modules().stream().sorted().toList());
+        assertEquals(Arrays.asList("CREATED", "APPROVED"),
+                details.get().history().stream().map(RequestReadRepository.RequestHistoryRow::action).toList());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(requestReadRepository.findDetails("SOL-20260101-0000", "user2").isEmpty());
+    }
+
+    @Test
+    void findDetails_WhenFieldsAndHistoryLimitGiven_ShouldSkipUnselectedColumnsAndKeepLatestHistory() {
+        persistRequests("user1", 1);
+
+        Optional<RequestReadRepository.RequestDetailsRow> details = requestReadRepository.findDetails(
+                "SOL-20260101-0000", "user1", Set.of("protocol", "status", "history"), 1);
+
+        assertTrue(details.isPresent());
+        assertNull(details.get().justification());
+        assertTrue(details.get().modules().isEmpty());
+        assertEquals(List.of("APPROVED"),
+                details.get().history().stream().map(RequestReadRepository.RequestHistoryRow::action).toList());
+    }
+
+    private long countQueriesLoadingRequestsOf(String userId) {
+        statistics.clear();
+        List<Request> requests = requestRepository.findByUserId(userId);
+        requests.forEach(request -> {
+            assertEquals(2, request.getModules().size());
+            assertEquals(2, request.getHistory().size());
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<String> persistRequests(String userId, int count) {
+        List<String> protocols = new ArrayList<>();
+        int offset = "user1".equals(userId) ? 0 : 1000;
+        for (int i = 0; i < count; i++) {
+            Request request = new Request();
+            request.setProtocol(String.format("SOL-20260101-%04d", offset + i));
+            request.setUserId(userId);
+            request.setUserDepartment("TI");
+            request.setModules(new ArrayList<>(Arrays.asList("PORTAL", "RELATORIOS")));
+            request.setJustification("Necessário para análise de dados");
+            request.setStatus("ATIVO");
+            request.setCreatedAt(Instant.parse("2026-01-01T10:00:00Z").plusSeconds(i));
+            request.setExpiresAt(Instant.parse("2026-06-30T10:00:00Z"));
+            request.getHistory().add(buildHistory(request, "CREATED"));
+            request.getHistory().add(buildHistory(request, "APPROVED"));
+            entityManager.persist(request);
+            protocols.add(request.getProtocol());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return protocols;
+    }
+
+    private RequestHistory buildHistory(Request request, String action) {
+        RequestHistory history = new RequestHistory();
+        history.setRequest(request);
+        history.setDate(request.getCreatedAt());
+        history.setAction(action);
+        return history;
+    }
+}
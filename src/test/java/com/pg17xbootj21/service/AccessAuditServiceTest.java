@@ -0,0 +1,78 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.repository.AccessRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessAuditServiceTest {
+
+    private static final Instant AT = Instant.parse("2026-02-01T00:00:00Z");
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    @Mock
+    private UserService userService;
+
+    private AccessAuditService accessAuditService;
+
+    @BeforeEach
+    void setUp() {
+        accessAuditService = new AccessAuditService(accessRepository, userService);
+    }
+
+    @Test
+    void findHeldAt_WhenUserGiven_ShouldQueryByUser() {
+        Access access = new Access();
+        when(accessRepository.findHeldByUserAt("user1", AT)).thenReturn(List.of(access));
+
+        List<Access> result = accessAuditService.findHeldAt("admin", "user1", null, AT);
+
+        assertEquals(List.of(access), result);
+        verify(accessRepository, never()).findHeldByModuleAt(any(), any());
+    }
+
+    @Test
+    void findHeldAt_WhenModuleGiven_ShouldQueryByModule() {
+        when(accessRepository.findHeldByModuleAt("AUDITORIA", AT)).thenReturn(List.of());
+
+        assertTrue(accessAuditService.findHeldAt("admin", null, "AUDITORIA", AT).isEmpty());
+        verify(accessRepository, never()).findHeldByUserAt(any(), any());
+    }
+
+    @Test
+    void findHeldAt_WhenBothOrNeitherGiven_ShouldThrowException() {
+        RuntimeException both = assertThrows(RuntimeException.class,
+                () -> accessAuditService.findHeldAt("admin", "user1", "AUDITORIA", AT));
+        RuntimeException neither = assertThrows(RuntimeException.class,
+                () -> accessAuditService.findHeldAt("admin", null, null, AT));
+
+        assertEquals("Exactly one of userId or moduleId is required", both.getMessage());
+        assertEquals("Exactly one of userId or moduleId is required", neither.getMessage());
+        verifyNoInteractions(accessRepository);
+    }
+
+    @Test
+    void findHeldAt_WhenCallerNotTi_ShouldThrowException() {
+        when(userService.requireTiAdministrator("user1", "run access audits"))
+                .thenThrow(new RuntimeException("Only TI administrators can run access audits"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> accessAuditService.findHeldAt("user1", "user1", null, AT));
+
+        assertEquals("Only TI administrators can run access audits", exception.getMessage());
+        verifyNoInteractions(accessRepository);
+    }
+}
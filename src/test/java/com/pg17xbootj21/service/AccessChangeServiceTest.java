@@ -0,0 +1,131 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.AccessChangeRow;
+import com.pg17xbootj21.service.AccessChangeService.AccessChangeBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessChangeServiceTest {
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    @Mock
+    private UserService userService;
+
+    private AccessChangeService accessChangeService;
+
+    @BeforeEach
+    void setUp() {
+        accessChangeService = new AccessChangeService(accessRepository, userService);
+    }
+
+    @Test
+    void findChanges_WhenNoWatermark_ShouldStartFromBeginningAndAdvance() {
+        when(accessRepository.findChangesAfter(0, 0, 3)).thenReturn(Arrays.asList(row(1L, 900L), row(2L, 901L)));
+
+        AccessChangeBatch batch = accessChangeService.findChanges("admin", null, 2);
+
+        assertEquals(2, batch.changes().size());
+        assertFalse(batch.hasMore());
+        AccessChangeWatermark watermark = AccessChangeWatermark.decode(batch.watermark());
+        assertEquals(901L, watermark.getChangeXid());
+        assertEquals(2L, watermark.getAccessId());
+    }
+
+    @Test
+    void findChanges_WhenMoreThanLimit_ShouldTrimAndFlagMore() {
+        String since = new AccessChangeWatermark(900L, 1L).encode();
+        when(accessRepository.findChangesAfter(900L, 1L, 2)).thenReturn(Arrays.asList(row(2L, 901L), row(3L, 902L)));
+
+        AccessChangeBatch batch = accessChangeService.findChanges("admin", since, 1);
+
+        assertEquals(1, batch.changes().size());
+        assertTrue(batch.hasMore());
+        assertEquals(new AccessChangeWatermark(901L, 2L).encode(), batch.watermark());
+    }
+
+    @Test
+    void findChanges_WhenNothingChanged_ShouldKeepWatermark() {
+        String since = new AccessChangeWatermark(950L, 7L).encode();
+        when(accessRepository.findChangesAfter(950L, 7L, 11)).thenReturn(Collections.emptyList());
+
+        AccessChangeBatch batch = accessChangeService.findChanges("admin", since, 10);
+
+        assertTrue(batch.changes().isEmpty());
+        assertEquals(since, batch.watermark());
+    }
+
+    @Test
+    void findChanges_WhenCallerNotTi_ShouldThrowException() {
+        when(userService.requireTiAdministrator("user1", "read access changes"))
+                .thenThrow(new RuntimeException("Only TI administrators can read access changes"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> accessChangeService.findChanges("user1", null, 10));
+
+        assertEquals("Only TI administrators can read access changes", exception.getMessage());
+        verify(accessRepository, never()).findChangesAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void findChanges_WhenWatermarkMalformed_ShouldThrowException() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> accessChangeService.findChanges("admin", "%%%", 10));
+
+        assertEquals("Invalid watermark", exception.getMessage());
+    }
+
+    private AccessChangeRow row(Long id, Long changeXid) {
+        return new AccessChangeRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUserId() {
+                return "user1";
+            }
+
+            @Override
+            public String getModuleId() {
+                return "PORTAL";
+            }
+
+            @Override
+            public String getStatus() {
+                return "ATIVO";
+            }
+
+            @Override
+            public String getRequestProtocol() {
+                return "SOL-20260101-0001";
+            }
+
+            @Override
+            public Instant getExpiresAt() {
+                return Instant.parse("2026-06-30T10:00:00Z");
+            }
+
+            @Override
+            public Long getChangeXid() {
+                return changeXid;
+            }
+        };
+    }
+}
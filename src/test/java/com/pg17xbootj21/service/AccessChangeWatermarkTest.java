@@ -0,0 +1,23 @@
+package com.pg17xbootj21.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessChangeWatermarkTest {
+
+    @Test
+    void decode_WhenEncodedWatermark_ShouldRestoreTransactionAndAccessId() {
+        AccessChangeWatermark watermark = AccessChangeWatermark.decode(new AccessChangeWatermark(123456789L, 42L).encode());
+
+        assertEquals(123456789L, watermark.getChangeXid());
+        assertEquals(42L, watermark.getAccessId());
+    }
+
+    @Test
+    void decode_WhenMalformed_ShouldThrowException() {
+        assertThrows(RuntimeException.class, () -> AccessChangeWatermark.decode("%%%"));
+        assertThrows(RuntimeException.class, () -> AccessChangeWatermark.decode(
+                java.util.Base64.getUrlEncoder().encodeToString("abc|1".getBytes())));
+    }
+}
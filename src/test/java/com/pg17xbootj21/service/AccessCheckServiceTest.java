@@ -0,0 +1,108 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Module;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.UserModuleRow;
+import com.pg17xbootj21.service.AccessCheckService.Check;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessCheckServiceTest {
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    @Mock
+    private ModuleService moduleService;
+
+    private AccessCheckService accessCheckService;
+
+    @BeforeEach
+    void setUp() {
+        accessCheckService = new AccessCheckService(accessRepository, moduleService, 100, 300000);
+        when(moduleService.getAllModules()).thenReturn(Arrays.asList(module("PORTAL"), module("FINANCEIRO")));
+    }
+
+    @Test
+    void hasActiveAccess_WhenCalledRepeatedly_ShouldQueryDatabaseOnce() {
+        when(accessRepository.findActiveModuleRowsByUserIds(List.of("user1"), "ATIVO"))
+                .thenReturn(List.of(row("user1", "PORTAL")));
+
+        assertTrue(accessCheckService.hasActiveAccess("user1", "PORTAL"));
+        assertFalse(accessCheckService.hasActiveAccess("user1", "FINANCEIRO"));
+        assertTrue(accessCheckService.hasActiveAccess("user1", "PORTAL"));
+
+        verify(accessRepository, times(1)).findActiveModuleRowsByUserIds(anyCollection(), eq("ATIVO"));
+        verify(moduleService, times(1)).getAllModules();
+    }
+
+    @Test
+    void hasActiveAccess_WhenModuleUnknown_ShouldReturnFalseWithoutQuery() {
+        assertFalse(accessCheckService.hasActiveAccess("user1", "INEXISTENTE"));
+
+        verifyNoInteractions(accessRepository);
+    }
+
+    @Test
+    void hasActiveAccess_WhenInvalidated_ShouldReloadUser() {
+        when(accessRepository.findActiveModuleRowsByUserIds(List.of("user1"), "ATIVO"))
+                .thenReturn(List.of(row("user1", "PORTAL")))
+                .thenReturn(Collections.emptyList());
+
+        assertTrue(accessCheckService.hasActiveAccess("user1", "PORTAL"));
+        accessCheckService.invalidate("user1");
+
+        assertFalse(accessCheckService.hasActiveAccess("user1", "PORTAL"));
+        verify(accessRepository, times(2)).findActiveModuleRowsByUserIds(anyCollection(), eq("ATIVO"));
+    }
+
+    @Test
+    void hasActiveAccess_WhenBatch_ShouldLoadMissingUsersInOneQuery() {
+        when(accessRepository.findActiveModuleRowsByUserIds(argThat((Collection<String> ids) ->
+                ids.containsAll(List.of("user1", "user2")) && ids.size() == 2), eq("ATIVO")))
+                .thenReturn(List.of(row("user1", "PORTAL"), row("user2", "FINANCEIRO")));
+
+        List<Boolean> results = accessCheckService.hasActiveAccess(Arrays.asList(
+                new Check("user1", "PORTAL"),
+                new Check("user2", "PORTAL"),
+                new Check("user2", "FINANCEIRO"),
+                new Check("user1", "INEXISTENTE")));
+
+        assertEquals(Arrays.asList(true, false, true, false), results);
+        assertTrue(accessCheckService.hasActiveAccess("user2", "FINANCEIRO"));
+        verify(accessRepository, times(1)).findActiveModuleRowsByUserIds(anyCollection(), eq("ATIVO"));
+    }
+
+    private Module module(String id) {
+        Module module = new Module();
+        module.setId(id);
+        return module;
+    }
+
+    private UserModuleRow row(String userId, String moduleId) {
+        return new UserModuleRow() {
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getModuleId() {
+                return moduleId;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.pg17xbootj21.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pg17xbootj21.service.AccessEventStream.Batch;
+import com.pg17xbootj21.service.AccessEventStream.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessEventStreamTest {
+
+    private AccessEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new AccessEventStream(new ObjectMapper(), 3, 10, 60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.shutdown();
+    }
+
+    @Test
+    void publish_ShouldParseNotificationIntoEvent() throws InterruptedException {
+        stream.publish("{\"id\":50,\"type\":\"ACCESS_GRANTED\",\"payload\":{\"userId\":\"user1\",\"modules\":[\"PORTAL\"]}}");
+
+        Batch batch = stream.await(0, 10);
+
+        assertEquals(1, batch.events().size());
+        Event event = batch.events().get(0);
+        assertEquals(50L, event.id());
+        assertEquals("ACCESS_GRANTED", event.type());
+        assertEquals("{\"userId\":\"user1\",\"modules\":[\"PORTAL\"]}", event.data());
+    }
+
+    @Test
+    void resumeFrom_WhenEventIdInBuffer_ShouldReturnEventsAfterIt() throws InterruptedException {
+        stream.append(new Event(100, "ACCESS_GRANTED", "{}"));
+        stream.append(new Event(50, "ACCESS_REVOKED", "{}"));
+        stream.append(new Event(150, "ACCESS_EXPIRED", "{}"));
+
+        long cursor = stream.resumeFrom("100");
+        Batch batch = stream.await(cursor, 10);
+
+        assertFalse(batch.lost());
+        assertEquals(List.of(50L, 150L), ids(batch.events()));
+    }
+
+    @Test
+    void resumeFrom_WhenEventIdEvicted_ShouldRequestResync() {
+        stream.append(new Event(1, "ACCESS_GRANTED", "{}"));
+        stream.append(new Event(2, "ACCESS_GRANTED", "{}"));
+        stream.append(new Event(3, "ACCESS_GRANTED", "{}"));
+        stream.append(new Event(4, "ACCESS_GRANTED", "{}"));
+
+        assertEquals(-1, stream.resumeFrom("1"));
+        assertEquals(-1, stream.resumeFrom("invalid"));
+    }
+
+    @Test
+    void await_WhenSubscriberFallsBehindBuffer_ShouldFlagLostEvents() throws InterruptedException {
+        long cursor = stream.resumeFrom(null);
+        for (long id = 1; id <= 5; id++) {
+            stream.append(new Event(id, "ACCESS_GRANTED", "{}"));
+        }
+
+        Batch batch = stream.await(cursor, 10);
+
+        assertTrue(batch.lost());
+        assertEquals(List.of(3L, 4L, 5L), ids(batch.events()));
+        assertEquals(5, batch.next());
+    }
+
+    @Test
+    void await_WhenGapMarked_ShouldDropBufferedHistory() throws InterruptedException {
+        stream.append(new Event(1, "ACCESS_GRANTED", "{}"));
+        long cursor = stream.resumeFrom("1");
+        stream.append(new Event(2, "ACCESS_GRANTED", "{}"));
+        stream.markGap();
+
+        Batch batch = stream.await(cursor, 10);
+
+        assertTrue(batch.lost());
+        assertTrue(batch.events().isEmpty());
+    }
+
+    @Test
+    void await_WhenNothingNew_ShouldReturnEmptyAfterTimeout() throws InterruptedException {
+        Batch batch = stream.await(stream.resumeFrom(null), 10);
+
+        assertFalse(batch.lost());
+        assertTrue(batch.events().isEmpty());
+    }
+
+    private List<Long> ids(List<Event> events) {
+        return events.stream().map(Event::id).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,163 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.ExpiredAccessRow;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestHistoryRepository;
+import com.pg17xbootj21.repository.RequestRepository;
+import com.pg17xbootj21.repository.RequestRepository.ExpiredRequestRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessExpiryServiceTest {
+
+    private static final String PROTOCOL = "SOL-20260101-0001";
+    private static final Instant EXPIRES_AT = Instant.parse("2026-06-30T10:00:00Z");
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    @Mock
+    private RequestRepository requestRepository;
+
+    @Mock
+    private RequestHistoryRepository requestHistoryRepository;
+
+    @Mock
+    private RequestEventRepository requestEventRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccessExpiryService accessExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accessExpiryService = new AccessExpiryService(accessRepository, requestRepository, requestHistoryRepository,
+                requestEventRepository, outboxService, meterRegistry, 2);
+    }
+
+    @Test
+    void expireBatch_WhenAccessesAndRequestAreDue_ShouldRecordHistoryEventsAndOutboxInBatch() {
+        when(accessRepository.expireDueBatch(any(Instant.class), eq(2))).thenReturn(List.of(
+                expiredAccess("module1"), expiredAccess("module2")));
+        when(requestRepository.expireDueBatch(any(Instant.class), eq(2))).thenReturn(List.of(expiredRequest()));
+        Request request = new Request();
+        request.setProtocol(PROTOCOL);
+        when(requestRepository.getReferenceById(PROTOCOL)).thenReturn(request);
+
+        int expired = accessExpiryService.expireBatch();
+
+        assertEquals(2, expired);
+        verify(requestHistoryRepository, times(1)).saveAll(argThat((Iterable<RequestHistory> entries) -> {
+            RequestHistory entry = entries.iterator().next();
+            return entry.getRequest() == request && "EXPIRED".equals(entry.getAction());
+        }));
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> {
+            List<RequestEventType> types = new ArrayList<>();
+            events.forEach(event -> types.add(event.getEventType()));
+            return types.equals(List.of(RequestEventType.ACCESS_EXPIRED, RequestEventType.ACCESS_EXPIRED,
+                    RequestEventType.REQUEST_EXPIRED));
+        }));
+        verify(outboxService, times(1)).enqueueAccessEvent(eq(PROTOCOL), eq("ACCESS_EXPIRED"), eq("user1"),
+                eq(List.of("module1", "module2")), any(), any());
+        assertEquals(2.0, meterRegistry.counter("access.expiry.processed", "type", "access").count());
+        assertEquals(1.0, meterRegistry.counter("access.expiry.processed", "type", "request").count());
+    }
+
+    @Test
+    void expireBatch_WhenNothingIsDue_ShouldReturnZeroWithoutPublishing() {
+        when(accessRepository.expireDueBatch(any(Instant.class), eq(2))).thenReturn(Collections.emptyList());
+        when(requestRepository.expireDueBatch(any(Instant.class), eq(2))).thenReturn(Collections.emptyList());
+
+        int expired = accessExpiryService.expireBatch();
+
+        assertEquals(0, expired);
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void refreshLag_WhenItemsAreOverdue_ShouldExposeAgeOfOldest() {
+        Instant oldest = Instant.now().minusSeconds(600);
+        when(accessRepository.findOldestDueExpiry(eq("ATIVO"), any(Instant.class))).thenReturn(Optional.of(oldest));
+        when(requestRepository.findOldestDueExpiry(eq("ATIVO"), any(Instant.class)))
+                .thenReturn(Optional.of(oldest.plusSeconds(300)));
+
+        long lag = accessExpiryService.refreshLag();
+
+        assertTrue(lag >= 600);
+        assertEquals((double) lag, meterRegistry.get("access.expiry.lag.seconds").gauge().value());
+    }
+
+    @Test
+    void refreshLag_WhenNothingIsOverdue_ShouldReportZero() {
+        when(accessRepository.findOldestDueExpiry(eq("ATIVO"), any(Instant.class))).thenReturn(Optional.empty());
+        when(requestRepository.findOldestDueExpiry(eq("ATIVO"), any(Instant.class))).thenReturn(Optional.empty());
+
+        assertEquals(0, accessExpiryService.refreshLag());
+    }
+
+    private ExpiredAccessRow expiredAccess(String moduleId) {
+        return new ExpiredAccessRow() {
+            @Override
+            public String getUserId() {
+                return "user1";
+            }
+
+            @Override
+            public String getModuleId() {
+                return moduleId;
+            }
+
+            @Override
+            public String getRequestProtocol() {
+                return PROTOCOL;
+            }
+
+            @Override
+            public Instant getExpiresAt() {
+                return EXPIRES_AT;
+            }
+        };
+    }
+
+    private ExpiredRequestRow expiredRequest() {
+        return new ExpiredRequestRow() {
+            @Override
+            public String getProtocol() {
+                return PROTOCOL;
+            }
+
+            @Override
+            public String getUserId() {
+                return "user1";
+            }
+
+            @Override
+            public Instant getExpiresAt() {
+                return EXPIRES_AT;
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.repository.AccessRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessReminderServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+    private static final Instant BUCKET_START = Instant.parse("2026-01-08T00:00:00Z");
+    private static final Instant BUCKET_END = Instant.parse("2026-01-09T00:00:00Z");
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    private AccessReminderService accessReminderService;
+
+    @BeforeEach
+    void setUp() {
+        accessReminderService = new AccessReminderService(accessRepository, outboxService, new int[]{7}, 300000);
+    }
+
+    @Test
+    void sendReminders_WhenBucketClaimed_ShouldPublishOneReminderPerRequest() {
+        when(accessRepository.claimReminderBucket(TODAY.plusDays(7), 7)).thenReturn(1);
+        when(accessRepository.findExpiringBetween("ATIVO", BUCKET_START, BUCKET_END)).thenReturn(Arrays.asList(
+                access("user1", "SOL-20260101-0001", "module1"),
+                access("user1", "SOL-20260101-0001", "module2"),
+                access("user2", "SOL-20260101-0002", "module1")));
+
+        int reminders = accessReminderService.sendReminders(TODAY);
+
+        assertEquals(2, reminders);
+        verify(outboxService, times(1)).enqueueAccessReminder(eq("SOL-20260101-0001"), any(),
+                eq(List.of("module1", "module2")), any(), any(), eq(7));
+        verify(outboxService, times(1)).enqueueAccessReminder(eq("SOL-20260101-0002"), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void sendReminders_WhenBucketAlreadyClaimed_ShouldSkipIt() {
+        when(accessRepository.claimReminderBucket(TODAY.plusDays(7), 7)).thenReturn(0);
+
+        int reminders = accessReminderService.sendReminders(TODAY);
+
+        assertEquals(0, reminders);
+        verify(accessRepository, never()).findExpiringBetween(any(), any(), any());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void getBucket_WhenLoadedRecently_ShouldServeFromMemory() {
+        when(accessRepository.findExpiringBetween("ATIVO", BUCKET_START, BUCKET_END)).thenReturn(Collections.emptyList());
+
+        accessReminderService.getBucket(TODAY.plusDays(7));
+        accessReminderService.getBucket(TODAY.plusDays(7));
+
+        verify(accessRepository, times(1)).findExpiringBetween("ATIVO", BUCKET_START, BUCKET_END);
+    }
+
+    private Access access(String userId, String protocol, String moduleId) {
+        Access access = new Access();
+        access.setUserId(userId);
+        access.setRequestProtocol(protocol);
+        access.setModuleId(moduleId);
+        access.setStatus("ATIVO");
+        access.setExpiresAt(BUCKET_START.plusSeconds(3600));
+        return access;
+    }
+}
@@ -0,0 +1,104 @@
+package com.pg17xbootj21.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pg17xbootj21.model.OutboxEvent;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicInteger responseStatus = new AtomicInteger(202);
+    private final AtomicInteger responseDelayMs = new AtomicInteger();
+
+    private HttpServer stubServer;
+    private HttpOutboxSink sink;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/provisioning/events", exchange -> {
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            if (responseDelayMs.get() > 0) {
+                try {
+                    Thread.sleep(responseDelayMs.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.sendResponseHeaders(responseStatus.get(), -1);
+            exchange.close();
+        });
+        stubServer.start();
+
+        String url = "http://localhost:" + stubServer.getAddress().getPort() + "/provisioning/events";
+        sink = new HttpOutboxSink(url, objectMapper, Duration.ofSeconds(1), Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void deliver_ShouldPostBatchAsJsonArray() throws IOException {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(7L);
+        event.setAggregateId("SOL-20260101-0001");
+        event.setEventType("ACCESS_GRANTED");
+        event.setPayload("{\"userId\":\"user1\",\"modules\":[\"PORTAL\"]}");
+        event.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+
+        sink.deliver(List.of(event));
+
+        JsonNode body = objectMapper.readTree(receivedBody.get());
+        assertTrue(body.isArray());
+        assertEquals(1, body.size());
+        assertEquals(7L, body.get(0).get("id").asLong());
+        assertEquals("ACCESS_GRANTED", body.get(0).get("eventType").asText());
+        assertEquals("SOL-20260101-0001", body.get(0).get("aggregateId").asText());
+        assertEquals("user1", body.get(0).get("payload").get("userId").asText());
+        assertEquals("PORTAL", body.get(0).get("payload").get("modules").get(0).asText());
+    }
+
+    @Test
+    void deliver_WhenServerRejects_ShouldThrowException() {
+        responseStatus.set(503);
+        OutboxEvent event = new OutboxEvent();
+        event.setId(8L);
+        event.setAggregateId("SOL-20260101-0002");
+        event.setEventType("ACCESS_REVOKED");
+        event.setPayload("{}");
+
+        assertThrows(OutboxSinkUnavailableException.class, () -> sink.deliver(List.of(event)));
+    }
+
+    @Test
+    void deliver_WhenServerDoesNotAnswerWithinReadTimeout_ShouldReportSinkUnavailable() {
+        responseDelayMs.set(2000);
+        OutboxEvent event = new OutboxEvent();
+        event.setId(9L);
+        event.setAggregateId("SOL-20260101-0003");
+        event.setEventType("ACCESS_GRANTED");
+        event.setPayload("{}");
+
+        long start = System.nanoTime();
+        assertThrows(OutboxSinkUnavailableException.class, () -> sink.deliver(List.of(event)));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1500);
+    }
+}
@@ -0,0 +1,236 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Module;
+import com.pg17xbootj21.model.ModuleDeactivation;
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.RevokedAccessRow;
+import com.pg17xbootj21.repository.ModuleDeactivationRepository;
+import com.pg17xbootj21.repository.ModuleRepository;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestHistoryRepository;
+import com.pg17xbootj21.repository.RequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ModuleDeactivationServiceTest {
+
+    private static final String PROTOCOL = "SOL-20260101-0001";
+
+    @Mock
+    private ModuleDeactivationRepository moduleDeactivationRepository;
+
+    @Mock
+    private ModuleRepository moduleRepository;
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    @Mock
+    private RequestRepository requestRepository;
+
+    @Mock
+    private RequestHistoryRepository requestHistoryRepository;
+
+    @Mock
+    private RequestEventRepository requestEventRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private UserService userService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ModuleDeactivationService moduleDeactivationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AccessRevocationService accessRevocationService = new AccessRevocationService(requestRepository,
+                requestHistoryRepository, requestEventRepository, outboxService);
+        moduleDeactivationService = new ModuleDeactivationService(moduleDeactivationRepository, moduleRepository,
+                accessRepository, accessRevocationService, userService, meterRegistry, 2);
+    }
+
+    @Test
+    void deactivate_WhenModuleActive_ShouldDisableItAndStartTrackedDeactivation() {
+        Module module = new Module();
+        module.setId("AUDITORIA");
+        module.setActive(true);
+        ModuleDeactivation started = deactivation();
+        when(moduleRepository.lockById("AUDITORIA")).thenReturn(Optional.of(module));
+        when(moduleDeactivationRepository.findFirstByModuleIdAndStatus("AUDITORIA", "EM_ANDAMENTO")).thenReturn(Optional.empty());
+        when(accessRepository.findHolderCount("AUDITORIA")).thenReturn(Optional.of(1200L));
+        when(moduleDeactivationRepository.startIfNotRunning(eq("AUDITORIA"), eq("admin"), eq(1200L), any(Instant.class)))
+                .thenReturn(Optional.of(5L));
+        when(moduleDeactivationRepository.findById(5L)).thenReturn(Optional.of(started));
+
+        ModuleDeactivation deactivation = moduleDeactivationService.deactivate("admin", "AUDITORIA");
+
+        assertFalse(module.isActive());
+        verify(moduleRepository, times(1)).save(module);
+        assertSame(started, deactivation);
+    }
+
+    @Test
+    void deactivate_WhenConcurrentDeactivationWinsInsert_ShouldReturnRunningDeactivation() {
+        Module module = new Module();
+        module.setId("AUDITORIA");
+        module.setActive(true);
+        ModuleDeactivation running = deactivation();
+        when(moduleRepository.lockById("AUDITORIA")).thenReturn(Optional.of(module));
+        when(moduleDeactivationRepository.findFirstByModuleIdAndStatus("AUDITORIA", "EM_ANDAMENTO"))
+                .thenReturn(Optional.empty(), Optional.of(running));
+        when(accessRepository.findHolderCount("AUDITORIA")).thenReturn(Optional.of(1200L));
+        when(moduleDeactivationRepository.startIfNotRunning(eq("AUDITORIA"), eq("admin"), eq(1200L), any(Instant.class)))
+                .thenReturn(Optional.empty());
+
+        assertSame(running, moduleDeactivationService.deactivate("admin", "AUDITORIA"));
+        verify(moduleDeactivationRepository, never()).findById(any());
+    }
+
+    @Test
+    void deactivate_WhenAlreadyRunning_ShouldReturnExistingDeactivation() {
+        ModuleDeactivation running = deactivation();
+        when(moduleRepository.lockById("AUDITORIA")).thenReturn(Optional.of(new Module()));
+        when(moduleDeactivationRepository.findFirstByModuleIdAndStatus("AUDITORIA", "EM_ANDAMENTO")).thenReturn(Optional.of(running));
+
+        assertSame(running, moduleDeactivationService.deactivate("admin", "AUDITORIA"));
+        verify(moduleRepository, never()).save(any());
+        verify(moduleDeactivationRepository, never()).save(any());
+    }
+
+    @Test
+    void deactivate_WhenCallerNotTi_ShouldThrowException() {
+        when(userService.requireTiAdministrator("user1", "deactivate modules"))
+                .thenThrow(new RuntimeException("Only TI administrators can deactivate modules"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> moduleDeactivationService.deactivate("user1", "AUDITORIA"));
+
+        assertEquals("Only TI administrators can deactivate modules", exception.getMessage());
+        verifyNoInteractions(moduleRepository, moduleDeactivationRepository);
+    }
+
+    @Test
+    void getProgress_WhenRunning_ShouldDeriveRevokedCountFromRemainingHolders() {
+        ModuleDeactivation running = deactivation();
+        running.setTotalCount(1200L);
+        when(moduleDeactivationRepository.findFirstByModuleIdOrderByIdDesc("AUDITORIA")).thenReturn(Optional.of(running));
+        when(accessRepository.findHolderCount("AUDITORIA")).thenReturn(Optional.of(700L));
+
+        ModuleDeactivation progress = moduleDeactivationService.getProgress("admin", "AUDITORIA");
+
+        assertEquals(500L, progress.getRevokedCount());
+    }
+
+    @Test
+    void getProgress_WhenCompleted_ShouldKeepStoredRevokedCount() {
+        ModuleDeactivation completed = deactivation();
+        completed.setStatus("CONCLUIDA");
+        completed.setTotalCount(1200L);
+        completed.setRevokedCount(1200L);
+        when(moduleDeactivationRepository.findFirstByModuleIdOrderByIdDesc("AUDITORIA")).thenReturn(Optional.of(completed));
+
+        assertEquals(1200L, moduleDeactivationService.getProgress("admin", "AUDITORIA").getRevokedCount());
+        verifyNoInteractions(accessRepository);
+    }
+
+    @Test
+    void revokeBatch_WhenChunkIsFull_ShouldRecordHistoryEventsAndOutboxAndKeepRunning() {
+        when(moduleDeactivationRepository.findFirstByStatusOrderByIdAsc("EM_ANDAMENTO")).thenReturn(Optional.of(deactivation()));
+        when(accessRepository.revokeModuleBatch(eq("AUDITORIA"), any(Instant.class), eq(2)))
+                .thenReturn(List.of(revokedAccess("user1"), revokedAccess("user1")));
+        Request request = new Request();
+        request.setProtocol(PROTOCOL);
+        when(requestRepository.getReferenceById(PROTOCOL)).thenReturn(request);
+
+        int revoked = moduleDeactivationService.revokeBatch();
+
+        assertEquals(2, revoked);
+        verify(requestHistoryRepository, times(1)).saveAll(argThat((Iterable<RequestHistory> entries) -> {
+            RequestHistory entry = entries.iterator().next();
+            return entry.getRequest() == request && "MODULE_DEACTIVATED: AUDITORIA".equals(entry.getAction());
+        }));
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> {
+            List<RequestEventType> types = new ArrayList<>();
+            events.forEach(event -> types.add(event.getEventType()));
+            return types.equals(List.of(RequestEventType.ACCESS_REVOKED, RequestEventType.ACCESS_REVOKED,
+                    RequestEventType.MODULE_DEACTIVATED));
+        }));
+        verify(outboxService, times(1)).enqueueAccessEvent(eq(PROTOCOL), eq("ACCESS_REVOKED"), eq("user1"), any(), any(), any());
+        verify(moduleDeactivationRepository, never()).save(any());
+        verify(moduleDeactivationRepository, never()).completeIfDrained(any(), any());
+        assertEquals(2.0, meterRegistry.counter("module.deactivation.revoked").count());
+    }
+
+    @Test
+    void revokeBatch_WhenNothingLeft_ShouldTryToComplete() {
+        when(moduleDeactivationRepository.findFirstByStatusOrderByIdAsc("EM_ANDAMENTO")).thenReturn(Optional.of(deactivation()));
+        when(accessRepository.revokeModuleBatch(eq("AUDITORIA"), any(Instant.class), eq(2))).thenReturn(Collections.emptyList());
+
+        assertEquals(0, moduleDeactivationService.revokeBatch());
+
+        verify(moduleDeactivationRepository, times(1)).completeIfDrained(eq(7L), any(Instant.class));
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void revokeBatch_WhenNoDeactivationRunning_ShouldDoNothing() {
+        when(moduleDeactivationRepository.findFirstByStatusOrderByIdAsc("EM_ANDAMENTO")).thenReturn(Optional.empty());
+
+        assertEquals(0, moduleDeactivationService.revokeBatch());
+        verifyNoInteractions(accessRepository, outboxService);
+    }
+
+    private ModuleDeactivation deactivation() {
+        ModuleDeactivation deactivation = new ModuleDeactivation();
+        deactivation.setId(7L);
+        deactivation.setModuleId("AUDITORIA");
+        deactivation.setStatus("EM_ANDAMENTO");
+        return deactivation;
+    }
+
+    private RevokedAccessRow revokedAccess(String userId) {
+        return new RevokedAccessRow() {
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getModuleId() {
+                return "AUDITORIA";
+            }
+
+            @Override
+            public String getRequestProtocol() {
+                return PROTOCOL;
+            }
+
+            @Override
+            public Instant getExpiresAt() {
+                return Instant.parse("2026-06-30T10:00:00Z");
+            }
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Module;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.ModuleHolderRow;
+import com.pg17xbootj21.service.ModuleHolderService.HolderPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ModuleHolderServiceTest {
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    @Mock
+    private ModuleService moduleService;
+
+    @Mock
+    private UserService userService;
+
+    private ModuleHolderService moduleHolderService;
+
+    @BeforeEach
+    void setUp() {
+        moduleHolderService = new ModuleHolderService(accessRepository, moduleService, userService);
+    }
+
+    @Test
+    void findHolders_WhenMoreThanPage_ShouldTrimAndReturnCursorAfterLastHolder() {
+        when(moduleService.findById("AUDITORIA")).thenReturn(Optional.of(new Module()));
+        when(accessRepository.findHoldersAfter("AUDITORIA", "", 0, 3))
+                .thenReturn(Arrays.asList(row(1L, "user1"), row(5L, "user2"), row(3L, "user3")));
+        when(accessRepository.findHolderCount("AUDITORIA")).thenReturn(Optional.of(3L));
+
+        HolderPage page = moduleHolderService.findHolders("admin", "AUDITORIA", null, 2);
+
+        assertEquals(2, page.holders().size());
+        assertEquals(3L, page.holderCount());
+        ModuleHolderCursor cursor = ModuleHolderCursor.decode(page.nextCursor());
+        assertEquals("user2", cursor.getUserId());
+        assertEquals(5L, cursor.getAccessId());
+    }
+
+    @Test
+    void findHolders_WhenCursorGiven_ShouldResumeAfterItAndEndPaging() {
+        when(moduleService.findById("AUDITORIA")).thenReturn(Optional.of(new Module()));
+        String cursor = new ModuleHolderCursor("user2", 5L).encode();
+        when(accessRepository.findHoldersAfter("AUDITORIA", "user2", 5L, 3)).thenReturn(Arrays.asList(row(3L, "user3")));
+        when(accessRepository.findHolderCount("AUDITORIA")).thenReturn(Optional.of(3L));
+
+        HolderPage page = moduleHolderService.findHolders("admin", "AUDITORIA", cursor, 2);
+
+        assertEquals(1, page.holders().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void findHolders_WhenModuleMissing_ShouldThrowException() {
+        when(moduleService.findById("INEXISTENTE")).thenReturn(Optional.empty());
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> moduleHolderService.findHolders("admin", "INEXISTENTE", null, 50));
+
+        assertEquals("Module not found", exception.getMessage());
+        verifyNoInteractions(accessRepository);
+    }
+
+    @Test
+    void findHolders_WhenCallerNotTi_ShouldThrowException() {
+        when(userService.requireTiAdministrator("user1", "list module holders"))
+                .thenThrow(new RuntimeException("Only TI administrators can list module holders"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> moduleHolderService.findHolders("user1", "AUDITORIA", null, 50));
+
+        assertEquals("Only TI administrators can list module holders", exception.getMessage());
+        verifyNoInteractions(accessRepository);
+    }
+
+    @Test
+    void findHolders_WhenCursorMalformed_ShouldThrowException() {
+        when(moduleService.findById("AUDITORIA")).thenReturn(Optional.of(new Module()));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> moduleHolderService.findHolders("admin", "AUDITORIA", "%%%", 50));
+
+        assertEquals("Invalid cursor", exception.getMessage());
+        verify(accessRepository, never()).findHoldersAfter(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void reconcileHolderCounts_ShouldReturnCorrectedModules() {
+        when(accessRepository.reconcileHolderCounts()).thenReturn(2);
+
+        assertEquals(2, moduleHolderService.reconcileHolderCounts());
+    }
+
+    private ModuleHolderRow row(Long id, String userId) {
+        return new ModuleHolderRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getRequestProtocol() {
+                return "SOL-20260101-0001";
+            }
+
+            @Override
+            public Instant getGrantedAt() {
+                return Instant.parse("2026-01-01T10:00:00Z");
+            }
+
+            @Override
+            public Instant getExpiresAt() {
+                return Instant.parse("2026-06-30T10:00:00Z");
+            }
+        };
+    }
+}
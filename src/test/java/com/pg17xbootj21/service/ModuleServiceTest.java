@@ -11,6 +11,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -96,6 +97,21 @@ class ModuleServiceTest {
         verify(moduleRepository, times(1)).findById(eq("nonexistent"));
     }
 
+    @Test
+    void getCatalog_ShouldLoadAllRequestedModulesInOneCall() {
+        List<String> moduleIds = Arrays.asList("module1", "module2", "nonexistent");
+        when(moduleRepository.findAllById(eq(moduleIds))).thenReturn(modules);
+
+        Map<String, Module> catalog = moduleService.getCatalog(moduleIds);
+
+        assertEquals(2, catalog.size());
+        assertSame(module1, catalog.get("module1"));
+        assertSame(module2, catalog.get("module2"));
+        assertNull(catalog.get("nonexistent"));
+        verify(moduleRepository, times(1)).findAllById(eq(moduleIds));
+        verify(moduleRepository, never()).findById(any());
+    }
+
     @Test
     void isModuleActive_WhenModuleIsActive_ShouldReturnTrue() {
         when(moduleRepository.findById(eq("module1"))).thenReturn(Optional.of(module1));
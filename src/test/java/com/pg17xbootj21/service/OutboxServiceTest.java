@@ -0,0 +1,176 @@
+package com.pg17xbootj21.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pg17xbootj21.model.OutboxEvent;
+import com.pg17xbootj21.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxService outboxService;
+
+    private OutboxEvent event1;
+    private OutboxEvent event2;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxService = new OutboxService(outboxEventRepository, outboxSink, new ObjectMapper(), meterRegistry, 2, 5, 1000, 60000, 120000);
+
+        event1 = new OutboxEvent();
+        event1.setId(1L);
+        event1.setAggregateId("SOL-20260101-0001");
+        event1.setEventType("ACCESS_GRANTED");
+        event1.setPayload("{\"protocol\":\"SOL-20260101-0001\"}");
+        event1.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+
+        event2 = new OutboxEvent();
+        event2.setId(2L);
+        event2.setAggregateId("SOL-20260101-0002");
+        event2.setEventType("ACCESS_REVOKED");
+        event2.setPayload("{\"protocol\":\"SOL-20260101-0002\"}");
+        event2.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void enqueue_ShouldPersistSerializedPayload() {
+        outboxService.enqueue("SOL-20260101-0001", "ACCESS_GRANTED", Map.of("userId", "user1"));
+
+        verify(outboxEventRepository, times(1)).save(argThat(event ->
+                "SOL-20260101-0001".equals(event.getAggregateId())
+                        && "ACCESS_GRANTED".equals(event.getEventType())
+                        && "{\"userId\":\"user1\"}".equals(event.getPayload())
+                        && event.getCreatedAt() != null
+                        && event.getCreatedAt().equals(event.getNextAttemptAt())
+                        && event.getAttempts() == 0
+                        && event.getDispatchedAt() == null));
+    }
+
+    @Test
+    void enqueueAccessEvent_ShouldSerializeAccessPayload() {
+        outboxService.enqueueAccessEvent("SOL-20260101-0001", "ACCESS_REVOKED", "user1", List.of("module1", "module2"),
+                Instant.parse("2026-01-01T00:00:00Z"), null);
+
+        verify(outboxEventRepository, times(1)).save(argThat(event ->
+                "ACCESS_REVOKED".equals(event.getEventType())
+                        && ("{\"protocol\":\"SOL-20260101-0001\",\"userId\":\"user1\",\"modules\":[\"module1\",\"module2\"],"
+                        + "\"occurredAt\":\"2026-01-01T00:00:00Z\",\"expiresAt\":null}").equals(event.getPayload())));
+    }
+
+    @Test
+    void enqueueAccessReminder_ShouldIncludeDaysBefore() {
+        outboxService.enqueueAccessReminder("SOL-20260101-0001", "user1", List.of("module1"),
+                Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-01-08T00:00:00Z"), 7);
+
+        verify(outboxEventRepository, times(1)).save(argThat(event ->
+                "ACCESS_EXPIRING".equals(event.getEventType())
+                        && event.getPayload().endsWith("\"expiresAt\":\"2026-01-08T00:00:00Z\",\"daysBefore\":7}")));
+    }
+
+    @Test
+    void claimBatch_ShouldLeaseDueEventsInIdOrder() {
+        when(outboxEventRepository.claimDueBatch(eq(2), eq(5), any(Instant.class), any(Instant.class)))
+                .thenReturn(Arrays.asList(event2, event1));
+
+        Instant before = Instant.now();
+        List<OutboxEvent> batch = outboxService.claimBatch();
+
+        assertEquals(List.of(event1, event2), batch);
+        verify(outboxEventRepository, times(1)).claimDueBatch(eq(2), eq(5), any(Instant.class),
+                argThat(leaseUntil -> !leaseUntil.isBefore(before.plusSeconds(120))));
+    }
+
+    @Test
+    void deliver_WhenSinkAccepts_ShouldReportAllDispatched() {
+        List<OutboxEvent> batch = Arrays.asList(event1, event2);
+
+        OutboxService.Delivery delivery = outboxService.deliver(batch);
+
+        assertEquals(List.of(1L, 2L), delivery.dispatched());
+        assertTrue(delivery.failed().isEmpty());
+        assertEquals(2, delivery.processed());
+        verify(outboxSink, times(1)).deliver(batch);
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    void deliver_WhenSinkUnavailable_ShouldFailWholeBatchAndStopDraining() {
+        List<OutboxEvent> batch = Arrays.asList(event1, event2);
+        doThrow(new OutboxSinkUnavailableException("Connection refused", null)).when(outboxSink).deliver(batch);
+
+        OutboxService.Delivery delivery = outboxService.deliver(batch);
+
+        assertTrue(delivery.dispatched().isEmpty());
+        assertEquals(Map.of("Connection refused", List.of(1L, 2L)), delivery.failed());
+        assertEquals(0, delivery.processed());
+        verify(outboxSink, times(1)).deliver(any());
+    }
+
+    @Test
+    void deliver_WhenSinkRejectsBatch_ShouldIsolateFailingEvent() {
+        List<OutboxEvent> batch = Arrays.asList(event1, event2);
+        doThrow(new RuntimeException("Invalid payload")).when(outboxSink).deliver(argThat(events -> events.contains(event2)));
+
+        OutboxService.Delivery delivery = outboxService.deliver(batch);
+
+        assertEquals(List.of(1L), delivery.dispatched());
+        assertEquals(Map.of("Invalid payload", List.of(2L)), delivery.failed());
+        assertEquals(2, delivery.processed());
+        verify(outboxSink, times(1)).deliver(List.of(event1));
+    }
+
+    @Test
+    void recordDelivery_ShouldMarkDispatchedAndBackOffFailures() {
+        OutboxService.Delivery delivery = new OutboxService.Delivery(List.of(1L), Map.of("Invalid payload", List.of(2L)), false);
+
+        int processed = outboxService.recordDelivery(delivery);
+
+        assertEquals(2, processed);
+        verify(outboxEventRepository, times(1)).markDispatched(eq(List.of(1L)), any(Instant.class));
+        verify(outboxEventRepository, times(1)).markFailed(eq(List.of(2L)), eq("Invalid payload"), any(Instant.class),
+                eq(1000L), eq(60000L));
+    }
+
+    @Test
+    void recordDelivery_WhenNothingDispatched_ShouldOnlyRecordFailures() {
+        OutboxService.Delivery delivery = new OutboxService.Delivery(List.of(), Map.of("Connection refused", List.of(1L, 2L)), true);
+
+        assertEquals(0, outboxService.recordDelivery(delivery));
+        verify(outboxEventRepository, never()).markDispatched(any(), any());
+        verify(outboxEventRepository, times(1)).markFailed(eq(List.of(1L, 2L)), eq("Connection refused"), any(Instant.class),
+                eq(1000L), eq(60000L));
+    }
+
+    @Test
+    void refreshExhausted_ShouldPublishGauge() {
+        when(outboxEventRepository.countExhausted(5)).thenReturn(3L);
+
+        assertEquals(3L, outboxService.refreshExhausted());
+        assertEquals(3.0, meterRegistry.get("outbox.events.exhausted").gauge().value());
+    }
+}
@@ -0,0 +1,274 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.RecertificationCampaign;
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.AccessRepository.RecertifiedAccessRow;
+import com.pg17xbootj21.repository.RecertificationCampaignRepository;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestHistoryRepository;
+import com.pg17xbootj21.repository.RequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecertificationServiceTest {
+
+    private static final String PROTOCOL = "SOL-20260101-0001";
+
+    @Mock
+    private RecertificationCampaignRepository recertificationCampaignRepository;
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    @Mock
+    private RequestRepository requestRepository;
+
+    @Mock
+    private RequestHistoryRepository requestHistoryRepository;
+
+    @Mock
+    private RequestEventRepository requestEventRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private UserService userService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecertificationService recertificationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AccessRevocationService accessRevocationService = new AccessRevocationService(requestRepository,
+                requestHistoryRepository, requestEventRepository, outboxService);
+        recertificationService = new RecertificationService(recertificationCampaignRepository, accessRepository,
+                accessRevocationService, userService, meterRegistry, 2);
+    }
+
+    @Test
+    void createCampaign_WhenValid_ShouldSnapshotActiveAccesses() {
+        when(recertificationCampaignRepository.saveAndFlush(any(RecertificationCampaign.class))).thenAnswer(invocation -> {
+            RecertificationCampaign saved = invocation.getArgument(0);
+            saved.setId(3L);
+            return saved;
+        });
+        when(recertificationCampaignRepository.snapshotActiveAccesses(3L, "DEPARTMENT")).thenReturn(1500);
+
+        RecertificationCampaign campaign = recertificationService.createCampaign("admin", " Q1 2026 ", "department");
+
+        assertEquals("Q1 2026", campaign.getName());
+        assertEquals("DEPARTMENT", campaign.getPartitionBy());
+        assertEquals("ABERTA", campaign.getStatus());
+        assertEquals(1500L, campaign.getItemCount());
+    }
+
+    @Test
+    void createCampaign_WhenPartitionInvalid_ShouldThrowException() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> recertificationService.createCampaign("admin", "Q1 2026", "USER"));
+
+        assertEquals("Partition must be one of: DEPARTMENT, MODULE", exception.getMessage());
+        verifyNoInteractions(recertificationCampaignRepository);
+    }
+
+    @Test
+    void createCampaign_WhenCallerNotTi_ShouldThrowException() {
+        when(userService.requireTiAdministrator("user1", "manage recertification campaigns"))
+                .thenThrow(new RuntimeException("Only TI administrators can manage recertification campaigns"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> recertificationService.createCampaign("user1", "Q1 2026", "MODULE"));
+
+        assertEquals("Only TI administrators can manage recertification campaigns", exception.getMessage());
+        verifyNoInteractions(recertificationCampaignRepository);
+    }
+
+    @Test
+    void decide_WhenPartitionGiven_ShouldUpdateWholePartition() {
+        when(recertificationCampaignRepository.findById(3L)).thenReturn(Optional.of(campaign("ABERTA")));
+        when(recertificationCampaignRepository.decidePartition(eq(3L), eq("Financeiro"), eq("REVOGAR"), eq("admin"), any(Instant.class)))
+                .thenReturn(420);
+
+        int updated = recertificationService.decide("admin", 3L, "revogar", "Financeiro", null);
+
+        assertEquals(420, updated);
+        verify(recertificationCampaignRepository, never()).decideItems(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void decide_WhenBothPartitionAndItemsGiven_ShouldThrowException() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> recertificationService.decide("admin", 3L, "MANTER", "Financeiro", List.of(1L)));
+
+        assertEquals("Exactly one of partition or accessIds is required", exception.getMessage());
+        verifyNoInteractions(recertificationCampaignRepository);
+    }
+
+    @Test
+    void decide_WhenCampaignClosing_ShouldThrowException() {
+        when(recertificationCampaignRepository.findById(3L)).thenReturn(Optional.of(campaign("ENCERRANDO")));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> recertificationService.decide("admin", 3L, "MANTER", null, List.of(1L, 2L)));
+
+        assertEquals("Campaign is not open", exception.getMessage());
+        verify(recertificationCampaignRepository, never()).decideItems(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void findItems_WhenMoreRowsThanPage_ShouldReturnNextCursor() {
+        when(recertificationCampaignRepository.findById(3L)).thenReturn(Optional.of(campaign("ABERTA")));
+        List<RecertificationCampaignRepository.RecertificationItemRow> rows = List.of(item(10L), item(11L), item(12L));
+        when(recertificationCampaignRepository.findItemsAfter(3L, 9L, 3)).thenReturn(rows);
+
+        RecertificationService.ItemPage page = recertificationService.findItems("admin", 3L, null, "9", 2);
+
+        assertEquals(2, page.items().size());
+        assertEquals("11", page.nextCursor());
+    }
+
+    @Test
+    void closeCampaign_WhenRevokeUndecided_ShouldMarkClosingAndRevokePendingItems() {
+        RecertificationCampaign campaign = campaign("ABERTA");
+        when(recertificationCampaignRepository.findById(3L)).thenReturn(Optional.of(campaign));
+
+        RecertificationCampaign closing = recertificationService.closeCampaign("admin", 3L, true);
+
+        assertEquals("ENCERRANDO", closing.getStatus());
+        verify(recertificationCampaignRepository, times(1)).saveAndFlush(campaign);
+        verify(recertificationCampaignRepository, times(1)).revokeUndecided(eq(3L), eq("admin"), any(Instant.class));
+    }
+
+    @Test
+    void getCampaign_WhenClosing_ShouldDeriveRevokedCountFromItemOutcomes() {
+        when(recertificationCampaignRepository.findById(3L)).thenReturn(Optional.of(campaign("ENCERRANDO")));
+        when(recertificationCampaignRepository.countRevoked(3L)).thenReturn(42L);
+        when(recertificationCampaignRepository.summarizePartitions(3L)).thenReturn(Collections.emptyList());
+
+        RecertificationService.CampaignView view = recertificationService.getCampaign("admin", 3L);
+
+        assertEquals(42L, view.campaign().getRevokedCount());
+    }
+
+    @Test
+    void applyBatch_WhenChunkIsFull_ShouldRevokeAndRecordThroughSharedRevocation() {
+        when(recertificationCampaignRepository.findFirstByStatusOrderByIdAsc("ENCERRANDO")).thenReturn(Optional.of(campaign("ENCERRANDO")));
+        when(recertificationCampaignRepository.claimRevocations(eq(3L), any(Instant.class), eq(2))).thenReturn(List.of(10L, 11L));
+        when(accessRepository.revokeRecertificationItems(eq(3L), eq(List.of(10L, 11L)), any(Instant.class)))
+                .thenReturn(List.of(revokedAccess(10L, "module1"), revokedAccess(11L, "module2")));
+        Request request = new Request();
+        request.setProtocol(PROTOCOL);
+        when(requestRepository.getReferenceById(PROTOCOL)).thenReturn(request);
+
+        int applied = recertificationService.applyBatch();
+
+        assertEquals(2, applied);
+        verify(requestHistoryRepository, times(1)).saveAll(argThat((Iterable<RequestHistory> entries) ->
+                "RECERTIFICATION_REVOKED: Q1 2026".equals(entries.iterator().next().getAction())));
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> {
+            List<RequestEventType> types = new ArrayList<>();
+            events.forEach(event -> types.add(event.getEventType()));
+            return types.equals(List.of(RequestEventType.ACCESS_REVOKED, RequestEventType.ACCESS_REVOKED,
+                    RequestEventType.RECERTIFICATION_REVOKED));
+        }));
+        verify(outboxService, times(1)).enqueueAccessEvent(eq(PROTOCOL), eq("ACCESS_REVOKED"), any(), any(), any(), any());
+        verify(recertificationCampaignRepository, times(1)).markOutcome(3L, List.of(10L, 11L), "REVOGADO");
+        verify(recertificationCampaignRepository, never()).markOutcome(any(), any(), eq("SEM_ACESSO"));
+        verify(recertificationCampaignRepository, never()).completeIfApplied(any(), any());
+        assertEquals(2.0, meterRegistry.counter("recertification.revoked").count());
+    }
+
+    @Test
+    void applyBatch_WhenItemAccessNoLongerActive_ShouldReportItAsMissing() {
+        when(recertificationCampaignRepository.findFirstByStatusOrderByIdAsc("ENCERRANDO")).thenReturn(Optional.of(campaign("ENCERRANDO")));
+        when(recertificationCampaignRepository.claimRevocations(eq(3L), any(Instant.class), eq(2))).thenReturn(List.of(10L, 11L));
+        when(accessRepository.revokeRecertificationItems(eq(3L), eq(List.of(10L, 11L)), any(Instant.class)))
+                .thenReturn(List.of(revokedAccess(11L, "module2")));
+        Request request = new Request();
+        request.setProtocol(PROTOCOL);
+        when(requestRepository.getReferenceById(PROTOCOL)).thenReturn(request);
+
+        recertificationService.applyBatch();
+
+        verify(recertificationCampaignRepository, times(1)).markOutcome(3L, List.of(11L), "REVOGADO");
+        verify(recertificationCampaignRepository, times(1)).markOutcome(3L, List.of(10L), "SEM_ACESSO");
+        assertEquals(1.0, meterRegistry.counter("recertification.revoked").count());
+        assertEquals(1.0, meterRegistry.counter("recertification.missing").count());
+    }
+
+    @Test
+    void applyBatch_WhenNothingLeft_ShouldTryToComplete() {
+        when(recertificationCampaignRepository.findFirstByStatusOrderByIdAsc("ENCERRANDO")).thenReturn(Optional.of(campaign("ENCERRANDO")));
+        when(recertificationCampaignRepository.claimRevocations(eq(3L), any(Instant.class), eq(2))).thenReturn(Collections.emptyList());
+
+        assertEquals(0, recertificationService.applyBatch());
+
+        verify(recertificationCampaignRepository, times(1)).completeIfApplied(eq(3L), any(Instant.class));
+        verifyNoInteractions(accessRepository, outboxService);
+    }
+
+    private RecertificationCampaign campaign(String status) {
+        RecertificationCampaign campaign = new RecertificationCampaign();
+        campaign.setId(3L);
+        campaign.setName("Q1 2026");
+        campaign.setPartitionBy("DEPARTMENT");
+        campaign.setStatus(status);
+        return campaign;
+    }
+
+    private RecertificationCampaignRepository.RecertificationItemRow item(Long accessId) {
+        RecertificationCampaignRepository.RecertificationItemRow row = mock(RecertificationCampaignRepository.RecertificationItemRow.class);
+        lenient().when(row.getAccessId()).thenReturn(accessId);
+        return row;
+    }
+
+    private RecertifiedAccessRow revokedAccess(Long itemId, String moduleId) {
+        return new RecertifiedAccessRow() {
+            @Override
+            public Long getItemId() {
+                return itemId;
+            }
+
+            @Override
+            public String getUserId() {
+                return "user1";
+            }
+
+            @Override
+            public String getModuleId() {
+                return moduleId;
+            }
+
+            @Override
+            public String getRequestProtocol() {
+                return PROTOCOL;
+            }
+
+            @Override
+            public Instant getExpiresAt() {
+                return Instant.parse("2026-06-30T10:00:00Z");
+            }
+        };
+    }
+}
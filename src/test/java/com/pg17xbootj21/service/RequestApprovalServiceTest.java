@@ -0,0 +1,298 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.model.Module;
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestHistoryRepository;
+import com.pg17xbootj21.repository.RequestRepository;
+import com.pg17xbootj21.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestApprovalServiceTest {
+
+    private static final Instant EXPIRES_AT = Instant.parse("2026-07-01T10:00:00Z");
+
+    @Mock
+    private RequestRepository requestRepository;
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    @Mock
+    private RequestHistoryRepository requestHistoryRepository;
+
+    @Mock
+    private RequestEventRepository requestEventRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ModuleService moduleService;
+
+    private RequestApprovalService requestApprovalService;
+
+    @BeforeEach
+    void setUp() {
+        requestApprovalService = new RequestApprovalService(requestRepository, accessRepository, requestHistoryRepository,
+                requestEventRepository, outboxService, userService, userRepository, moduleService, new BusinessRuleService(), 900000);
+    }
+
+    @Test
+    void claim_WhenPendingRequestsAvailable_ShouldReturnUrgentFirstWithLease() {
+        Request normal = request("SOL-20260101-0001", "PENDENTE", false, "2026-01-01T09:00:00Z");
+        Request urgent = request("SOL-20260101-0002", "PENDENTE", true, "2026-01-01T10:00:00Z");
+        when(requestRepository.claimPendingBatch(eq("admin"), any(Instant.class), any(Instant.class), eq(10)))
+                .thenReturn(List.of(normal.getProtocol(), urgent.getProtocol()));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(List.of(normal.getProtocol(), urgent.getProtocol()), "PENDENTE"))
+                .thenReturn(List.of(normal, urgent));
+
+        RequestApprovalService.ClaimedBatch batch = requestApprovalService.claim("admin", 10);
+
+        assertEquals(List.of(urgent, normal), batch.requests());
+        assertTrue(batch.claimedUntil().isAfter(Instant.now().plusSeconds(800)));
+    }
+
+    @Test
+    void claim_WhenQueueEmpty_ShouldNotLoadRequests() {
+        when(requestRepository.claimPendingBatch(eq("admin"), any(Instant.class), any(Instant.class), eq(10)))
+                .thenReturn(Collections.emptyList());
+
+        assertTrue(requestApprovalService.claim("admin", 10).requests().isEmpty());
+        verify(requestRepository, never()).findWithModulesByProtocolInAndStatus(any(), any());
+    }
+
+    @Test
+    void claim_WhenCallerNotTi_ShouldThrowException() {
+        when(userService.requireTiAdministrator("user1", "approve requests"))
+                .thenThrow(new RuntimeException("Only TI administrators can approve requests"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> requestApprovalService.claim("user1", 10));
+
+        assertEquals("Only TI administrators can approve requests", exception.getMessage());
+        verifyNoInteractions(requestRepository);
+    }
+
+    @Test
+    void approve_WhenClaimedByApprover_ShouldGrantAccessesAndReportSkipped() {
+        Request approved = request("SOL-20260101-0001", "ATIVO", false, "2026-01-01T09:00:00Z");
+        Instant expiresAt = Instant.now().plus(Duration.ofDays(180));
+        when(requestRepository.approveClaimed(eq(List.of("SOL-20260101-0001", "SOL-20260101-0009")), eq("admin"),
+                any(Instant.class), argThat(value -> !value.isBefore(expiresAt)))).thenReturn(List.of("SOL-20260101-0001"));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(List.of("SOL-20260101-0001"), "ATIVO"))
+                .thenReturn(List.of(approved));
+
+        RequestApprovalService.Decision decision = requestApprovalService.approve("admin",
+                List.of("SOL-20260101-0001", "SOL-20260101-0009"));
+
+        assertEquals(List.of("SOL-20260101-0001"), decision.decided());
+        assertEquals(List.of("SOL-20260101-0009"), decision.skipped());
+        verify(accessRepository, times(1)).saveAll(argThat((Iterable<Access> accesses) -> {
+            List<String> modules = new ArrayList<>();
+            accesses.forEach(access -> modules.add(access.getModuleId()));
+            return modules.equals(List.of("module1", "module2"))
+                    && !accesses.iterator().next().getExpiresAt().isBefore(expiresAt);
+        }));
+        verify(requestHistoryRepository, times(1)).saveAll(argThat((Iterable<RequestHistory> entries) ->
+                "APPROVED".equals(entries.iterator().next().getAction())));
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> {
+            List<RequestEventType> types = new ArrayList<>();
+            events.forEach(event -> types.add(event.getEventType()));
+            return types.equals(List.of(RequestEventType.REQUEST_APPROVED, RequestEventType.ACCESS_GRANTED,
+                    RequestEventType.ACCESS_GRANTED));
+        }));
+        verify(outboxService, times(1)).enqueueAccessEvent(eq("SOL-20260101-0001"), eq("ACCESS_GRANTED"), any(),
+                eq(List.of("module1", "module2")), any(), any());
+    }
+
+    @Test
+    void approve_WhenNothingClaimed_ShouldSkipAllWithoutWrites() {
+        when(requestRepository.approveClaimed(eq(List.of("SOL-20260101-0001")), eq("admin"), any(Instant.class), any(Instant.class)))
+                .thenReturn(Collections.emptyList());
+
+        RequestApprovalService.Decision decision = requestApprovalService.approve("admin", List.of("SOL-20260101-0001"));
+
+        assertTrue(decision.decided().isEmpty());
+        assertEquals(List.of("SOL-20260101-0001"), decision.skipped());
+        verifyNoInteractions(accessRepository, requestEventRepository, outboxService);
+    }
+
+    @Test
+    void approve_WhenModuleDeactivatedAfterClaim_ShouldDenyInsteadOfGranting() {
+        Request denied = request("SOL-20260101-0001", "NEGADO", false, "2026-01-01T09:00:00Z");
+        when(requestRepository.lockRequestedModuleStates(List.of("SOL-20260101-0001")))
+                .thenReturn(List.of(moduleState("SOL-20260101-0001", true), moduleState("SOL-20260101-0001", false)));
+        when(requestRepository.decideClaimed(eq(Set.of("SOL-20260101-0001")), eq("admin"), any(Instant.class),
+                eq("NEGADO"), eq("Module is not active"))).thenReturn(List.of("SOL-20260101-0001"));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(List.of("SOL-20260101-0001"), "NEGADO"))
+                .thenReturn(List.of(denied));
+
+        RequestApprovalService.Decision decision = requestApprovalService.approve("admin", List.of("SOL-20260101-0001"));
+
+        assertTrue(decision.decided().isEmpty());
+        assertEquals(List.of("SOL-20260101-0001"), decision.skipped());
+        verify(requestRepository, never()).approveClaimed(any(), any(), any(), any());
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) ->
+                events.iterator().next().getEventType() == RequestEventType.REQUEST_DENIED));
+        verifyNoInteractions(accessRepository, outboxService);
+    }
+
+    @Test
+    void approve_WhenClaimedRequestsTogetherExceedModuleLimit_ShouldDenyTheLaterOne() {
+        Request denied = request("SOL-20260101-0002", "NEGADO", false, "2026-01-01T10:00:00Z");
+        List<String> protocols = List.of("SOL-20260101-0001", "SOL-20260101-0002");
+        when(requestRepository.findClaimedModuleRows(eq(protocols), eq("admin"), any(Instant.class))).thenReturn(List.of(
+                claimedModule("SOL-20260101-0001", "module3"), claimedModule("SOL-20260101-0001", "module4"),
+                claimedModule("SOL-20260101-0001", "module5"), claimedModule("SOL-20260101-0002", "module6")));
+        when(accessRepository.findActiveModuleRowsByUserIds(Set.of("user1"), "ATIVO")).thenReturn(List.of(
+                heldModule("module1"), heldModule("module2")));
+        when(moduleService.getCatalog(Set.of("module1", "module2", "module3", "module4", "module5", "module6"))).thenReturn(Map.of(
+                "module1", module("module1"), "module2", module("module2"), "module3", module("module3"),
+                "module4", module("module4"), "module5", module("module5"), "module6", module("module6")));
+        when(requestRepository.decideClaimed(eq(Set.of("SOL-20260101-0002")), eq("admin"), any(Instant.class),
+                eq("NEGADO"), eq("Limite de módulos ativos atingido"))).thenReturn(List.of("SOL-20260101-0002"));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(List.of("SOL-20260101-0002"), "NEGADO"))
+                .thenReturn(List.of(denied));
+        when(requestRepository.approveClaimed(eq(List.of("SOL-20260101-0001")), eq("admin"), any(Instant.class),
+                any(Instant.class))).thenReturn(Collections.emptyList());
+
+        RequestApprovalService.Decision decision = requestApprovalService.approve("admin", protocols);
+
+        assertEquals(List.of("SOL-20260101-0001", "SOL-20260101-0002"), decision.skipped());
+        verify(userRepository, times(1)).lockByIdIn(Set.of("user1"));
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> {
+            RequestEvent event = events.iterator().next();
+            return event.getEventType() == RequestEventType.REQUEST_DENIED && "SOL-20260101-0002".equals(event.getRequestProtocol());
+        }));
+    }
+
+    @Test
+    void deny_WhenClaimedByApprover_ShouldRecordDenialWithReason() {
+        Request denied = request("SOL-20260101-0001", "NEGADO", false, "2026-01-01T09:00:00Z");
+        when(requestRepository.decideClaimed(eq(List.of("SOL-20260101-0001")), eq("admin"), any(Instant.class),
+                eq("NEGADO"), eq("Acesso não justificado"))).thenReturn(List.of("SOL-20260101-0001"));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(List.of("SOL-20260101-0001"), "NEGADO"))
+                .thenReturn(List.of(denied));
+
+        RequestApprovalService.Decision decision = requestApprovalService.deny("admin", List.of("SOL-20260101-0001"),
+                " Acesso não justificado ");
+
+        assertEquals(List.of("SOL-20260101-0001"), decision.decided());
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> {
+            RequestEvent event = events.iterator().next();
+            return event.getEventType() == RequestEventType.REQUEST_DENIED && "Acesso não justificado".equals(event.getDetail());
+        }));
+        verifyNoInteractions(accessRepository, outboxService);
+    }
+
+    @Test
+    void deny_WhenReasonMissing_ShouldThrowException() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> requestApprovalService.deny("admin", List.of("SOL-20260101-0001"), " "));
+
+        assertEquals("Denial reason is required", exception.getMessage());
+        verifyNoInteractions(requestRepository);
+    }
+
+    private RequestRepository.ModuleStateRow moduleState(String protocol, boolean active) {
+        return new RequestRepository.ModuleStateRow() {
+            @Override
+            public String getProtocol() {
+                return protocol;
+            }
+
+            @Override
+            public boolean getActive() {
+                return active;
+            }
+        };
+    }
+
+    private RequestRepository.ClaimedModuleRow claimedModule(String protocol, String moduleId) {
+        return new RequestRepository.ClaimedModuleRow() {
+            @Override
+            public String getProtocol() {
+                return protocol;
+            }
+
+            @Override
+            public String getUserId() {
+                return "user1";
+            }
+
+            @Override
+            public String getUserDepartment() {
+                return "Financeiro";
+            }
+
+            @Override
+            public String getModuleId() {
+                return moduleId;
+            }
+        };
+    }
+
+    private AccessRepository.UserModuleRow heldModule(String moduleId) {
+        return new AccessRepository.UserModuleRow() {
+            @Override
+            public String getUserId() {
+                return "user1";
+            }
+
+            @Override
+            public String getModuleId() {
+                return moduleId;
+            }
+        };
+    }
+
+    private Module module(String id) {
+        Module module = new Module();
+        module.setId(id);
+        module.setActive(true);
+        module.setAllowedDepartments(List.of("Financeiro"));
+        module.setIncompatibleModules(List.of());
+        return module;
+    }
+
+    private Request request(String protocol, String status, boolean urgent, String createdAt) {
+        Request request = new Request();
+        request.setProtocol(protocol);
+        request.setUserId("user1");
+        request.setUserDepartment("Financeiro");
+        request.setModules(new ArrayList<>(List.of("module1", "module2")));
+        request.setStatus(status);
+        request.setUrgent(urgent);
+        request.setCreatedAt(Instant.parse(createdAt));
+        request.setExpiresAt(EXPIRES_AT);
+        return request;
+    }
+}
@@ -0,0 +1,142 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.repository.RequestReadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestCacheServiceTest {
+
+    @Mock
+    private RequestReadRepository requestReadRepository;
+
+    private RequestCacheService requestCacheService;
+
+    @BeforeEach
+    void setUp() {
+        requestCacheService = new RequestCacheService(requestReadRepository, 2);
+    }
+
+    @Test
+    void currentVersion_WhenNotTracking_ShouldReadVersionFromRepositoryEveryTime() {
+        when(requestReadRepository.findUserVersion("user1")).thenReturn(7L);
+
+        assertEquals(7L, requestCacheService.currentVersion("user1"));
+        assertEquals(7L, requestCacheService.currentVersion("user1"));
+        assertEquals("\"user1-7\"", requestCacheService.etag("user1", 7L));
+        verify(requestReadRepository, times(2)).findUserVersion("user1");
+    }
+
+    @Test
+    void currentVersion_WhenTracking_ShouldReadRepositoryOnlyAfterInvalidation() {
+        when(requestReadRepository.findUserVersion("user1")).thenReturn(7L, 8L);
+        requestCacheService.startVersionTracking();
+
+        assertEquals(7L, requestCacheService.currentVersion("user1"));
+        assertEquals(7L, requestCacheService.currentVersion("user1"));
+
+        requestCacheService.invalidateVersion("user1");
+
+        assertEquals(8L, requestCacheService.currentVersion("user1"));
+        assertEquals(8L, requestCacheService.currentVersion("user1"));
+        verify(requestReadRepository, times(2)).findUserVersion("user1");
+    }
+
+    @Test
+    void currentVersion_WhenInvalidatedDuringLoad_ShouldNotCacheStaleVersion() {
+        requestCacheService.startVersionTracking();
+        when(requestReadRepository.findUserVersion("user1")).thenAnswer(invocation -> {
+            requestCacheService.invalidateVersion("user1");
+            return 7L;
+        }).thenReturn(8L);
+
+        assertEquals(7L, requestCacheService.currentVersion("user1"));
+        assertEquals(8L, requestCacheService.currentVersion("user1"));
+        verify(requestReadRepository, times(2)).findUserVersion("user1");
+    }
+
+    @Test
+    void currentVersion_WhenTrackingStops_ShouldFallBackToRepository() {
+        when(requestReadRepository.findUserVersion("user1")).thenReturn(7L);
+        requestCacheService.startVersionTracking();
+        requestCacheService.currentVersion("user1");
+
+        requestCacheService.stopVersionTracking();
+        requestCacheService.currentVersion("user1");
+        requestCacheService.currentVersion("user1");
+
+        verify(requestReadRepository, times(3)).findUserVersion("user1");
+    }
+
+    @Test
+    void matches_ShouldAcceptWeakListAndWildcard() {
+        String etag = requestCacheService.etag("user1", 3L);
+
+        assertTrue(requestCacheService.matches("\"user1-3\"", etag));
+        assertTrue(requestCacheService.matches("\"other\", W/\"user1-3\"", etag));
+        assertTrue(requestCacheService.matches("*", etag));
+        assertFalse(requestCacheService.matches("\"user1-2\"", etag));
+        assertFalse(requestCacheService.matches(null, etag));
+    }
+
+    @Test
+    void get_WhenSameVersion_ShouldLoadOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = requestCacheService.get("user1", 1L, "details|SOL-20260101-0001", () -> "v" + loads.incrementAndGet());
+        String second = requestCacheService.get("user1", 1L, "details|SOL-20260101-0001", () -> "v" + loads.incrementAndGet());
+        String bumped = requestCacheService.get("user1", 2L, "details|SOL-20260101-0001", () -> "v" + loads.incrementAndGet());
+
+        assertEquals("v1", first);
+        assertEquals("v1", second);
+        assertEquals("v2", bumped);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenLoaderReturnsNull_ShouldNotCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        requestCacheService.get("user1", 1L, "details|SOL-20260101-0001", () -> { loads.incrementAndGet(); return null; });
+        requestCacheService.get("user1", 1L, "details|SOL-20260101-0001", () -> { loads.incrementAndGet(); return null; });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenCapacityExceeded_ShouldStayBounded() {
+        AtomicInteger loads = new AtomicInteger();
+
+        requestCacheService.get("user1", 1L, "a", () -> loads.incrementAndGet());
+        requestCacheService.get("user1", 1L, "b", () -> loads.incrementAndGet());
+        requestCacheService.get("user1", 1L, "c", () -> loads.incrementAndGet());
+        requestCacheService.get("user1", 1L, "c", () -> loads.incrementAndGet());
+        assertEquals(3, loads.get());
+
+        requestCacheService.get("user1", 1L, "a", () -> loads.incrementAndGet());
+        requestCacheService.get("user1", 1L, "b", () -> loads.incrementAndGet());
+
+        assertTrue(loads.get() >= 4);
+    }
+
+    @Test
+    void get_WhenVersionBumped_ShouldReplaceEntryInsteadOfAddingOne() {
+        AtomicInteger loads = new AtomicInteger();
+
+        requestCacheService.get("user1", 1L, "a", () -> loads.incrementAndGet());
+        requestCacheService.get("user1", 2L, "a", () -> loads.incrementAndGet());
+        requestCacheService.get("user1", 1L, "b", () -> loads.incrementAndGet());
+        requestCacheService.get("user1", 2L, "a", () -> loads.incrementAndGet());
+        requestCacheService.get("user1", 1L, "b", () -> loads.incrementAndGet());
+
+        assertEquals(3, loads.get());
+    }
+}
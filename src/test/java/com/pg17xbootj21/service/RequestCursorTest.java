@@ -0,0 +1,36 @@
+package com.pg17xbootj21.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCursorTest {
+
+    @Test
+    void decode_WhenEncodedCursor_ShouldRestoreCreatedAtAndProtocol() {
+        Instant createdAt = Instant.parse("2026-01-01T10:00:00.123456Z");
+
+        RequestCursor cursor = RequestCursor.decode(new RequestCursor(createdAt, "SOL-20260101-0001").encode());
+
+        assertEquals(createdAt, cursor.getCreatedAt());
+        assertEquals("SOL-20260101-0001", cursor.getProtocol());
+    }
+
+    @Test
+    void encode_ShouldBeUrlSafeWithoutPadding() {
+        String encoded = new RequestCursor(Instant.parse("2026-01-01T10:00:00Z"), "SOL-20260101-0001").encode();
+
+        assertFalse(encoded.contains("="));
+        assertFalse(encoded.contains("+"));
+        assertFalse(encoded.contains("/"));
+    }
+
+    @Test
+    void isValid_WhenMalformed_ShouldReturnFalse() {
+        assertFalse(RequestCursor.isValid("not-a-cursor"));
+        assertFalse(RequestCursor.isValid("%%%"));
+        assertTrue(RequestCursor.isValid(new RequestCursor(Instant.now(), "SOL-20260101-0001").encode()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.repository.RequestReadRepository;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestDashboardRow;
+import com.pg17xbootj21.repository.RequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestDashboardServiceTest {
+
+    @Mock
+    private RequestReadRepository requestReadRepository;
+
+    @Mock
+    private RequestRepository requestRepository;
+
+    private RequestDashboardService requestDashboardService;
+
+    @BeforeEach
+    void setUp() {
+        requestDashboardService = new RequestDashboardService(requestReadRepository, requestRepository);
+    }
+
+    @Test
+    void getDashboard_ShouldReadCountersWithThirtyDayWindow() {
+        RequestDashboardRow row = new RequestDashboardRow(2, 1, 0, 0, 1, 1, 3);
+        Instant lowerBound = Instant.now().plus(Duration.ofDays(30));
+        when(requestReadRepository.findDashboard(eq("user1"), argThat(before ->
+                !before.isBefore(lowerBound) && before.isBefore(lowerBound.plusSeconds(60))))).thenReturn(row);
+
+        assertSame(row, requestDashboardService.getDashboard("user1"));
+        verifyNoInteractions(requestRepository);
+    }
+
+    @Test
+    void reconcileCounters_ShouldReturnCorrectedRows() {
+        when(requestRepository.reconcileCounters()).thenReturn(2);
+
+        assertEquals(2, requestDashboardService.reconcileCounters());
+    }
+}
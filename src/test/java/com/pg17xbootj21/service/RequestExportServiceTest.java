@@ -0,0 +1,133 @@
+package com.pg17xbootj21.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pg17xbootj21.repository.RequestReadRepository;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestExportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestExportServiceTest {
+
+    @Mock
+    private RequestReadRepository requestReadRepository;
+
+    @Mock
+    private UserService userService;
+
+    private RequestExportService requestExportService;
+
+    private RequestExportRow row1;
+    private RequestExportRow row2;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        requestExportService = new RequestExportService(requestReadRepository, userService, objectMapper);
+
+        row1 = new RequestExportRow("SOL-20260101-0002", "user1", "TI", Arrays.asList("module1", "module2"),
+                Arrays.asList("Portal", "Relatórios"), "ATIVO", "Necessário para análise, \"urgente\"", true,
+                Instant.parse("2026-01-02T10:00:00Z"), Instant.parse("2026-07-01T10:00:00Z"), null);
+        row2 = new RequestExportRow("SOL-20260101-0001", "user1", "TI", Arrays.asList("module1"),
+                Arrays.asList("Portal"), "NEGADO", "Justificativa simples", false,
+                Instant.parse("2026-01-01T10:00:00Z"), Instant.parse("2026-06-30T10:00:00Z"), "Limite de módulos ativos atingido");
+    }
+
+    @Test
+    void export_WhenNdjson_ShouldWriteOneJsonObjectPerLine() throws IOException {
+        streamRowsForUser("user1");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        requestExportService.export("user1", null, RequestExportService.FORMAT_NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals("SOL-20260101-0002", first.get("protocol").asText());
+        assertEquals("Relatórios", first.get("moduleNames").get(1).asText());
+        assertEquals("2026-01-02T10:00:00Z", first.get("createdAt").asText());
+        assertEquals("NEGADO", new ObjectMapper().readTree(lines[1]).get("status").asText());
+        verify(requestReadRepository, never()).streamByDepartment(any(), any());
+    }
+
+    @Test
+    void export_WhenCsv_ShouldWriteHeaderAndEscapeFields() throws IOException {
+        streamRowsForUser("user1");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        requestExportService.export("user1", null, RequestExportService.FORMAT_CSV, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("protocol,userId,userDepartment,modules"));
+        assertEquals("SOL-20260101-0002,user1,TI,module1;module2,Portal;Relatórios,ATIVO," +
+                "\"Necessário para análise, \"\"urgente\"\"\",true,2026-01-02T10:00:00Z,2026-07-01T10:00:00Z,", lines[1]);
+        assertTrue(lines[2].endsWith(",Limite de módulos ativos atingido"));
+    }
+
+    @Test
+    void export_WhenDepartmentGiven_ShouldStreamDepartmentRows() throws IOException {
+        doAnswer(invocation -> {
+            Consumer<RequestExportRow> consumer = invocation.getArgument(1);
+            consumer.accept(row1);
+            return null;
+        }).when(requestReadRepository).streamByDepartment(eq("RH"), any());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        requestExportService.export("admin", "RH", RequestExportService.FORMAT_NDJSON, output);
+
+        assertEquals(1, output.toString(StandardCharsets.UTF_8).split("\n").length);
+        verify(requestReadRepository, never()).streamByUser(any(), any());
+    }
+
+    @Test
+    void resolveDepartment_WhenNotRequested_ShouldReturnNullWithoutLookingUpUser() {
+        assertNull(requestExportService.resolveDepartment("user1", " "));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void resolveDepartment_WhenCallerIsTi_ShouldReturnDepartment() {
+        assertEquals("RH", requestExportService.resolveDepartment("admin", " RH "));
+    }
+
+    @Test
+    void resolveDepartment_WhenCallerIsNotTi_ShouldThrowException() {
+        when(userService.requireTiAdministrator("user1", "export requests for a department"))
+                .thenThrow(new RuntimeException("Only TI administrators can export requests for a department"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> requestExportService.resolveDepartment("user1", "RH"));
+
+        assertEquals("Only TI administrators can export requests for a department", exception.getMessage());
+    }
+
+    private void streamRowsForUser(String userId) {
+        doAnswer(invocation -> {
+            Consumer<RequestExportRow> consumer = invocation.getArgument(1);
+            consumer.accept(row1);
+            consumer.accept(row2);
+            return null;
+        }).when(requestReadRepository).streamByUser(eq(userId), any());
+    }
+}
@@ -0,0 +1,36 @@
+package com.pg17xbootj21.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestFieldsTest {
+
+    private static final List<String> ALLOWED = List.of("protocol", "status", "justification");
+
+    @Test
+    void parse_WhenBlank_ShouldReturnNullForAllFields() {
+        assertNull(RequestFields.parse(null, ALLOWED));
+        assertNull(RequestFields.parse("  ", ALLOWED));
+    }
+
+    @Test
+    void parse_ShouldTrimDeduplicateAndKeepAllowedOrder() {
+        Set<String> fields = RequestFields.parse(" status,protocol , status", ALLOWED);
+
+        assertEquals(List.of("protocol", "status"), List.copyOf(fields));
+    }
+
+    @Test
+    void parse_WhenFieldUnknown_ShouldThrowException() {
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> RequestFields.parse("protocol,secret", ALLOWED));
+
+        assertEquals("Invalid fields: secret. Allowed fields: protocol, status, justification", exception.getMessage());
+        assertFalse(RequestFields.isValid("protocol,secret", ALLOWED));
+        assertFalse(RequestFields.isValid(",", ALLOWED));
+        assertTrue(RequestFields.isValid("justification", ALLOWED));
+    }
+}
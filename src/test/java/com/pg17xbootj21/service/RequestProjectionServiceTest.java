@@ -0,0 +1,186 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
+import com.pg17xbootj21.model.RequestHistory;
+import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestProjectionServiceTest {
+
+    private static final String PROTOCOL = "SOL-20260101-0001";
+
+    @Mock
+    private RequestEventRepository requestEventRepository;
+
+    @Mock
+    private RequestRepository requestRepository;
+
+    @Mock
+    private AccessRepository accessRepository;
+
+    private RequestProjectionService requestProjectionService;
+
+    @BeforeEach
+    void setUp() {
+        requestProjectionService = new RequestProjectionService(requestEventRepository, requestRepository, accessRepository);
+    }
+
+    @Test
+    void rebuild_ShouldOverwriteStatusHistoryAndAccessesFromEvents() {
+        Instant occurredAt = Instant.parse("2026-01-01T10:00:00Z");
+        Request request = new Request();
+        request.setProtocol(PROTOCOL);
+        request.setUserId("user1");
+        request.setStatus("ATIVO");
+        RequestHistory staleEntry = new RequestHistory();
+        staleEntry.setAction("APPROVED");
+        request.setHistory(new ArrayList<>(Collections.singletonList(staleEntry)));
+
+        RequestEvent granted = new RequestEvent(PROTOCOL, "user1", RequestEventType.ACCESS_GRANTED, occurredAt);
+        granted.setModuleId("module1");
+        granted.setExpiresAt(occurredAt.plusSeconds(180 * 24 * 60 * 60L));
+        RequestEvent cancelled = new RequestEvent(PROTOCOL, "user1", RequestEventType.REQUEST_CANCELLED, occurredAt);
+        cancelled.setDetail("Projeto encerrado");
+        RequestEvent revoked = new RequestEvent(PROTOCOL, "user1", RequestEventType.ACCESS_REVOKED, occurredAt);
+        revoked.setModuleId("module1");
+        List<RequestEvent> events = Arrays.asList(
+                new RequestEvent(PROTOCOL, "user1", RequestEventType.REQUEST_CREATED, occurredAt),
+                new RequestEvent(PROTOCOL, "user1", RequestEventType.REQUEST_APPROVED, occurredAt),
+                granted, cancelled, revoked);
+
+        when(requestEventRepository.findByRequestProtocolInOrderByIdAsc(eq(List.of(PROTOCOL)))).thenReturn(events);
+        when(requestRepository.findAllById(eq(Set.of(PROTOCOL)))).thenReturn(List.of(request));
+
+        int rebuilt = requestProjectionService.rebuild(List.of(PROTOCOL));
+
+        assertEquals(1, rebuilt);
+        verify(requestRepository, times(1)).overwriteProjectedStatus(eq(PROTOCOL), eq("CANCELADO"), eq(null));
+        assertEquals(3, request.getHistory().size());
+        assertEquals("CANCELLED: Projeto encerrado", request.getHistory().get(2).getAction());
+        verify(accessRepository, times(1)).saveAll(argThat((Iterable<Access> accesses) -> {
+            Access access = accesses.iterator().next();
+            return "module1".equals(access.getModuleId()) && "REVOGADO".equals(access.getStatus());
+        }));
+    }
+
+    @Test
+    void rebuild_WhenAccessRowsExist_ShouldUpdateThemInPlaceAndRevokeOrphans() {
+        Instant occurredAt = Instant.parse("2026-01-01T10:00:00Z");
+        Request request = new Request();
+        request.setProtocol(PROTOCOL);
+        request.setUserId("user1");
+        request.setHistory(new ArrayList<>());
+
+        RequestEvent granted = new RequestEvent(PROTOCOL, "user1", RequestEventType.ACCESS_GRANTED, occurredAt);
+        granted.setModuleId("module1");
+        granted.setExpiresAt(occurredAt.plusSeconds(180 * 24 * 60 * 60L));
+        List<RequestEvent> events = Arrays.asList(
+                new RequestEvent(PROTOCOL, "user1", RequestEventType.REQUEST_CREATED, occurredAt),
+                new RequestEvent(PROTOCOL, "user1", RequestEventType.REQUEST_APPROVED, occurredAt),
+                granted);
+
+        Access existing = access(41L, "module1", "REVOGADO");
+        Access orphan = access(42L, "module2", "ATIVO");
+        when(requestEventRepository.findByRequestProtocolInOrderByIdAsc(eq(List.of(PROTOCOL)))).thenReturn(events);
+        when(requestRepository.findAllById(eq(Set.of(PROTOCOL)))).thenReturn(List.of(request));
+        when(accessRepository.findByRequestProtocolIn(eq(Set.of(PROTOCOL)))).thenReturn(List.of(existing, orphan));
+
+        requestProjectionService.rebuild(List.of(PROTOCOL));
+
+        assertEquals(41L, existing.getId());
+        assertEquals("ATIVO", existing.getStatus());
+        assertEquals(granted.getExpiresAt(), existing.getExpiresAt());
+        assertNull(existing.getEndedAt());
+        verify(accessRepository, times(1)).saveAll(argThat((Iterable<Access> accesses) -> !accesses.iterator().hasNext()));
+        assertEquals("REVOGADO", orphan.getStatus());
+        assertNotNull(orphan.getEndedAt());
+        verify(accessRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void rebuild_WhenHistoryAlreadyMatchesEvents_ShouldKeepExistingEntries() {
+        Instant occurredAt = Instant.parse("2026-01-01T10:00:00Z");
+        Request request = new Request();
+        request.setProtocol(PROTOCOL);
+        request.setUserId("user1");
+        RequestHistory created = new RequestHistory();
+        created.setDate(occurredAt);
+        created.setAction("CREATED");
+        RequestHistory approved = new RequestHistory();
+        approved.setDate(occurredAt);
+        approved.setAction("APPROVED");
+        request.setHistory(new ArrayList<>(List.of(created, approved)));
+
+        when(requestEventRepository.findByRequestProtocolInOrderByIdAsc(eq(List.of(PROTOCOL)))).thenReturn(Arrays.asList(
+                new RequestEvent(PROTOCOL, "user1", RequestEventType.REQUEST_CREATED, occurredAt),
+                new RequestEvent(PROTOCOL, "user1", RequestEventType.REQUEST_APPROVED, occurredAt)));
+        when(requestRepository.findAllById(eq(Set.of(PROTOCOL)))).thenReturn(List.of(request));
+
+        requestProjectionService.rebuild(List.of(PROTOCOL));
+
+        assertSame(created, request.getHistory().get(0));
+        assertSame(approved, request.getHistory().get(1));
+    }
+
+    @Test
+    void rebuild_WhenNoEvents_ShouldNotTouchProjections() {
+        when(requestEventRepository.findByRequestProtocolInOrderByIdAsc(eq(List.of(PROTOCOL)))).thenReturn(Collections.emptyList());
+
+        int rebuilt = requestProjectionService.rebuild(List.of(PROTOCOL));
+
+        assertEquals(0, rebuilt);
+        verifyNoInteractions(requestRepository);
+        verifyNoInteractions(accessRepository);
+    }
+
+    @Test
+    void rebuildBatch_ShouldReturnLastProtocolOfBatch() {
+        when(requestEventRepository.findProtocolsAfter(eq(""), eq(2))).thenReturn(Arrays.asList(PROTOCOL, "SOL-20260101-0002"));
+        when(requestEventRepository.findByRequestProtocolInOrderByIdAsc(any())).thenReturn(Collections.emptyList());
+
+        String lastProtocol = requestProjectionService.rebuildBatch("", 2);
+
+        assertEquals("SOL-20260101-0002", lastProtocol);
+    }
+
+    @Test
+    void rebuildBatch_WhenNothingLeft_ShouldReturnNull() {
+        when(requestEventRepository.findProtocolsAfter(eq(PROTOCOL), eq(2))).thenReturn(Collections.emptyList());
+
+        assertNull(requestProjectionService.rebuildBatch(PROTOCOL, 2));
+    }
+
+    private Access access(Long id, String moduleId, String status) {
+        Access access = new Access();
+        access.setId(id);
+        access.setUserId("user1");
+        access.setModuleId(moduleId);
+        access.setStatus(status);
+        access.setRequestProtocol(PROTOCOL);
+        if (!"ATIVO".equals(status)) {
+            access.setEndedAt(Instant.parse("2026-02-01T10:00:00Z"));
+        }
+        return access;
+    }
+}
@@ -0,0 +1,124 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Access;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestProjectionTest {
+
+    private static final String PROTOCOL = "SOL-20260101-0001";
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant EXPIRES_AT = Instant.parse("2026-06-30T10:00:00Z");
+
+    @Test
+    void replay_WhenApprovedAndCancelled_ShouldProjectCancelledRequestAndRevokedAccesses() {
+        List<RequestEvent> events = Arrays.asList(
+                event(RequestEventType.REQUEST_CREATED, null, null),
+                event(RequestEventType.REQUEST_APPROVED, null, null),
+                event(RequestEventType.ACCESS_GRANTED, "module1", null),
+                event(RequestEventType.ACCESS_GRANTED, "module2", null),
+                event(RequestEventType.REQUEST_CANCELLED, null, "Não preciso mais"),
+                event(RequestEventType.ACCESS_REVOKED, "module1", null),
+                event(RequestEventType.ACCESS_REVOKED, "module2", null));
+
+        RequestProjection projection = RequestProjection.replay(events);
+
+        assertEquals("CANCELADO", projection.getStatus());
+        assertNull(projection.getDenialReason());
+        assertEquals(Arrays.asList("CREATED", "APPROVED", "CANCELLED: Não preciso mais"),
+                projection.getLifecycleEvents().stream().map(RequestProjection::historyAction).collect(Collectors.toList()));
+        List<Access> accesses = projection.getAccesses();
+        assertEquals(2, accesses.size());
+        assertTrue(accesses.stream().allMatch(access -> "REVOGADO".equals(access.getStatus())));
+        assertEquals(EXPIRES_AT, accesses.get(0).getExpiresAt());
+        assertEquals(PROTOCOL, accesses.get(0).getRequestProtocol());
+    }
+
+    @Test
+    void replay_WhenDenied_ShouldKeepDenialReasonAndGrantNothing() {
+        List<RequestEvent> events = Arrays.asList(
+                event(RequestEventType.REQUEST_CREATED, null, null),
+                event(RequestEventType.REQUEST_RENEWED, null, "SOL-20251201-0007"),
+                event(RequestEventType.REQUEST_DENIED, null, "Limite de módulos ativos atingido"));
+
+        RequestProjection projection = RequestProjection.replay(events);
+
+        assertEquals("NEGADO", projection.getStatus());
+        assertEquals("Limite de módulos ativos atingido", projection.getDenialReason());
+        assertEquals(Arrays.asList("CREATED", "RENEWAL", "DENIED"),
+                projection.getLifecycleEvents().stream().map(RequestProjection::historyAction).collect(Collectors.toList()));
+        assertTrue(projection.getAccesses().isEmpty());
+    }
+
+    @Test
+    void replay_WhenPendingThenApproved_ShouldProjectActiveRequestWithApprovalHistory() {
+        List<RequestEvent> pending = Arrays.asList(
+                event(RequestEventType.REQUEST_CREATED, null, null),
+                event(RequestEventType.REQUEST_PENDING, null, null));
+
+        assertEquals("PENDENTE", RequestProjection.replay(pending).getStatus());
+
+        List<RequestEvent> events = new ArrayList<>(pending);
+        events.add(event(RequestEventType.REQUEST_APPROVED, null, "admin"));
+        events.add(event(RequestEventType.ACCESS_GRANTED, "module1", null));
+
+        RequestProjection projection = RequestProjection.replay(events);
+
+        assertEquals("ATIVO", projection.getStatus());
+        assertEquals(Arrays.asList("CREATED", "PENDING_APPROVAL", "APPROVED"),
+                projection.getLifecycleEvents().stream().map(RequestProjection::historyAction).collect(Collectors.toList()));
+        assertEquals(1, projection.getAccesses().size());
+    }
+
+    @Test
+    void replay_WhenAccessesRevokedByRenewal_ShouldKeepRequestActive() {
+        List<RequestEvent> events = Arrays.asList(
+                event(RequestEventType.REQUEST_CREATED, null, null),
+                event(RequestEventType.REQUEST_APPROVED, null, null),
+                event(RequestEventType.ACCESS_GRANTED, "module1", null),
+                event(RequestEventType.ACCESS_REVOKED, "module1", null));
+
+        RequestProjection projection = RequestProjection.replay(events);
+
+        assertEquals("ATIVO", projection.getStatus());
+        assertEquals("REVOGADO", projection.getAccesses().get(0).getStatus());
+        assertEquals(CREATED_AT, projection.getAccesses().get(0).getEndedAt());
+    }
+
+    @Test
+    void replay_WhenExpired_ShouldProjectExpiredRequestAndAccesses() {
+        List<RequestEvent> events = Arrays.asList(
+                event(RequestEventType.REQUEST_CREATED, null, null),
+                event(RequestEventType.REQUEST_APPROVED, null, null),
+                event(RequestEventType.ACCESS_GRANTED, "module1", null),
+                event(RequestEventType.ACCESS_EXPIRED, "module1", null),
+                event(RequestEventType.REQUEST_EXPIRED, null, null));
+
+        RequestProjection projection = RequestProjection.replay(events);
+
+        assertEquals("EXPIRADO", projection.getStatus());
+        assertEquals(Arrays.asList("CREATED", "APPROVED", "EXPIRED"),
+                projection.getLifecycleEvents().stream().map(RequestProjection::historyAction).collect(Collectors.toList()));
+        assertEquals("EXPIRADO", projection.getAccesses().get(0).getStatus());
+        assertEquals(CREATED_AT, projection.getAccesses().get(0).getEndedAt());
+    }
+
+    private RequestEvent event(RequestEventType type, String moduleId, String detail) {
+        RequestEvent event = new RequestEvent(PROTOCOL, "user1", type, CREATED_AT);
+        event.setModuleId(moduleId);
+        event.setDetail(detail);
+        if (type == RequestEventType.ACCESS_GRANTED) {
+            event.setExpiresAt(EXPIRES_AT);
+        }
+        return event;
+    }
+}
@@ -0,0 +1,150 @@
+package com.pg17xbootj21.service;
+
+import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.repository.RequestReadRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RequestService.class, ModuleService.class, AccessService.class, UserService.class, BusinessRuleService.class,
+        OutboxService.class, RequestReadRepository.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RequestServiceQueryBudgetTest {
+
+    private static final String USER_ID = "f84af7aa-324c-4f50-9d0a-d295d802dec6";
+    private static final String JUSTIFICATION = "Necessário para análise de dados do setor";
+
+    private static final int CREATE_REQUEST_STATEMENT_BUDGET = 17;
+    private static final int CANCEL_REQUEST_STATEMENT_BUDGET = 10;
+    private static final int RENEW_ACCESS_STATEMENT_BUDGET = 23;
+    private static final int BULK_RENEW_STATEMENT_BUDGET = 22;
+    private static final int POOLED_SEQUENCE_REFILLS = 4;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @MockBean
+    private OutboxSink outboxSink;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        jdbcTemplate.execute("TRUNCATE requests, outbox_events CASCADE");
+        requestService.createRequest(USER_ID, List.of("AUDITORIA"), JUSTIFICATION, false);
+        jdbcTemplate.execute("TRUNCATE requests, outbox_events CASCADE");
+    }
+
+    @Test
+    void createRequest_ShouldStayWithinStatementBudgetRegardlessOfModuleCount() {
+        long singleModule = countStatements(() ->
+                requestService.createRequest(USER_ID, List.of("PORTAL"), JUSTIFICATION, false));
+        long fourModules = countStatements(() ->
+                requestService.createRequest(USER_ID, List.of("RELATORIOS", "FINANCEIRO", "ESTOQUE", "COMPRAS"), JUSTIFICATION, false));
+
+        assertTrue(singleModule <= CREATE_REQUEST_STATEMENT_BUDGET,
+                "createRequest issued " + singleModule + " statements, budget is " + CREATE_REQUEST_STATEMENT_BUDGET);
+        assertTrue(fourModules <= singleModule + POOLED_SEQUENCE_REFILLS,
+                "createRequest issued " + fourModules + " statements for four modules and " + singleModule + " for one");
+    }
+
+    @Test
+    void cancelRequest_ShouldStayWithinStatementBudget() {
+        Request request = requestService.createRequest(USER_ID, List.of("PORTAL", "RELATORIOS"), JUSTIFICATION, false);
+
+        long statements = countStatements(() -> requestService.cancelRequest(USER_ID, request.getProtocol(), "Não é mais necessário"));
+
+        assertTrue(statements <= CANCEL_REQUEST_STATEMENT_BUDGET,
+                "cancelRequest issued " + statements + " statements, budget is " + CANCEL_REQUEST_STATEMENT_BUDGET);
+    }
+
+    @Test
+    void renewAccess_ShouldStayWithinStatementBudget() {
+        insertExpiringRequest("SOL-20260101-0001", "PORTAL", "RELATORIOS");
+
+        long statements = countStatements(() -> requestService.renewAccess(USER_ID, "SOL-20260101-0001"));
+
+        assertTrue(statements <= RENEW_ACCESS_STATEMENT_BUDGET,
+                "renewAccess issued " + statements + " statements, budget is " + RENEW_ACCESS_STATEMENT_BUDGET);
+    }
+
+    @Test
+    void renewExpiringAccesses_ShouldNotGrowWithTheNumberOfRenewals() {
+        insertExpiringRequest("SOL-20260101-0001", "PORTAL");
+        long singleRenewal = countStatements(() -> assertEquals(1, requestService.renewExpiringAccesses(USER_ID, null).size()));
+
+        jdbcTemplate.execute("TRUNCATE requests, outbox_events CASCADE");
+        insertExpiringRequest("SOL-20260101-0001", "PORTAL");
+        insertExpiringRequest("SOL-20260101-0002", "RELATORIOS");
+        insertExpiringRequest("SOL-20260101-0003", "FINANCEIRO");
+        insertExpiringRequest("SOL-20260101-0004", "ESTOQUE");
+        long fourRenewals = countStatements(() -> assertEquals(4, requestService.renewExpiringAccesses(USER_ID, null).size()));
+
+        assertTrue(singleRenewal <= BULK_RENEW_STATEMENT_BUDGET,
+                "renewExpiringAccesses issued " + singleRenewal + " statements, budget is " + BULK_RENEW_STATEMENT_BUDGET);
+        assertTrue(fourRenewals <= singleRenewal + POOLED_SEQUENCE_REFILLS,
+                "renewExpiringAccesses issued " + fourRenewals + " statements for four renewals and " + singleRenewal + " for one");
+    }
+
+    private long countStatements(Runnable operation) {
+        statistics.clear();
+        operation.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void insertExpiringRequest(String protocol, String... moduleIds) {
+        jdbcTemplate.update("INSERT INTO requests (protocol, user_id, user_department, justification, status, created_at, expires_at) " +
+                "VALUES (?, ?, 'TI', ?, 'ATIVO', now() - interval '170 days', now() + interval '10 days')",
+                protocol, USER_ID, JUSTIFICATION);
+        for (String moduleId : moduleIds) {
+            jdbcTemplate.update("INSERT INTO request_modules (request_protocol, module_id) VALUES (?, ?)", protocol, moduleId);
+            jdbcTemplate.update("INSERT INTO accesses (user_id, module_id, status, granted_at, expires_at, request_protocol) " +
+                    "VALUES (?, ?, 'ATIVO', now() - interval '170 days', now() + interval '10 days', ?)", USER_ID, moduleId, protocol);
+        }
+    }
+}
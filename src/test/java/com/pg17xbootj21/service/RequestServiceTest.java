@@ -3,24 +3,40 @@ package com.pg17xbootj21.service;
 import com.pg17xbootj21.model.Access;
 import com.pg17xbootj21.model.Module;
 import com.pg17xbootj21.model.Request;
+import com.pg17xbootj21.model.RequestEvent;
+import com.pg17xbootj21.model.RequestEventType;
 import com.pg17xbootj21.model.User;
 import com.pg17xbootj21.repository.AccessRepository;
+import com.pg17xbootj21.repository.RequestEventRepository;
+import com.pg17xbootj21.repository.RequestReadRepository;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestDetailsRow;
+import com.pg17xbootj21.repository.RequestReadRepository.RequestSummaryRow;
 import com.pg17xbootj21.repository.RequestRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
@@ -45,6 +61,15 @@ class RequestServiceTest {
     @Mock
     private BusinessRuleService businessRuleService;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private RequestEventRepository requestEventRepository;
+
+    @Mock
+    private RequestReadRepository requestReadRepository;
+
     @InjectMocks
     private RequestService requestService;
 
@@ -60,7 +85,10 @@ class RequestServiceTest {
                 moduleService,
                 accessService,
                 userService,
-                businessRuleService
+                businessRuleService,
+                outboxService,
+                requestEventRepository,
+                requestReadRepository
         );
 
         user = new User();
@@ -90,10 +118,10 @@ class RequestServiceTest {
         boolean urgent = false;
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(module1));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(businessRuleService.validateBusinessRules(eq(userId), eq("TI"), eq(moduleIds))).thenReturn(null);
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), eq(moduleIds))).thenReturn(null);
+        when(requestRepository.nextProtocolSequence()).thenReturn(1L);
         when(requestRepository.save(argThat(req -> req.getUserId().equals(userId) && req.getStatus().equals("ATIVO"))))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -104,15 +132,50 @@ class RequestServiceTest {
         assertEquals(userId, result.getUserId());
         assertEquals(justification, result.getJustification());
         assertEquals(urgent, result.isUrgent());
-        assertNotNull(result.getProtocol());
+        assertTrue(result.getProtocol().endsWith("-0001"));
         assertNotNull(result.getCreatedAt());
         assertNotNull(result.getExpiresAt());
         verify(userService, times(1)).findById(eq(userId));
-        verify(moduleService, times(1)).findById(eq("module1"));
-        verify(businessRuleService, times(1)).validateBusinessRules(eq(userId), eq("TI"), eq(moduleIds));
-        verify(requestRepository, times(1)).findByUserIdAndStatus(eq(userId), eq("ATIVO"));
-        verify(accessService, times(1)).getActiveModuleIds(eq(userId));
+        verify(requestRepository, times(1)).findActiveModuleRows(eq(userId));
+        verify(moduleService, times(1)).getCatalog(eq(Set.of("module1")));
+        verify(businessRuleService, times(1)).validateBusinessRules(any(RuleEvaluationContext.class), eq(moduleIds));
         verify(requestRepository, times(1)).save(argThat(req -> req.getUserId().equals(userId) && req.getStatus().equals("ATIVO")));
+        verify(accessRepository, times(1)).saveAll(argThat((Iterable<Access> accesses) -> accesses.iterator().next().getModuleId().equals("module1")));
+        verify(outboxService, times(1)).enqueueAccessEvent(eq(result.getProtocol()), eq("ACCESS_GRANTED"), any(), any(), any(), any());
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> eventTypes(events).equals(Arrays.asList(
+                RequestEventType.REQUEST_CREATED, RequestEventType.REQUEST_APPROVED, RequestEventType.ACCESS_GRANTED))));
+        assertEquals(Arrays.asList("CREATED", "APPROVED"),
+                result.getHistory().stream().map(h -> h.getAction()).collect(Collectors.toList()));
+        verify(moduleService, never()).findById(any());
+        verify(accessService, never()).getActiveModuleIds(any());
+        InOrder moduleReads = inOrder(moduleService);
+        moduleReads.verify(moduleService).lockForRequest(moduleIds);
+        moduleReads.verify(moduleService).getCatalog(any());
+    }
+
+    @Test
+    void createRequest_WhenModuleRequiresApproval_ShouldLeaveRequestPendingWithoutAccesses() {
+        String userId = "user1";
+        List<String> moduleIds = Arrays.asList("module1", "module2");
+        module2.setRequiresApproval(true);
+
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1", "module2")))).thenReturn(Map.of("module1", module1, "module2", module2));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), eq(moduleIds))).thenReturn(null);
+        when(requestRepository.nextProtocolSequence()).thenReturn(1L);
+
+        Request result = requestService.createRequest(userId, moduleIds, "Valid justification for access", true);
+
+        assertEquals("PENDENTE", result.getStatus());
+        assertNull(result.getDenialReason());
+        verify(requestRepository, times(1)).save(result);
+        verify(accessRepository, never()).saveAll(any());
+        verifyNoInteractions(outboxService);
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> eventTypes(events).equals(Arrays.asList(
+                RequestEventType.REQUEST_CREATED, RequestEventType.REQUEST_PENDING))));
+        assertEquals(Arrays.asList("CREATED", "PENDING_APPROVAL"),
+                result.getHistory().stream().map(h -> h.getAction()).collect(Collectors.toList()));
     }
 
     @Test
@@ -128,7 +191,7 @@ class RequestServiceTest {
         });
 
         verify(userService, times(1)).findById(eq(userId));
-        verify(moduleService, never()).findById(eq("module1"));
+        verify(moduleService, never()).getCatalog(any());
     }
 
     @Test
@@ -138,16 +201,16 @@ class RequestServiceTest {
         String justification = "Valid justification";
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(moduleService.findById(eq("nonexistent"))).thenReturn(Optional.empty());
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("nonexistent")))).thenReturn(Collections.emptyMap());
 
         assertThrows(RuntimeException.class, () -> {
             requestService.createRequest(userId, moduleIds, justification, false);
         });
 
         verify(userService, times(1)).findById(eq(userId));
-        verify(moduleService, times(1)).findById(eq("nonexistent"));
+        verify(moduleService, times(1)).getCatalog(eq(Set.of("nonexistent")));
+        verify(requestRepository, never()).save(any());
     }
 
     @Test
@@ -161,16 +224,15 @@ class RequestServiceTest {
         inactiveModule.setActive(false);
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(inactiveModule));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", inactiveModule));
 
         assertThrows(RuntimeException.class, () -> {
             requestService.createRequest(userId, moduleIds, justification, false);
         });
 
         verify(userService, times(1)).findById(eq(userId));
-        verify(moduleService, times(1)).findById(eq("module1"));
+        verify(moduleService, times(1)).getCatalog(eq(Set.of("module1")));
     }
 
     @Test
@@ -180,9 +242,8 @@ class RequestServiceTest {
         String justification = "teste";
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(module1));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
 
         assertThrows(RuntimeException.class, () -> {
             requestService.createRequest(userId, moduleIds, justification, false);
@@ -198,9 +259,8 @@ class RequestServiceTest {
         String justification = "aaa";
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(module1));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
 
         assertThrows(RuntimeException.class, () -> {
             requestService.createRequest(userId, moduleIds, justification, false);
@@ -216,9 +276,8 @@ class RequestServiceTest {
         String justification = "preciso";
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(module1));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
 
         assertThrows(RuntimeException.class, () -> {
             requestService.createRequest(userId, moduleIds, justification, false);
@@ -234,9 +293,8 @@ class RequestServiceTest {
         String justification = "";
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(module1));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
 
         assertThrows(RuntimeException.class, () -> {
             requestService.createRequest(userId, moduleIds, justification, false);
@@ -252,9 +310,8 @@ class RequestServiceTest {
         String justification = null;
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(module1));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
 
         assertThrows(RuntimeException.class, () -> {
             requestService.createRequest(userId, moduleIds, justification, false);
@@ -269,23 +326,39 @@ class RequestServiceTest {
         List<String> moduleIds = Arrays.asList("module1");
         String justification = "Valid justification";
 
-        Request existingRequest = new Request();
-        existingRequest.setProtocol("SOL-20260101-0001");
-        existingRequest.setUserId(userId);
-        existingRequest.setStatus("ATIVO");
-        existingRequest.setModules(Arrays.asList("module1"));
-
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Arrays.asList(existingRequest));
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(module1));
+        when(requestRepository.findActiveModuleRows(eq(userId)))
+                .thenReturn(Arrays.asList(new ActiveModuleRowStub("REQUEST", "module1")));
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
 
-        assertThrows(RuntimeException.class, () -> {
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             requestService.createRequest(userId, moduleIds, justification, false);
         });
 
+        assertEquals("Active request already exists for module: module1", exception.getMessage());
         verify(userService, times(1)).findById(eq(userId));
-        verify(requestRepository, times(1)).findByUserIdAndStatus(eq(userId), eq("ATIVO"));
+        verify(requestRepository, times(1)).findActiveModuleRows(eq(userId));
+    }
+
+    @Test
+    void createRequest_WhenPendingRequestHoldsModule_ShouldCountItAgainstBusinessRules() {
+        String userId = "user1";
+        List<String> moduleIds = Arrays.asList("module1");
+
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(requestRepository.findActiveModuleRows(eq(userId)))
+                .thenReturn(Arrays.asList(new ActiveModuleRowStub("PENDING", "module2")));
+        when(moduleService.getCatalog(eq(Set.of("module1", "module2")))).thenReturn(Map.of("module1", module1, "module2", module2));
+        when(businessRuleService.validateBusinessRules(argThat(context -> context.getActiveModuleIds().equals(List.of("module2"))),
+                eq(moduleIds))).thenReturn("Limite de módulos ativos atingido");
+        when(requestRepository.nextProtocolSequence()).thenReturn(1L);
+        when(requestRepository.save(any(Request.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Request result = requestService.createRequest(userId, moduleIds, "Valid justification", false);
+
+        assertEquals("NEGADO", result.getStatus());
+        assertEquals("Limite de módulos ativos atingido", result.getDenialReason());
+        verify(accessRepository, never()).saveAll(any());
     }
 
     @Test
@@ -295,16 +368,17 @@ class RequestServiceTest {
         String justification = "Valid justification";
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Arrays.asList("module1"));
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(module1));
+        when(requestRepository.findActiveModuleRows(eq(userId)))
+                .thenReturn(Arrays.asList(new ActiveModuleRowStub("ACCESS", "module1")));
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
 
-        assertThrows(RuntimeException.class, () -> {
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             requestService.createRequest(userId, moduleIds, justification, false);
         });
 
+        assertEquals("User already has active access to module: module1", exception.getMessage());
         verify(userService, times(1)).findById(eq(userId));
-        verify(accessService, times(1)).getActiveModuleIds(eq(userId));
+        verify(requestRepository, times(1)).findActiveModuleRows(eq(userId));
     }
 
     @Test
@@ -315,10 +389,9 @@ class RequestServiceTest {
         String denialReason = "Limite de módulos ativos atingido";
 
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(moduleService.findById(eq("module1"))).thenReturn(Optional.of(module1));
-        when(requestRepository.findByUserIdAndStatus(eq(userId), eq("ATIVO"))).thenReturn(Collections.emptyList());
-        when(accessService.getActiveModuleIds(eq(userId))).thenReturn(Collections.emptyList());
-        when(businessRuleService.validateBusinessRules(eq(userId), eq("TI"), eq(moduleIds))).thenReturn(denialReason);
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), eq(moduleIds))).thenReturn(denialReason);
         when(requestRepository.save(argThat(req -> req.getUserId().equals(userId) && req.getStatus().equals("NEGADO"))))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -327,8 +400,16 @@ class RequestServiceTest {
         assertNotNull(result);
         assertEquals("NEGADO", result.getStatus());
         assertEquals(denialReason, result.getDenialReason());
-        verify(businessRuleService, times(1)).validateBusinessRules(eq(userId), eq("TI"), eq(moduleIds));
+        verify(businessRuleService, times(1)).validateBusinessRules(any(RuleEvaluationContext.class), eq(moduleIds));
         verify(requestRepository, times(1)).save(argThat(req -> req.getUserId().equals(userId) && req.getStatus().equals("NEGADO")));
+        verify(accessRepository, never()).saveAll(any());
+        verifyNoInteractions(outboxService);
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> {
+            List<RequestEvent> recorded = new ArrayList<>();
+            events.forEach(recorded::add);
+            return eventTypes(recorded).equals(Arrays.asList(RequestEventType.REQUEST_CREATED, RequestEventType.REQUEST_DENIED))
+                    && denialReason.equals(recorded.get(1).getDetail());
+        }));
     }
 
     @Test
@@ -345,18 +426,52 @@ class RequestServiceTest {
         request.setModules(Arrays.asList("module1"));
 
         when(requestRepository.findByProtocolAndUserId(eq(protocol), eq(userId))).thenReturn(Optional.of(request));
-        when(requestRepository.save(argThat(req -> req.getProtocol().equals(protocol) && req.getStatus().equals("CANCELADO"))))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        doNothing().when(accessRepository).updateStatusByUserIdAndProtocol(eq(userId), eq(protocol), eq("ATIVO"), eq("REVOGADO"));
+        when(requestRepository.compareAndSetStatus(eq(protocol), eq(userId), eq("ATIVO"), eq(0L), eq("CANCELADO")))
+                .thenReturn(Optional.of(1L));
+        doNothing().when(accessRepository).updateStatusByUserIdAndProtocol(eq(userId), eq(protocol), eq("ATIVO"), eq("REVOGADO"), any(Instant.class));
 
         Request result = requestService.cancelRequest(userId, protocol, reason);
 
         assertNotNull(result);
         assertEquals("CANCELADO", result.getStatus());
+        assertEquals(1L, result.getVersion());
         assertTrue(result.getHistory().stream().anyMatch(h -> h.getAction().contains("CANCELLED")));
         verify(requestRepository, times(1)).findByProtocolAndUserId(eq(protocol), eq(userId));
-        verify(requestRepository, times(1)).save(argThat(req -> req.getProtocol().equals(protocol) && req.getStatus().equals("CANCELADO")));
-        verify(accessRepository, times(1)).updateStatusByUserIdAndProtocol(eq(userId), eq(protocol), eq("ATIVO"), eq("REVOGADO"));
+        verify(requestRepository, never()).save(any());
+        verify(accessRepository, times(1)).updateStatusByUserIdAndProtocol(eq(userId), eq(protocol), eq("ATIVO"), eq("REVOGADO"), any(Instant.class));
+        verify(outboxService, times(1)).enqueueAccessEvent(eq(protocol), eq("ACCESS_REVOKED"), any(), any(), any(), any());
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> {
+            List<RequestEvent> recorded = new ArrayList<>();
+            events.forEach(recorded::add);
+            return eventTypes(recorded).equals(Arrays.asList(RequestEventType.REQUEST_CANCELLED, RequestEventType.ACCESS_REVOKED))
+                    && reason.equals(recorded.get(0).getDetail())
+                    && "module1".equals(recorded.get(1).getModuleId());
+        }));
+    }
+
+    @Test
+    void cancelRequest_WhenPending_ShouldCancelWithoutRevokingAccesses() {
+        String userId = "user1";
+        String protocol = "SOL-20260101-0001";
+
+        Request request = new Request();
+        request.setProtocol(protocol);
+        request.setUserId(userId);
+        request.setStatus("PENDENTE");
+        request.setHistory(new ArrayList<>());
+        request.setModules(Arrays.asList("module1"));
+
+        when(requestRepository.findByProtocolAndUserId(eq(protocol), eq(userId))).thenReturn(Optional.of(request));
+        when(requestRepository.compareAndSetStatus(eq(protocol), eq(userId), eq("PENDENTE"), eq(0L), eq("CANCELADO")))
+                .thenReturn(Optional.of(1L));
+
+        Request result = requestService.cancelRequest(userId, protocol, "No longer needed");
+
+        assertEquals("CANCELADO", result.getStatus());
+        verifyNoInteractions(accessRepository);
+        verifyNoInteractions(outboxService);
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) ->
+                eventTypes(events).equals(Arrays.asList(RequestEventType.REQUEST_CANCELLED))));
     }
 
     @Test
@@ -394,6 +509,70 @@ class RequestServiceTest {
         verify(requestRepository, times(1)).findByProtocolAndUserId(eq(protocol), eq(userId));
     }
 
+    @Test
+    void cancelRequest_WhenVersionChangedButStillActive_ShouldRetryWithCurrentVersion() {
+        String userId = "user1";
+        String protocol = "SOL-20260101-0001";
+        Request request = buildRenewableRequest(protocol, userId);
+
+        when(requestRepository.findByProtocolAndUserId(eq(protocol), eq(userId))).thenReturn(Optional.of(request));
+        when(requestRepository.compareAndSetStatus(eq(protocol), eq(userId), eq("ATIVO"), eq(0L), eq("CANCELADO")))
+                .thenReturn(Optional.empty());
+        when(requestRepository.findStateByProtocolAndUserId(eq(protocol), eq(userId)))
+                .thenReturn(Optional.of(new RequestStateStub("ATIVO", 1L)));
+        when(requestRepository.compareAndSetStatus(eq(protocol), eq(userId), eq("ATIVO"), eq(1L), eq("CANCELADO")))
+                .thenReturn(Optional.of(2L));
+
+        Request result = requestService.cancelRequest(userId, protocol, "No longer needed");
+
+        assertEquals("CANCELADO", result.getStatus());
+        assertEquals(2L, result.getVersion());
+        verify(accessRepository, times(1)).updateStatusByUserIdAndProtocol(eq(userId), eq(protocol), eq("ATIVO"), eq("REVOGADO"), any(Instant.class));
+        verify(outboxService, times(1)).enqueueAccessEvent(eq(protocol), eq("ACCESS_REVOKED"), any(), any(), any(), any());
+    }
+
+    @Test
+    void cancelRequest_WhenConcurrentlyLeftActiveStatus_ShouldThrowException() {
+        String userId = "user1";
+        String protocol = "SOL-20260101-0001";
+        Request request = buildRenewableRequest(protocol, userId);
+
+        when(requestRepository.findByProtocolAndUserId(eq(protocol), eq(userId))).thenReturn(Optional.of(request));
+        when(requestRepository.compareAndSetStatus(eq(protocol), eq(userId), eq("ATIVO"), eq(0L), eq("CANCELADO")))
+                .thenReturn(Optional.empty());
+        when(requestRepository.findStateByProtocolAndUserId(eq(protocol), eq(userId)))
+                .thenReturn(Optional.of(new RequestStateStub("CANCELADO", 1L)));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            requestService.cancelRequest(userId, protocol, "No longer needed");
+        });
+
+        assertEquals("Only requests with ATIVO or PENDENTE status can be cancelled", exception.getMessage());
+        verifyNoInteractions(accessRepository);
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void cancelRequest_WhenCompareAndSetKeepsFailing_ShouldGiveUpAfterMaxAttempts() {
+        String userId = "user1";
+        String protocol = "SOL-20260101-0001";
+        Request request = buildRenewableRequest(protocol, userId);
+
+        when(requestRepository.findByProtocolAndUserId(eq(protocol), eq(userId))).thenReturn(Optional.of(request));
+        when(requestRepository.compareAndSetStatus(eq(protocol), eq(userId), eq("ATIVO"), anyLong(), eq("CANCELADO")))
+                .thenReturn(Optional.empty());
+        when(requestRepository.findStateByProtocolAndUserId(eq(protocol), eq(userId)))
+                .thenReturn(Optional.of(new RequestStateStub("ATIVO", 1L)), Optional.of(new RequestStateStub("ATIVO", 2L)));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            requestService.cancelRequest(userId, protocol, "No longer needed");
+        });
+
+        assertEquals("Request was modified concurrently, please try again", exception.getMessage());
+        verify(requestRepository, times(3)).compareAndSetStatus(eq(protocol), eq(userId), eq("ATIVO"), anyLong(), eq("CANCELADO"));
+        verifyNoInteractions(accessRepository);
+    }
+
     @Test
     void findRequestByProtocol_WhenRequestExists_ShouldReturnRequest() {
         String userId = "user1";
@@ -429,33 +608,21 @@ class RequestServiceTest {
     void renewAccess_WhenValid_ShouldCreateNewRequest() {
         String userId = "user1";
         String originalProtocol = "SOL-20260101-0001";
-        Request originalRequest = new Request();
-        originalRequest.setProtocol(originalProtocol);
-        originalRequest.setUserId(userId);
-        originalRequest.setStatus("ATIVO");
-        originalRequest.setModules(Arrays.asList("module1"));
-        originalRequest.setUrgent(false);
-        originalRequest.setHistory(new ArrayList<>());
-
-        Access access = new Access();
-        access.setUserId(userId);
-        access.setModuleId("module1");
-        access.setStatus("ATIVO");
-        access.setRequestProtocol(originalProtocol);
-        access.setGrantedAt(Instant.now().minusSeconds(150 * 24 * 60 * 60L));
-        access.setExpiresAt(Instant.now().plusSeconds(20 * 24 * 60 * 60L));
+        Request originalRequest = buildRenewableRequest(originalProtocol, userId);
+        Access access = buildExpiringAccess(originalProtocol, userId);
 
         when(requestRepository.findByProtocolAndUserId(eq(originalProtocol), eq(userId))).thenReturn(Optional.of(originalRequest));
         when(accessService.getAccessesByProtocol(eq(userId), eq(originalProtocol))).thenReturn(Arrays.asList(access));
         when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
-        when(businessRuleService.validateBusinessRules(eq(userId), eq("TI"), eq(Arrays.asList("module1")))).thenReturn(null);
-        when(requestRepository.count()).thenReturn(1L);
+        when(requestRepository.findActiveModuleRows(eq(userId)))
+                .thenReturn(Arrays.asList(new ActiveModuleRowStub("ACCESS", "module1")));
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), eq(Arrays.asList("module1")))).thenReturn(null);
+        when(requestRepository.nextProtocolSequence()).thenReturn(2L);
+        when(requestRepository.compareAndSetStatus(eq(originalProtocol), eq(userId), eq("ATIVO"), eq(0L), eq("ATIVO")))
+                .thenReturn(Optional.of(1L));
         when(requestRepository.save(argThat(req -> req.getProtocol() != null && req.getStatus().equals("ATIVO"))))
                 .thenAnswer(invocation -> invocation.getArgument(0));
-        when(accessRepository.save(argThat(acc -> acc != null && acc.getUserId().equals(userId) && acc.getStatus().equals("REVOGADO"))))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(accessRepository.save(argThat(acc -> acc != null && acc.getUserId().equals(userId) && acc.getStatus().equals("ATIVO"))))
-                .thenAnswer(invocation -> invocation.getArgument(0));
 
         Request result = requestService.renewAccess(userId, originalProtocol);
 
@@ -463,9 +630,130 @@ class RequestServiceTest {
         assertNotNull(result.getProtocol());
         assertNotEquals(originalProtocol, result.getProtocol());
         assertEquals("ATIVO", result.getStatus());
+        assertNotSame(originalRequest.getModules(), result.getModules());
         verify(requestRepository, times(1)).findByProtocolAndUserId(eq(originalProtocol), eq(userId));
         verify(accessService, times(1)).getAccessesByProtocol(eq(userId), eq(originalProtocol));
         verify(userService, times(1)).findById(eq(userId));
+        verify(accessRepository, times(1)).updateStatusByUserIdAndProtocol(eq(userId), eq(originalProtocol), eq("ATIVO"), eq("REVOGADO"), any(Instant.class));
+        verify(accessRepository, times(1)).saveAll(argThat((Iterable<Access> accesses) -> accesses.iterator().next().getStatus().equals("ATIVO")));
+        verify(accessRepository, never()).save(any());
+        verify(outboxService, times(1)).enqueueAccessEvent(eq(originalProtocol), eq("ACCESS_REVOKED"), any(), any(), any(), any());
+        verify(outboxService, times(1)).enqueueAccessEvent(eq(result.getProtocol()), eq("ACCESS_GRANTED"), any(), any(), any(), any());
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> {
+            List<RequestEvent> recorded = new ArrayList<>();
+            events.forEach(recorded::add);
+            return eventTypes(recorded).equals(Arrays.asList(RequestEventType.REQUEST_CREATED, RequestEventType.REQUEST_RENEWED,
+                    RequestEventType.REQUEST_APPROVED, RequestEventType.ACCESS_REVOKED, RequestEventType.ACCESS_GRANTED))
+                    && originalProtocol.equals(recorded.get(1).getDetail())
+                    && originalProtocol.equals(recorded.get(3).getRequestProtocol());
+        }));
+    }
+
+    @Test
+    void renewAccess_WhenModuleDeactivated_ShouldThrowException() {
+        String userId = "user1";
+        String originalProtocol = "SOL-20260101-0001";
+        Request originalRequest = buildRenewableRequest(originalProtocol, userId);
+        Access access = buildExpiringAccess(originalProtocol, userId);
+        module1.setActive(false);
+
+        when(requestRepository.findByProtocolAndUserId(eq(originalProtocol), eq(userId))).thenReturn(Optional.of(originalRequest));
+        when(accessService.getAccessesByProtocol(eq(userId), eq(originalProtocol))).thenReturn(Arrays.asList(access));
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> requestService.renewAccess(userId, originalProtocol));
+
+        assertEquals("Module is not active: module1", exception.getMessage());
+        verify(requestRepository, never()).save(any());
+        verifyNoInteractions(accessRepository, outboxService);
+    }
+
+    @Test
+    void renewAccess_WhenCancelledConcurrently_ShouldNotTouchAccesses() {
+        String userId = "user1";
+        String originalProtocol = "SOL-20260101-0001";
+        Request originalRequest = buildRenewableRequest(originalProtocol, userId);
+        Access access = buildExpiringAccess(originalProtocol, userId);
+
+        when(requestRepository.findByProtocolAndUserId(eq(originalProtocol), eq(userId))).thenReturn(Optional.of(originalRequest));
+        when(accessService.getAccessesByProtocol(eq(userId), eq(originalProtocol))).thenReturn(Arrays.asList(access));
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), eq(Arrays.asList("module1")))).thenReturn(null);
+        when(requestRepository.compareAndSetStatus(eq(originalProtocol), eq(userId), eq("ATIVO"), eq(0L), eq("ATIVO")))
+                .thenReturn(Optional.empty());
+        when(requestRepository.findStateByProtocolAndUserId(eq(originalProtocol), eq(userId)))
+                .thenReturn(Optional.of(new RequestStateStub("CANCELADO", 1L)));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            requestService.renewAccess(userId, originalProtocol);
+        });
+
+        assertEquals("Request status must be ATIVO", exception.getMessage());
+        verify(requestRepository, never()).save(any());
+        verifyNoInteractions(accessRepository);
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void renewAccess_WhenRetried_ShouldReuseGeneratedProtocol() {
+        String userId = "user1";
+        String originalProtocol = "SOL-20260101-0001";
+        Request originalRequest = buildRenewableRequest(originalProtocol, userId);
+        Access access = buildExpiringAccess(originalProtocol, userId);
+
+        when(requestRepository.findByProtocolAndUserId(eq(originalProtocol), eq(userId))).thenReturn(Optional.of(originalRequest));
+        when(accessService.getAccessesByProtocol(eq(userId), eq(originalProtocol))).thenReturn(Arrays.asList(access));
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), eq(Arrays.asList("module1")))).thenReturn(null);
+        when(requestRepository.nextProtocolSequence()).thenReturn(2L);
+        when(requestRepository.compareAndSetStatus(eq(originalProtocol), eq(userId), eq("ATIVO"), eq(0L), eq("ATIVO")))
+                .thenReturn(Optional.empty());
+        when(requestRepository.findStateByProtocolAndUserId(eq(originalProtocol), eq(userId)))
+                .thenReturn(Optional.of(new RequestStateStub("ATIVO", 1L)));
+        when(requestRepository.compareAndSetStatus(eq(originalProtocol), eq(userId), eq("ATIVO"), eq(1L), eq("ATIVO")))
+                .thenReturn(Optional.of(2L));
+        when(requestRepository.save(any(Request.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Request result = requestService.renewAccess(userId, originalProtocol);
+
+        assertTrue(result.getProtocol().endsWith("-0002"));
+        verify(requestRepository, times(1)).nextProtocolSequence();
+        verify(requestRepository, times(1)).save(any(Request.class));
+    }
+
+    @Test
+    void renewAccess_WhenDeniedAndCancelledConcurrently_ShouldNotRecordRenewal() {
+        String userId = "user1";
+        String originalProtocol = "SOL-20260101-0001";
+        Request originalRequest = buildRenewableRequest(originalProtocol, userId);
+        Access access = buildExpiringAccess(originalProtocol, userId);
+
+        when(requestRepository.findByProtocolAndUserId(eq(originalProtocol), eq(userId))).thenReturn(Optional.of(originalRequest));
+        when(accessService.getAccessesByProtocol(eq(userId), eq(originalProtocol))).thenReturn(Arrays.asList(access));
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(requestRepository.findActiveModuleRows(eq(userId))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), eq(Arrays.asList("module1"))))
+                .thenReturn("Department not allowed");
+        when(requestRepository.nextProtocolSequence()).thenReturn(2L);
+        when(requestRepository.compareAndSetStatus(eq(originalProtocol), eq(userId), eq("ATIVO"), eq(0L), eq("ATIVO")))
+                .thenReturn(Optional.empty());
+        when(requestRepository.findStateByProtocolAndUserId(eq(originalProtocol), eq(userId)))
+                .thenReturn(Optional.of(new RequestStateStub("CANCELADO", 1L)));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> requestService.renewAccess(userId, originalProtocol));
+
+        assertEquals("Request status must be ATIVO", exception.getMessage());
+        verify(requestRepository, never()).save(any());
+        verifyNoInteractions(requestEventRepository, accessRepository, outboxService);
     }
 
     @Test
@@ -542,91 +830,379 @@ class RequestServiceTest {
     }
 
     @Test
-    void searchRequests_WhenNoFilters_ShouldReturnAllRequests() {
+    void renewExpiringAccesses_WhenCallerHasExpiringAccesses_ShouldRenewAllInOneBatch() {
         String userId = "user1";
-        Request request1 = new Request();
-        request1.setProtocol("SOL-20260101-0001");
-        request1.setStatus("ATIVO");
-        request1.setCreatedAt(Instant.now());
-        Request request2 = new Request();
-        request2.setProtocol("SOL-20260101-0002");
-        request2.setStatus("NEGADO");
-        request2.setCreatedAt(Instant.now().minusSeconds(3600));
+        Request firstRequest = buildRenewableRequest("SOL-20260101-0001", userId);
+        Request secondRequest = buildRenewableRequest("SOL-20260101-0002", userId);
+        secondRequest.setModules(new ArrayList<>(Arrays.asList("module2")));
+        Access firstAccess = buildExpiringAccess("SOL-20260101-0001", userId);
+        Access secondAccess = buildExpiringAccess("SOL-20260101-0002", userId);
+        secondAccess.setModuleId("module2");
 
-        when(requestRepository.findByUserId(eq(userId))).thenReturn(Arrays.asList(request1, request2));
-
-        List<Request> result = requestService.searchRequests(userId, null, null, null, null, null);
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(accessRepository.findByUserIdAndStatusAndExpiresAtBefore(eq(userId), eq("ATIVO"), any(Instant.class)))
+                .thenReturn(Arrays.asList(firstAccess, secondAccess));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(eq(Set.of("SOL-20260101-0001", "SOL-20260101-0002")), eq("ATIVO")))
+                .thenReturn(Arrays.asList(firstRequest, secondRequest));
+        when(accessRepository.findActiveModuleRowsByUserIds(eq(Set.of(userId)), eq("ATIVO"))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1", "module2")))).thenReturn(Map.of("module1", module1, "module2", module2));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), anyList())).thenReturn(null);
+        when(requestRepository.nextProtocolSequences(eq(2))).thenReturn(Arrays.asList(10L, 11L));
+        when(requestRepository.compareAndSetVersions(
+                aryEq(new String[]{"SOL-20260101-0001", "SOL-20260101-0002"}), aryEq(new Long[]{0L, 0L}), eq("ATIVO")))
+                .thenReturn(Arrays.asList("SOL-20260101-0001", "SOL-20260101-0002"));
+
+        List<Request> result = requestService.renewExpiringAccesses(userId, null);
 
-        assertNotNull(result);
         assertEquals(2, result.size());
-        verify(requestRepository, times(1)).findByUserId(eq(userId));
+        assertTrue(result.stream().allMatch(request -> "ATIVO".equals(request.getStatus())));
+        assertTrue(result.get(0).getProtocol().endsWith("-0010"));
+        assertTrue(result.get(1).getProtocol().endsWith("-0011"));
+        verify(requestRepository, times(1)).saveAll(eq(result));
+        verify(requestRepository, never()).save(any());
+        verify(accessRepository, times(1)).updateStatusByProtocols(
+                eq(Arrays.asList("SOL-20260101-0001", "SOL-20260101-0002")), eq("ATIVO"), eq("REVOGADO"), any(Instant.class));
+        verify(accessRepository, times(1)).saveAll(argThat((Iterable<Access> accesses) -> {
+            List<Access> grants = new ArrayList<>();
+            accesses.forEach(grants::add);
+            return grants.size() == 2 && grants.stream().allMatch(access -> "ATIVO".equals(access.getStatus()));
+        }));
+        verify(outboxService, times(2)).enqueueAccessEvent(any(), eq("ACCESS_REVOKED"), any(), any(), any(), any());
+        verify(outboxService, times(2)).enqueueAccessEvent(any(), eq("ACCESS_GRANTED"), any(), any(), any(), any());
+        verify(requestEventRepository, times(1)).saveAll(argThat((Iterable<RequestEvent> events) -> eventTypes(events).size() == 10));
     }
 
     @Test
-    void searchRequests_WhenFilteringByStatus_ShouldReturnFilteredRequests() {
+    void renewExpiringAccesses_WhenBusinessRuleFails_ShouldKeepOriginalAccesses() {
         String userId = "user1";
-        Request request1 = new Request();
-        request1.setProtocol("SOL-20260101-0001");
-        request1.setStatus("ATIVO");
-        request1.setCreatedAt(Instant.now());
-        Request request2 = new Request();
-        request2.setProtocol("SOL-20260101-0002");
-        request2.setStatus("NEGADO");
-        request2.setCreatedAt(Instant.now().minusSeconds(3600));
-
-        when(requestRepository.findByUserId(eq(userId))).thenReturn(Arrays.asList(request1, request2));
+        Request originalRequest = buildRenewableRequest("SOL-20260101-0001", userId);
+        Access access = buildExpiringAccess("SOL-20260101-0001", userId);
 
-        List<Request> result = requestService.searchRequests(userId, null, "ATIVO", null, null, null);
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(accessRepository.findByUserIdAndStatusAndExpiresAtBefore(eq(userId), eq("ATIVO"), any(Instant.class)))
+                .thenReturn(Arrays.asList(access));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(eq(Set.of("SOL-20260101-0001")), eq("ATIVO")))
+                .thenReturn(Arrays.asList(originalRequest));
+        when(accessRepository.findActiveModuleRowsByUserIds(eq(Set.of(userId)), eq("ATIVO"))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), anyList()))
+                .thenReturn("Limite de módulos ativos atingido");
+        when(requestRepository.nextProtocolSequences(eq(1))).thenReturn(Arrays.asList(10L));
+        when(requestRepository.compareAndSetVersions(any(), any(), eq("ATIVO"))).thenReturn(Arrays.asList("SOL-20260101-0001"));
+
+        List<Request> result = requestService.renewExpiringAccesses(userId, null);
 
-        assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals("ATIVO", result.get(0).getStatus());
-        verify(requestRepository, times(1)).findByUserId(eq(userId));
+        assertEquals("NEGADO", result.get(0).getStatus());
+        assertEquals("Limite de módulos ativos atingido", result.get(0).getDenialReason());
+        verify(requestRepository, times(1)).saveAll(eq(result));
+        verify(accessRepository, never()).updateStatusByProtocols(any(), any(), any(), any());
+        verify(accessRepository, never()).saveAll(any());
+        verifyNoInteractions(outboxService);
     }
 
     @Test
-    void searchRequests_WhenFilteringBySearch_ShouldReturnFilteredRequests() {
+    void renewExpiringAccesses_WhenModuleDeactivated_ShouldDenyRenewal() {
         String userId = "user1";
-        Request request1 = new Request();
-        request1.setProtocol("SOL-20260101-0001");
-        request1.setStatus("ATIVO");
-        request1.setCreatedAt(Instant.now());
-        Request request2 = new Request();
-        request2.setProtocol("SOL-20260102-0002");
-        request2.setStatus("ATIVO");
-        request2.setCreatedAt(Instant.now().minusSeconds(3600));
+        Request originalRequest = buildRenewableRequest("SOL-20260101-0001", userId);
+        Access access = buildExpiringAccess("SOL-20260101-0001", userId);
+        module1.setActive(false);
 
-        when(requestRepository.findByUserId(eq(userId))).thenReturn(Arrays.asList(request1, request2));
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(accessRepository.findByUserIdAndStatusAndExpiresAtBefore(eq(userId), eq("ATIVO"), any(Instant.class)))
+                .thenReturn(Arrays.asList(access));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(eq(Set.of("SOL-20260101-0001")), eq("ATIVO")))
+                .thenReturn(Arrays.asList(originalRequest));
+        when(accessRepository.findActiveModuleRowsByUserIds(eq(Set.of(userId)), eq("ATIVO"))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(requestRepository.nextProtocolSequences(eq(1))).thenReturn(Arrays.asList(10L));
+        when(requestRepository.compareAndSetVersions(any(), any(), eq("ATIVO"))).thenReturn(Arrays.asList("SOL-20260101-0001"));
+
+        List<Request> result = requestService.renewExpiringAccesses(userId, null);
+
+        assertEquals("NEGADO", result.get(0).getStatus());
+        assertEquals("Module is not active: module1", result.get(0).getDenialReason());
+        verify(businessRuleService, never()).validateBusinessRules(any(RuleEvaluationContext.class), anyList());
+        verify(accessRepository, never()).saveAll(any());
+        verifyNoInteractions(outboxService);
+    }
 
-        List<Request> result = requestService.searchRequests(userId, "20260101", null, null, null, null);
+    @Test
+    void renewExpiringAccesses_WhenDepartmentRequestedByAdmin_ShouldLoadDepartmentUsers() {
+        User colleague = new User();
+        colleague.setId("user2");
+        colleague.setDepartment("RH");
+        Request originalRequest = buildRenewableRequest("SOL-20260101-0001", "user2");
+        Access access = buildExpiringAccess("SOL-20260101-0001", "user2");
+
+        when(userService.requireTiAdministrator("user1", "renew accesses for a department")).thenReturn(user);
+        when(accessRepository.findExpiringByDepartment(eq("RH"), eq("ATIVO"), any(Instant.class))).thenReturn(Arrays.asList(access));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(eq(Set.of("SOL-20260101-0001")), eq("ATIVO")))
+                .thenReturn(Arrays.asList(originalRequest));
+        when(userService.findAllById(eq(Set.of("user2")))).thenReturn(Arrays.asList(colleague));
+        when(accessRepository.findActiveModuleRowsByUserIds(eq(Set.of("user2")), eq("ATIVO"))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(businessRuleService.validateBusinessRules(argThat((RuleEvaluationContext context) -> "RH".equals(context.getDepartment())), anyList()))
+                .thenReturn(null);
+        when(requestRepository.nextProtocolSequences(eq(1))).thenReturn(Arrays.asList(10L));
+        when(requestRepository.compareAndSetVersions(any(), any(), eq("ATIVO"))).thenReturn(Arrays.asList("SOL-20260101-0001"));
+
+        List<Request> result = requestService.renewExpiringAccesses("user1", "RH");
 
-        assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals("SOL-20260101-0001", result.get(0).getProtocol());
-        verify(requestRepository, times(1)).findByUserId(eq(userId));
+        assertEquals("user2", result.get(0).getUserId());
+        assertEquals("RH", result.get(0).getUserDepartment());
+        verify(accessRepository, never()).findByUserIdAndStatusAndExpiresAtBefore(any(), any(), any());
     }
 
     @Test
-    void searchRequests_WhenFilteringByUrgent_ShouldReturnFilteredRequests() {
+    void renewExpiringAccesses_WhenOriginalChangedConcurrently_ShouldSkipIt() {
         String userId = "user1";
-        Request request1 = new Request();
-        request1.setProtocol("SOL-20260101-0001");
-        request1.setStatus("ATIVO");
-        request1.setUrgent(true);
-        request1.setCreatedAt(Instant.now());
-        Request request2 = new Request();
-        request2.setProtocol("SOL-20260101-0002");
-        request2.setStatus("ATIVO");
-        request2.setUrgent(false);
-        request2.setCreatedAt(Instant.now().minusSeconds(3600));
+        Request firstRequest = buildRenewableRequest("SOL-20260101-0001", userId);
+        Request secondRequest = buildRenewableRequest("SOL-20260101-0002", userId);
+        Access firstAccess = buildExpiringAccess("SOL-20260101-0001", userId);
+        Access secondAccess = buildExpiringAccess("SOL-20260101-0002", userId);
 
-        when(requestRepository.findByUserId(eq(userId))).thenReturn(Arrays.asList(request1, request2));
-
-        List<Request> result = requestService.searchRequests(userId, null, null, null, null, true);
+        when(userService.findById(eq(userId))).thenReturn(Optional.of(user));
+        when(accessRepository.findByUserIdAndStatusAndExpiresAtBefore(eq(userId), eq("ATIVO"), any(Instant.class)))
+                .thenReturn(Arrays.asList(firstAccess, secondAccess));
+        when(requestRepository.findWithModulesByProtocolInAndStatus(any(), eq("ATIVO")))
+                .thenReturn(Arrays.asList(firstRequest, secondRequest));
+        when(accessRepository.findActiveModuleRowsByUserIds(eq(Set.of(userId)), eq("ATIVO"))).thenReturn(Collections.emptyList());
+        when(moduleService.getCatalog(eq(Set.of("module1")))).thenReturn(Map.of("module1", module1));
+        when(businessRuleService.validateBusinessRules(any(RuleEvaluationContext.class), anyList())).thenReturn(null);
+        when(requestRepository.nextProtocolSequences(eq(2))).thenReturn(Arrays.asList(10L, 11L));
+        when(requestRepository.compareAndSetVersions(any(), any(), eq("ATIVO"))).thenReturn(Arrays.asList("SOL-20260101-0002"));
+
+        List<Request> result = requestService.renewExpiringAccesses(userId, null);
 
-        assertNotNull(result);
         assertEquals(1, result.size());
-        assertTrue(result.get(0).isUrgent());
-        verify(requestRepository, times(1)).findByUserId(eq(userId));
+        assertTrue(result.get(0).getJustification().endsWith("SOL-20260101-0002"));
+        verify(accessRepository, times(1)).updateStatusByProtocols(eq(Arrays.asList("SOL-20260101-0002")), eq("ATIVO"), eq("REVOGADO"), any(Instant.class));
+        verify(outboxService, never()).enqueueAccessEvent(eq("SOL-20260101-0001"), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void renewExpiringAccesses_WhenDepartmentRequestedByNonAdmin_ShouldThrowException() {
+        when(userService.requireTiAdministrator("user1", "renew accesses for a department"))
+                .thenThrow(new RuntimeException("Only TI administrators can renew accesses for a department"));
+
+        assertThrows(RuntimeException.class, () -> {
+            requestService.renewExpiringAccesses("user1", "RH");
+        });
+
+        verifyNoInteractions(accessRepository);
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void renewExpiringAccesses_WhenNothingExpiring_ShouldReturnEmptyList() {
+        when(userService.findById(eq("user1"))).thenReturn(Optional.of(user));
+        when(accessRepository.findByUserIdAndStatusAndExpiresAtBefore(eq("user1"), eq("ATIVO"), any(Instant.class)))
+                .thenReturn(Collections.emptyList());
+
+        List<Request> result = requestService.renewExpiringAccesses("user1", null);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(requestRepository);
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void searchRequests_WhenNoFilters_ShouldQueryOnlyByUser() {
+        String userId = "user1";
+        Page<RequestSummaryRow> page = new PageImpl<>(Arrays.asList(buildSummaryRow("SOL-20260101-0001")), PageRequest.of(0, 10), 1);
+
+        when(requestReadRepository.search(eq(userId), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(PageRequest.of(0, 10))))
+                .thenReturn(page);
+
+        Page<RequestSummaryRow> result = requestService.searchRequests(userId, null, null, null, null, null, null, 0, 10);
+
+        assertSame(page, result);
+        verifyNoInteractions(requestRepository);
+    }
+
+    @Test
+    void searchRequests_WhenFilteringByStatus_ShouldPassNormalizedStatus() {
+        String userId = "user1";
+
+        when(requestReadRepository.search(eq(userId), eq("ATIVO"), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(PageRequest.of(2, 20))))
+                .thenReturn(Page.empty());
+
+        Page<RequestSummaryRow> result = requestService.searchRequests(userId, null, "ativo", null, null, null, null, 2, 20);
+
+        assertTrue(result.getContent().isEmpty());
+    }
+
+    @Test
+    void searchRequests_WhenFilteringBySearch_ShouldUseRankedQueryWithEscapedLikePattern() {
+        String userId = "user1";
+
+        when(requestReadRepository.searchRanked(eq(userId), isNull(), isNull(), isNull(), isNull(),
+                eq("%100\\%\\_x%"), eq("100%_x"), isNull(), eq(PageRequest.of(0, 10))))
+                .thenReturn(Page.empty());
+
+        requestService.searchRequests(userId, " 100%_X ", null, null, null, null, null, 0, 10);
+
+        verify(requestReadRepository, times(1)).searchRanked(eq(userId), isNull(), isNull(), isNull(), isNull(),
+                eq("%100\\%\\_x%"), eq("100%_x"), isNull(), any());
+        verify(requestReadRepository, never()).search(any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void searchRequests_WhenFilteringByDateRangeAndUrgent_ShouldPassInclusiveDayBoundaries() {
+        String userId = "user1";
+        Instant startAt = Instant.parse("2026-01-01T00:00:00Z");
+        Instant endBefore = Instant.parse("2026-02-01T00:00:00Z");
+
+        when(requestReadRepository.search(eq(userId), isNull(), eq(true), eq(startAt), eq(endBefore), isNull(), isNull(), isNull(), eq(PageRequest.of(0, 10))))
+                .thenReturn(Page.empty());
+
+        Page<RequestSummaryRow> result = requestService.searchRequests(userId, null, null, "2026-01-01", "2026-01-31", true, null, 0, 10);
+
+        assertEquals(0, result.getTotalElements());
+    }
+
+    @Test
+    void searchRequestsAfter_WhenNoCursor_ShouldFetchOneExtraRowToDetectNextPage() {
+        String userId = "user1";
+
+        when(requestReadRepository.searchFirst(eq(userId), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(2)))
+                .thenReturn(Arrays.asList(buildSummaryRow("SOL-20260101-0002"), buildSummaryRow("SOL-20260101-0001")));
+
+        Slice<RequestSummaryRow> result = requestService.searchRequestsAfter(userId, null, null, null, null, null, null, "", 1);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals("SOL-20260101-0002", result.getContent().get(0).protocol());
+        assertTrue(result.hasNext());
+        verify(requestReadRepository, never()).search(any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void searchRequestsAfter_WhenCursorGiven_ShouldSeekPastLastRow() {
+        String userId = "user1";
+        Instant createdAt = Instant.parse("2026-01-01T10:00:00.123456Z");
+        String cursor = new RequestCursor(createdAt, "SOL-20260101-0002").encode();
+
+        when(requestReadRepository.searchAfter(eq(userId), eq("ATIVO"), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(createdAt), eq("SOL-20260101-0002"), isNull(), eq(11)))
+                .thenReturn(Arrays.asList(buildSummaryRow("SOL-20260101-0001")));
+
+        Slice<RequestSummaryRow> result = requestService.searchRequestsAfter(userId, null, "ativo", null, null, null, null, cursor, 10);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.hasNext());
+        verify(requestReadRepository, never()).searchFirst(any(), any(), any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findRequestDetails_ShouldReadProjectionWithoutLoadingEntity() {
+        RequestDetailsRow details = new RequestDetailsRow("SOL-20260101-0001", "user1", "TI", Arrays.asList("module1"),
+                "ATIVO", "Justificativa detalhada", false, Instant.parse("2026-01-01T10:00:00Z"),
+                Instant.parse("2026-06-30T10:00:00Z"), null, Collections.emptyList());
+        when(requestReadRepository.findDetails("SOL-20260101-0001", "user1", null, null)).thenReturn(Optional.of(details));
+
+        RequestDetailsRow result = requestService.findRequestDetails("user1", "SOL-20260101-0001", null, null);
+
+        assertSame(details, result);
+        verifyNoInteractions(requestRepository);
+    }
+
+    @Test
+    void findRequestDetails_WhenFieldsAndHistoryLimitGiven_ShouldPassThemToQuery() {
+        Set<String> fields = Set.of("protocol", "status", "history");
+        when(requestReadRepository.findDetails("SOL-20260101-0001", "user1", fields, 5)).thenReturn(Optional.empty());
+
+        assertNull(requestService.findRequestDetails("user1", "SOL-20260101-0001", fields, 5));
+        verify(requestReadRepository, times(1)).findDetails("SOL-20260101-0001", "user1", fields, 5);
+    }
+
+    @Test
+    void findRequestDetails_WhenNotFound_ShouldReturnNull() {
+        when(requestReadRepository.findDetails("SOL-20260101-0001", "user1", null, null)).thenReturn(Optional.empty());
+
+        assertNull(requestService.findRequestDetails("user1", "SOL-20260101-0001", null, null));
+    }
+
+    @Test
+    void searchRequestsAfter_WhenCursorIsMalformed_ShouldThrowException() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> requestService.searchRequestsAfter("user1", null, null, null, null, null, null, "not-a-cursor", 10));
+
+        assertEquals("Invalid cursor", exception.getMessage());
+        verifyNoInteractions(requestReadRepository);
+    }
+
+    private RequestSummaryRow buildSummaryRow(String protocol) {
+        return new RequestSummaryRow(protocol, Arrays.asList("module1"), Arrays.asList("Module One"), "ATIVO",
+                "Justificativa detalhada", false, Instant.parse("2026-01-01T10:00:00Z"), Instant.parse("2026-06-30T10:00:00Z"), null);
+    }
+
+    private Request buildRenewableRequest(String protocol, String userId) {
+        Request request = new Request();
+        request.setProtocol(protocol);
+        request.setUserId(userId);
+        request.setStatus("ATIVO");
+        request.setModules(new ArrayList<>(Arrays.asList("module1")));
+        request.setUrgent(false);
+        request.setHistory(new ArrayList<>());
+        return request;
+    }
+
+    private Access buildExpiringAccess(String protocol, String userId) {
+        Access access = new Access();
+        access.setUserId(userId);
+        access.setModuleId("module1");
+        access.setStatus("ATIVO");
+        access.setRequestProtocol(protocol);
+        access.setGrantedAt(Instant.now().minusSeconds(150 * 24 * 60 * 60L));
+        access.setExpiresAt(Instant.now().plusSeconds(20 * 24 * 60 * 60L));
+        return access;
+    }
+
+    private List<RequestEventType> eventTypes(Iterable<RequestEvent> events) {
+        List<RequestEventType> types = new ArrayList<>();
+        events.forEach(event -> types.add(event.getEventType()));
+        return types;
+    }
+
+    private static class RequestStateStub implements RequestRepository.RequestState {
+        private final String status;
+        private final long version;
+
+        RequestStateStub(String status, long version) {
+            this.status = status;
+            this.version = version;
+        }
+
+        @Override
+        public String getStatus() {
+            return status;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    private static class ActiveModuleRowStub implements RequestRepository.ActiveModuleRow {
+        private final String source;
+        private final String moduleId;
+
+        ActiveModuleRowStub(String source, String moduleId) {
+            this.source = source;
+            this.moduleId = moduleId;
+        }
+
+        @Override
+        public String getSource() {
+            return source;
+        }
+
+        @Override
+        public String getModuleId() {
+            return moduleId;
+        }
     }
 }
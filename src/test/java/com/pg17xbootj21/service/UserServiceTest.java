@@ -91,4 +91,31 @@ class UserServiceTest {
         assertFalse(result.isPresent());
         verify(userRepository, times(1)).findByEmail("nonexistent@test.com");
     }
+
+    @Test
+    void requireTiAdministrator_WhenUserIsTi_ShouldReturnUser() {
+        when(userRepository.findById("user1")).thenReturn(Optional.of(user1));
+
+        assertSame(user1, userService.requireTiAdministrator("user1", "approve requests"));
+    }
+
+    @Test
+    void requireTiAdministrator_WhenUserIsNotTi_ShouldThrowException() {
+        when(userRepository.findById("user2")).thenReturn(Optional.of(user2));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> userService.requireTiAdministrator("user2", "approve requests"));
+
+        assertEquals("Only TI administrators can approve requests", exception.getMessage());
+    }
+
+    @Test
+    void requireTiAdministrator_WhenUserDoesNotExist_ShouldThrowException() {
+        when(userRepository.findById("nonexistent")).thenReturn(Optional.empty());
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> userService.requireTiAdministrator("nonexistent", "approve requests"));
+
+        assertEquals("User not found", exception.getMessage());
+    }
 }